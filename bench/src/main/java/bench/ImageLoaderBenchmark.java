@@ -0,0 +1,35 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import javax.swing.ImageIcon;
+import org.openjdk.jmh.annotations.*;
+import util.ImageLoader;
+
+/**
+ * Carga de sprites con la caché caliente (caso habitual al pulsar Empezar)
+ * y con la caché vacía (decodificación y escalado completos).
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ImageLoaderBenchmark {
+    @Param({"resources/ball.png", "resources/dino_parachute.png"})
+    String path;
+
+    @Benchmark
+    public ImageIcon cached() {
+        return ImageLoader.load(path, 90, 90);
+    }
+
+    @Benchmark
+    public ImageIcon cold() {
+        ImageLoader.clearCache();
+        return ImageLoader.load(path, 90, 90);
+    }
+}
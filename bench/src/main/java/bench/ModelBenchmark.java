@@ -0,0 +1,76 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import model.FreeFallModel;
+import model.MRUModel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Evaluación escalar y por lotes de los modelos físicos.
+ * Ambas variantes calculan las mismas muestras para poder comparar el costo por muestra.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ModelBenchmark {
+    @Param({"1024", "65536"})
+    int samples;
+
+    private FreeFallModel freeFall;
+    private MRUModel mru;
+    private double[] time;
+    private double[] height;
+    private double[] velocity;
+    private double[] distance;
+
+    @Setup
+    public void setup() {
+        freeFall = new FreeFallModel(50, 2, FreeFallModel.G);
+        mru = new MRUModel(-20, 3.5);
+        time = new double[samples];
+        height = new double[samples];
+        velocity = new double[samples];
+        distance = new double[samples];
+        for (int i = 0; i < samples; i++) {
+            time[i] = i * 0.001;
+        }
+    }
+
+    @Benchmark
+    public void freeFallScalar(Blackhole bh) {
+        for (int i = 0; i < samples; i++) {
+            double t = time[i];
+            height[i] = freeFall.positionAt(t);
+            velocity[i] = freeFall.velocityAt(t);
+            distance[i] = freeFall.distanceTravelled(t);
+        }
+        bh.consume(height);
+    }
+
+    @Benchmark
+    public void freeFallBulk(Blackhole bh) {
+        freeFall.trajectoryAt(time, height, velocity, distance, samples);
+        bh.consume(height);
+    }
+
+    @Benchmark
+    public void mruScalar(Blackhole bh) {
+        for (int i = 0; i < samples; i++) {
+            height[i] = mru.positionAt(time[i]);
+        }
+        bh.consume(height);
+    }
+
+    @Benchmark
+    public void mruBulk(Blackhole bh) {
+        mru.positionsAt(time, height, samples);
+        bh.consume(height);
+    }
+}
@@ -0,0 +1,82 @@
+package bench;
+
+import model.DragFreeFallModel;
+import model.FreeFallModel;
+import model.integration.IntegratorType;
+
+/**
+ * Verificación del modelo con arrastre: con arrastre cero y gravedad constante debe
+ * reproducir la solución analítica de {@link FreeFallModel} con cada integrador.
+ * Los métodos de orden 2 o más integran exactamente una aceleración constante, así que
+ * sólo se les tolera el redondeo; a los de orden 1 se les tolera su error de truncamiento.
+ * <p>
+ * Se ejecuta con {@code ant check-models}; termina con código 1 si algún caso no coincide.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public final class ModelCheck {
+    /** Paso de integración en segundos */
+    private static final double STEP = 0.001;
+
+    /** Casos a comparar: {altura inicial en m, velocidad inicial en m/s} */
+    private static final double[][] CASES = {{100, 0}, {50, 2}, {10, -15}, {2500, 30}};
+
+    private ModelCheck() {
+    }
+
+    public static void main(String[] args) {
+        int failures = 0;
+        for (IntegratorType type : IntegratorType.values()) {
+            for (double[] c : CASES) {
+                failures += check(type, c[0], c[1]);
+            }
+        }
+        System.out.println(failures == 0 ? "Modelo con arrastre cero: OK" : failures + " casos no coinciden");
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    /**
+     * Compara un caso con la solución analítica en el tiempo de impacto y en diez tiempos intermedios.
+     * 
+     * @param type Integrador a verificar
+     * @param h0 Altura inicial en metros
+     * @param v0 Velocidad inicial en m/s
+     * @return 1 si el caso no coincide, 0 si coincide
+     */
+    private static int check(IntegratorType type, double h0, double v0) {
+        FreeFallModel exact = new FreeFallModel(h0, v0, FreeFallModel.G);
+        DragFreeFallModel drag = new DragFreeFallModel(h0, v0, 0, type, STEP);
+        double tolerance = tolerance(type);
+        double tGround = exact.timeToGround();
+
+        double worst = Math.abs(drag.timeToGround() - tGround) * exact.impactVelocity();
+        for (int i = 0; i <= 10; i++) {
+            double t = tGround * i / 10;
+            worst = Math.max(worst, Math.abs(drag.positionAt(t) - exact.positionAt(t)));
+            worst = Math.max(worst, Math.abs(drag.velocityAt(t) - exact.velocityAt(t)) * tGround);
+        }
+
+        boolean ok = worst <= tolerance * Math.max(h0, 1);
+        if (!ok) {
+            System.out.printf("%s h0=%.1f v0=%.1f: error %.3e m%n", type, h0, v0, worst);
+        }
+        return ok ? 0 : 1;
+    }
+
+    /**
+     * Error relativo admitido para un integrador.
+     * 
+     * @param type Integrador
+     * @return Error admitido como fracción de la altura inicial
+     */
+    private static double tolerance(IntegratorType type) {
+        switch (type) {
+            case EULER:
+            case SEMI_IMPLICIT_EULER:
+                return 1e-2;
+            default:
+                return 1e-7;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package bench;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import view.FreeFallView;
+import view.MRUView;
+
+/**
+ * Pintado fuera de pantalla de los paneles de animación en una {@link BufferedImage},
+ * moviendo el sprite en cada invocación como en un frame real.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PaintBenchmark {
+    @Param({"520x420", "1920x1080"})
+    String size;
+
+    private FreeFallView.AnimationPanel freeFallPanel;
+    private MRUView.MRUAnimationPanel mruPanel;
+    private BufferedImage target;
+    private int frame;
+
+    @Setup
+    public void setup() {
+        String[] parts = size.split("x");
+        int width = Integer.parseInt(parts[0]);
+        int height = Integer.parseInt(parts[1]);
+        target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        freeFallPanel = new FreeFallView.AnimationPanel();
+        freeFallPanel.setSize(width, height);
+        mruPanel = new MRUView.MRUAnimationPanel();
+        mruPanel.setSize(width, height);
+    }
+
+    @Benchmark
+    public BufferedImage freeFallFrame() {
+        freeFallPanel.setY(60 + (frame++ % 200));
+        Graphics2D g = target.createGraphics();
+        freeFallPanel.paint(g);
+        g.dispose();
+        return target;
+    }
+
+    @Benchmark
+    public BufferedImage mruFrame() {
+        mruPanel.setX(30 + (frame++ % 400));
+        Graphics2D g = target.createGraphics();
+        mruPanel.paint(g);
+        g.dispose();
+        return target;
+    }
+}
@@ -0,0 +1,64 @@
+package bench;
+
+import engine.TrajectoryPlayback;
+import engine.TrajectoryTable;
+import java.util.concurrent.TimeUnit;
+import model.FreeFallModel;
+import model.MRUModel;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Costo de un tick de simulación: un paso fijo más la instantánea que se entrega
+ * a la vista. Reproduce lo que hacen los controladores en cada tick del reloj: avanzar
+ * una {@link TrajectoryPlayback} sobre la trayectoria precalculada e interpolarla.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class StepBenchmark {
+    private static final double DT = 0.05;
+    private static final double TABLE_STEP = 0.01;
+
+    private TrajectoryTable freeFallTable;
+    private TrajectoryTable mruTable;
+    private TrajectoryPlayback freeFall;
+    private TrajectoryPlayback mru;
+
+    @Setup
+    public void setup() {
+        FreeFallModel freeFallModel = new FreeFallModel(5000, 0, FreeFallModel.G);
+        freeFallTable = new TrajectoryTable(freeFallModel.timeToGround(), TABLE_STEP, 5);
+        freeFallModel.sampleTrajectory(0, freeFallTable.getStep(), freeFallTable.times(), freeFallTable.column(0),
+                freeFallTable.column(3), freeFallTable.column(2), freeFallTable.size());
+        freeFallTable.fillAffine(4, 0, 500, -0.05);
+
+        MRUModel mruModel = new MRUModel(0, 5);
+        mruTable = new TrajectoryTable(1000, TABLE_STEP, 3);
+        mruModel.positionsAt(mruTable.times(), mruTable.column(0), mruTable.size());
+        mruTable.fillAffine(1, 0, 0, 1);
+        mruTable.fillAffine(2, 0, 90, 0.5);
+
+        freeFall = new TrajectoryPlayback(freeFallTable);
+        mru = new TrajectoryPlayback(mruTable);
+    }
+
+    @Benchmark
+    public Object freeFallTick() {
+        if (freeFall.isFinished()) freeFall = new TrajectoryPlayback(freeFallTable);
+        freeFall.step(DT);
+        return freeFall.snapshot();
+    }
+
+    @Benchmark
+    public Object mruTick() {
+        if (mru.isFinished()) mru = new TrajectoryPlayback(mruTable);
+        mru.step(DT);
+        return mru.snapshot();
+    }
+}
@@ -0,0 +1,9 @@
+@echo off
+rem Lanzador del Simulador de Fisica. Usa el cache AOT creado por "ant aot-cache"
+rem si esta junto al JAR; si no existe o no coincide con la JVM, arranca normalmente.
+set "DIR=%~dp0"
+if exist "%DIR%SimuladorFisica.aot" (
+    start "" javaw -XX:AOTCache="%DIR%SimuladorFisica.aot" -jar "%DIR%SimuladorFisica.jar" %*
+) else (
+    start "" javaw -jar "%DIR%SimuladorFisica.jar" %*
+)
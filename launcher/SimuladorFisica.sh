@@ -0,0 +1,8 @@
+#!/bin/sh
+# Lanzador del Simulador de Física. Usa el caché AOT creado por "ant aot-cache"
+# si está junto al JAR; si no existe o no coincide con la JVM, arranca normalmente.
+DIR=$(cd "$(dirname "$0")" && pwd)
+if [ -f "$DIR/SimuladorFisica.aot" ]; then
+    exec java -XX:AOTCache="$DIR/SimuladorFisica.aot" -jar "$DIR/SimuladorFisica.jar" "$@"
+fi
+exec java -jar "$DIR/SimuladorFisica.jar" "$@"
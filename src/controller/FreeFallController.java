@@ -1,8 +1,21 @@
 package controller;
+import engine.ParticleFrame;
+import engine.ParticleSimulation;
+import engine.PlaybackFrame;
+import engine.SimulationClock;
+import engine.TrajectoryPlayback;
+import engine.TrajectoryTable;
+import model.DragFreeFallModel;
+import model.FallModel;
 import model.FreeFallModel;
-import util.ImageLoader;
+import model.ParticleStore;
+import util.FrameMetrics;
 import view.FreeFallView;
 
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
 import javax.swing.*;
 
 /**
@@ -14,17 +27,50 @@ import javax.swing.*;
  * @version 1.0
  */
 public class FreeFallController {
+    /** Paso fijo de la física en segundos de simulación */
+    private static final double SIM_STEP = 0.05;
+    
+    /** Segundos simulados por segundo real (un paso cada 25 ms) */
+    private static final double TIME_SCALE = 2.0;
+    
+    /** Número de saltos del rebote tras el impacto */
+    private static final int BOUNCE_TICKS = 17;
+    
+    /** Duración de cada salto del rebote en segundos reales */
+    private static final double BOUNCE_TICK_SECONDS = 0.020;
+    
+    /** Separación en segundos entre muestras de la trayectoria precalculada */
+    private static final double TABLE_STEP = 0.01;
+    
+    /** Columnas de la trayectoria precalculada */
+    private static final int COL_POSITION = 0, COL_HEIGHT = 1, COL_DISTANCE = 2, COL_VELOCITY = 3, COL_PIXEL = 4;
+    
+    /** Nombres de las columnas que graba la vista, para exportarlas */
+    private static final String[] RECORDED_COLUMNS = {"height", "distanceFallen", "velocity", "timeRemaining", "progress", "spriteY"};
+    
+    /** Paso máximo de integración de la caída con paracaídas en segundos */
+    private static final double DRAG_STEP = 0.005;
+    
+    /** Índice del sprite del dino con paracaídas en el modo de muchos objetos */
+    private static final int SPRITE_DINO = 1;
+    
+    /** Número máximo de objetos que se pueden soltar a la vez */
+    private static final int MAX_BODIES = 100_000;
+
     /** Vista asociada al controlador */
     private final FreeFallView view;
     
-    /** Timer que controla la animación de la simulación */
-    private Timer animationTimer;
+    /** Reloj que ejecuta la física de la simulación en su propio hilo */
+    private SimulationClock<?> clock;
+    
+    /** Modelo físico de la caída: analítico para la pelota, con arrastre para el paracaídas */
+    private FallModel model;
     
-    /** Tiempo actual de la simulación en segundos */
-    private double t;
+    /** Trayectoria precalculada de la corrida actual, para ubicar el paso anterior al interpolar */
+    private TrajectoryTable trajectory;
     
-    /** Modelo físico de caída libre */
-    private FreeFallModel model;
+    /** Cálculo en curso de la trayectoria de la próxima corrida (null si no hay ninguno) */
+    private SwingWorker<TrajectoryTable, Void> preparing;
 
     /** Nivel del suelo en píxeles dentro del panel de animación */
     private double groundLevel;
@@ -43,6 +89,21 @@ public class FreeFallController {
     
     /** Aceleración gravitacional */
     private double acceleration;
+    
+    /** Indica si ya se mostró el impacto de la simulación actual */
+    private boolean impactShown;
+    
+    /** Simulación del modo de muchos objetos (null si no está activo) */
+    private ParticleSimulation particles;
+    
+    /** Instantánea que muestra el panel en el modo de muchos objetos, para devolver su arreglo */
+    private ParticleFrame shownParticles;
+    
+    /** Sufijo del estado en el modo de muchos objetos (" de N en el suelo") */
+    private String landedSuffix;
+    
+    /** Repetición de la última corrida grabada */
+    private final ReplayController replay;
 
     /**
      * Construye un nuevo controlador de caída libre.
@@ -51,6 +112,8 @@ public class FreeFallController {
      */
     public FreeFallController(FreeFallView view) {
         this.view = view;
+        this.replay = new ReplayController(view.getTimeline(), view.getReplayControls(), SIM_STEP, TIME_SCALE,
+                view::showRecordedFrame, RECORDED_COLUMNS);
         setup();
     }
 
@@ -60,7 +123,29 @@ public class FreeFallController {
     private void setup() {
         view.getBtnSimular().addActionListener(e -> startSimulation());
         view.getBtnDetener().addActionListener(e -> stopSimulation());
+        view.getBtnSaltar().addActionListener(e -> skipToNextEvent());
         view.getBtnCalcTimeGround().addActionListener(e -> calcTimeGround());
+        view.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                close();
+            }
+        });
+    }
+
+    /**
+     * Libera la corrida al cerrarse la ventana: detiene los relojes de la simulación y
+     * de la repetición y suelta los objetos del modo de muchos objetos, para que una
+     * ventana cerrada no siga animándose ni reteniendo memoria. También descarta la
+     * grabación y devuelve la vista a su estado inicial, porque la reserva de ventanas
+     * la vuelve a entregar en la próxima apertura.
+     */
+    private void close() {
+        stopSimulation();
+        replay.reset();
+        particles = null;
+        shownParticles = null;
+        view.resetView();
     }
 
     /**
@@ -72,129 +157,366 @@ public class FreeFallController {
         try {
             initialHeight = Double.parseDouble(view.getHeightString());
             initialVelocity = Double.parseDouble(view.getV0());
+            int count = Integer.parseInt(view.getCountString().trim());
             acceleration = FreeFallModel.G;
 
+            if (!Double.isFinite(initialHeight) || !Double.isFinite(initialVelocity)) {
+                JOptionPane.showMessageDialog(view, "La altura y la velocidad deben ser números finitos.", "Datos inválidos", JOptionPane.WARNING_MESSAGE);
+                return;
+            }
             if (initialHeight < 0) {
                 JOptionPane.showMessageDialog(view, "La altura debe ser un valor positivo.", "Datos inválidos", JOptionPane.WARNING_MESSAGE);
                 return;
             }
+            if (count < 1 || count > MAX_BODIES) {
+                JOptionPane.showMessageDialog(view, "La cantidad de objetos debe estar entre 1 y " + MAX_BODIES + ".", "Datos inválidos", JOptionPane.WARNING_MESSAGE);
+                return;
+            }
+            if (count > 1) {
+                startParticles(count);
+                return;
+            }
 
-            model = new FreeFallModel(initialHeight, initialVelocity, acceleration);
+            FallModel fall = createModel(initialHeight, initialVelocity);
 
             // Cambiar imagen según selección del usuario
             if (view.isBallSelected()) {
-                view.getAnimationPanel().setCharacter(ImageLoader.load("resources/ball.png", 90, 90));
+                view.getAnimationPanel().setCharacter(FreeFallView.BALL_FALLING.load());
             } else {
-                view.getAnimationPanel().setCharacter(ImageLoader.load("resources/dino_parachute.png", 110, 110));
+                view.getAnimationPanel().setCharacter(FreeFallView.DINO_FALLING.load());
             }
 
             stopSimulation();
+            replay.reset();
+            view.getAnimationPanel().clearParticles();
+            particles = null;
+            shownParticles = null;
+            computeScale();
+            prepareTrajectory(fall);
 
-            double panelHeight = view.getAnimationPanel().getHeight();
-            if (panelHeight <= 0) {
-                panelHeight = view.getAnimationPanel().getPreferredSize().height;
+        } catch (NumberFormatException ex) {
+            JOptionPane.showMessageDialog(view, "Por favor ingresa valores válidos.", "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Busca el impacto y precalcula la trayectoria fuera del EDT, porque con paracaídas
+     * desde gran altura la integración tarda segundos; al terminar arranca la animación.
+     * Mientras tanto la vista queda en marcha y detener la simulación descarta el cálculo.
+     * 
+     * @param fall Modelo de la caída, que sólo usa el hilo del cálculo hasta que termina
+     */
+    private void prepareTrajectory(FallModel fall) {
+        double ground = groundLevel;
+        double scale = pixelScale;
+        view.setSimulationRunning(true);
+        view.showStatus("Calculando la trayectoria…");
+        preparing = new SwingWorker<>() {
+            @Override
+            protected TrajectoryTable doInBackground() {
+                double time = fall.timeToGround();
+                return time < 0 ? null : buildTrajectory(fall, time, ground, scale);
             }
-            if (panelHeight <= 0) panelHeight = 420;
 
-            groundLevel = panelHeight - 120;
-            double maxHeight = Math.max(initialHeight, 1);
-            pixelScale = (groundLevel - 60) / maxHeight;
+            @Override
+            protected void done() {
+                if (preparing != this) return;
+                preparing = null;
+                try {
+                    startPlayback(fall, get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    view.setSimulationRunning(false);
+                    throw new IllegalStateException("No se pudo calcular la trayectoria.", e.getCause());
+                }
+            }
+        };
+        preparing.execute();
+    }
 
-            t = 0;
-            totalTime = model.timeToGround();
+    /**
+     * Arranca la animación de una trayectoria ya calculada. Si el objeto no llega al
+     * suelo, avisa al usuario en lugar de animar.
+     * 
+     * @param fall Modelo de la caída
+     * @param table Trayectoria precalculada (null si el objeto no toca el suelo)
+     */
+    private void startPlayback(FallModel fall, TrajectoryTable table) {
+        if (table == null) {
+            view.setSimulationRunning(false);
+            JOptionPane.showMessageDialog(view, "El objeto no llega al suelo con estos datos.", "Datos inválidos", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        model = fall;
+        trajectory = table;
+        totalTime = table.getDuration();
+        impactShown = false;
 
-            view.setSimulationRunning(true);
-            view.updateTelemetry(0, initialHeight, 0, initialVelocity, totalTime, 0);
-            view.showStatus("Simulación en progreso…");
+        double initialYpx = groundLevel - (initialHeight * pixelScale);
+        view.getAnimationPanel().setY(initialYpx);
+        view.startRecording(true);
+        view.updateTelemetry(0, initialHeight, 0, initialVelocity, totalTime, 0);
+        view.showStatus("Simulación en progreso…");
 
-            double initialYpx = groundLevel - (initialHeight * pixelScale);
-            view.getAnimationPanel().setY(initialYpx);
+        TrajectoryPlayback playback = new TrajectoryPlayback(trajectory, BOUNCE_TICKS * BOUNCE_TICK_SECONDS * TIME_SCALE);
+        FrameMetrics metrics = view.getAnimationPanel().getMetrics();
+        metrics.reset(SIM_STEP / TIME_SCALE);
+        clock = new SimulationClock<>(playback, SIM_STEP, TIME_SCALE, metrics.timed(this::updateAnimation));
+        clock.start();
+        view.getAnimationPanel().setInterpolation(clock::alpha);
+    }
 
-            animationTimer = new Timer(25, e -> updateAnimation());
-            animationTimer.start();
+    /**
+     * Crea el modelo del objeto seleccionado. La pelota cae en el vacío y usa la
+     * solución analítica; el dino frena con el paracaídas, así que usa el modelo con
+     * arrastre y el método de integración elegido en la vista.
+     * 
+     * @param h0 Altura inicial en metros
+     * @param v0 Velocidad inicial en m/s
+     * @return Modelo de la caída
+     */
+    private FallModel createModel(double h0, double v0) {
+        if (view.isBallSelected()) {
+            return new FreeFallModel(h0, v0, FreeFallModel.G);
+        }
+        return new DragFreeFallModel(h0, v0, DragFreeFallModel.PARACHUTE_DRAG, view.getIntegratorType(), DRAG_STEP);
+    }
 
-        } catch (NumberFormatException ex) {
-            JOptionPane.showMessageDialog(view, "Por favor ingresa valores válidos.", "Error", JOptionPane.ERROR_MESSAGE);
+    /**
+     * Precalcula la trayectoria completa hasta el impacto: valores del modelo y posición
+     * en píxeles, muestreados cada {@link #TABLE_STEP} segundos en un solo lote. Durante
+     * la animación sólo se interpola esta tabla; en el vacío el error de la altura
+     * interpolada es a lo sumo g·TABLE_STEP²/8 (unas décimas de milímetro) y la
+     * velocidad es exacta; con paracaídas la aceleración no supera g, así que la cota
+     * de la altura se mantiene. En caídas muy largas la tabla se limita a
+     * {@link TrajectoryTable#MAX_SAMPLES} muestras y la cota crece con el cuadrado de la
+     * separación usada, aunque sigue siendo ínfima frente a la altura.
+     * 
+     * @param fall Modelo de la caída
+     * @param duration Tiempo hasta el impacto en segundos
+     * @param groundLevel Nivel del suelo en píxeles
+     * @param pixelScale Píxeles por metro
+     * @return Trayectoria precalculada
+     */
+    private static TrajectoryTable buildTrajectory(FallModel fall, double duration, double groundLevel, double pixelScale) {
+        TrajectoryTable table = new TrajectoryTable(duration, TABLE_STEP, 5);
+        double[] position = table.column(COL_POSITION);
+        fall.sampleTrajectory(0, table.getStep(), table.times(), position, table.column(COL_VELOCITY),
+                table.column(COL_DISTANCE), table.size());
+
+        double[] height = table.column(COL_HEIGHT);
+        for (int i = 0; i < height.length; i++) {
+            height[i] = Math.max(position[i], 0);
+        }
+        table.fillAffine(COL_PIXEL, COL_POSITION, groundLevel, -pixelScale);
+        return table;
+    }
+
+    /**
+     * Calcula el nivel del suelo y la escala de metros a píxeles para la altura inicial.
+     */
+    private void computeScale() {
+        double panelHeight = view.getAnimationPanel().getHeight();
+        if (panelHeight <= 0) {
+            panelHeight = view.getAnimationPanel().getPreferredSize().height;
+        }
+        if (panelHeight <= 0) panelHeight = 420;
+
+        groundLevel = panelHeight - 120;
+        double maxHeight = Math.max(initialHeight, 1);
+        pixelScale = (groundLevel - 60) / maxHeight;
+    }
+
+    /**
+     * Suelta varios objetos a la vez para comparar sus caídas. Cada objeto parte de una
+     * altura entre el 25 % y el 100 % de la altura inicial, con una fracción aleatoria de
+     * la velocidad inicial y un sprite al azar; la semilla depende de la cantidad para
+     * que la misma configuración se repita igual. Como en el modo de un objeto, las
+     * pelotas caen en el vacío y los dinos frenan con el paracaídas.
+     * 
+     * @param count Número de objetos
+     */
+    private void startParticles(int count) {
+        stopSimulation();
+        replay.reset();
+        view.startRecording(false);
+        computeScale();
+        model = null;
+
+        ParticleStore store = new ParticleStore(count, acceleration);
+        Random random = new Random(count);
+        for (int i = 0; i < count; i++) {
+            double h = initialHeight * (0.25 + 0.75 * random.nextDouble());
+            double v = initialVelocity * random.nextDouble();
+            int sprite = random.nextInt(2);
+            store.add(h, v, sprite == SPRITE_DINO ? DragFreeFallModel.PARACHUTE_DRAG : 0, sprite);
+        }
+
+        ParticleSimulation simulation = new ParticleSimulation(store);
+        particles = simulation;
+        shownParticles = null;
+        totalTime = simulation.getEndTime();
+        landedSuffix = " de " + count + " en el suelo";
+
+        view.setSimulationRunning(true);
+        updateParticles(simulation.snapshot());
+
+        FrameMetrics metrics = view.getAnimationPanel().getMetrics();
+        metrics.reset(SIM_STEP / TIME_SCALE);
+        clock = new SimulationClock<>(simulation, SIM_STEP, TIME_SCALE, metrics.timed(this::updateParticles));
+        clock.start();
+    }
+
+    /**
+     * Actualiza la vista con la última instantánea del grupo de objetos. La telemetría
+     * sigue al objeto que está más alto.
+     * 
+     * @param frame Estado más reciente de la simulación
+     */
+    private void updateParticles(ParticleFrame frame) {
+        double progress = totalTime > 0 ? Math.min(frame.time() / totalTime, 1) : 1;
+        view.updateTelemetry(frame.time(), frame.highest(), Math.max(initialHeight - frame.highest(), 0),
+                frame.highestVelocity(), frame.timeRemaining(), progress);
+        view.getAnimationPanel().setParticles(frame.heights(), frame.sprites(), groundLevel, pixelScale);
+        particles.recycle(shownParticles);
+        shownParticles = frame;
+
+        if (frame.finished()) {
+            view.setSimulationRunning(false);
+            view.showStatus("Todos los objetos tocaron el suelo.");
+            clock = null;
+        } else {
+            view.showStatusValue("Objetos: ", frame.landed(), 0, landedSuffix);
+        }
+    }
+
+    /**
+     * Avanza la simulación en curso hasta su siguiente evento sin recorrer los pasos
+     * intermedios. El salto se ejecuta en el hilo de simulación.
+     */
+    private void skipToNextEvent() {
+        if (clock != null) {
+            clock.skipToNextEvent();
         }
     }
 
     /**
      * Detiene la simulación de caída libre.
-     * Cancela el timer de animación y actualiza el estado de la vista.
+     * Descarta el cálculo de la trayectoria si aún no terminó, detiene el reloj de
+     * simulación y actualiza el estado de la vista.
      */
     private void stopSimulation() {
-        if (animationTimer != null) {
-            animationTimer.stop();
-            animationTimer = null;
+        if (preparing != null) {
+            preparing.cancel(false);
+            preparing = null;
         }
+        if (clock != null) {
+            clock.stop();
+            clock = null;
+        }
+        view.getAnimationPanel().setInterpolation(null);
         view.setSimulationRunning(false);
+        view.stopRecording();
+        replay.recordingFinished();
     }
 
     /**
-     * Actualiza el estado de la animación en cada frame.
-     * Calcula la nueva posición, velocidad y telemetría, y actualiza la vista.
-     * Si el objeto llega al suelo, detiene la simulación e inicia el efecto de rebote.
+     * Actualiza la vista con el último punto de la trayectoria publicado por el reloj.
+     * Se ejecuta en el EDT; todos los valores salen de la tabla precalculada, incluida la
+     * posición del paso anterior, para que el panel interpole entre ambas. A partir
+     * del impacto muestra los valores del contacto con el suelo y anima el rebote según
+     * el tiempo transcurrido desde él.
+     * 
+     * @param frame Punto más reciente de la reproducción
      */
-    private void updateAnimation() {
+    private void updateAnimation(PlaybackFrame frame) {
         if (model == null) return;
 
-        t += 0.05;
-        double y = model.positionAt(t);
-
-        double height = Math.max(y, 0);
-        double distanceFallen = Math.max(initialHeight - height, 0);
-        double velocity = model.velocityAt(t);
-        double timeRemaining = totalTime < 0 ? -1 : Math.max(totalTime - t, 0);
-        double progress = totalTime > 0 ? Math.min(t / totalTime, 1) : 0;
+        if (frame.ended()) {
+            showImpact(frame);
+            return;
+        }
 
-        view.updateTelemetry(t, height, distanceFallen, velocity, timeRemaining, progress);
-        view.showStatus(String.format("Altura actual: %.2f m", height));
+        double height = frame.value(COL_HEIGHT);
+        view.updateTelemetry(frame.time(), height, frame.value(COL_DISTANCE), frame.value(COL_VELOCITY),
+                totalTime - frame.time(), frame.progress());
+        view.showStatusValue("Altura actual: ", height, " m");
+        view.getAnimationPanel().setY(trajectory.valueAt(COL_PIXEL, frame.time() - SIM_STEP), frame.value(COL_PIXEL));
+    }
 
-        if (y <= 0) {
-            stopSimulation();
-            view.getAnimationPanel().setY(groundLevel - 10);
-            view.getAnimationPanel().repaint();
+    /**
+     * Muestra el impacto y el rebote posterior. La telemetría final se muestra una sola
+     * vez aunque se hayan descartado instantáneas intermedias. El rebote no se interpola.
+     * 
+     * @param frame Punto de la reproducción posterior al impacto
+     */
+    private void showImpact(PlaybackFrame frame) {
+        double bounceSeconds = frame.sinceEnd() / TIME_SCALE;
+        view.getAnimationPanel().setY(groundLevel - 10 + bounceOffset(bounceSeconds));
 
-            view.updateTelemetry(totalTime > 0 ? totalTime : t, 0, initialHeight, model.velocityAt(totalTime > 0 ? totalTime : t), 0, 1);
+        if (!impactShown) {
+            impactShown = true;
+            view.getAnimationPanel().setInterpolation(null);
+            view.setSimulationRunning(false);
+            view.updateTelemetry(totalTime, 0, initialHeight, frame.value(COL_VELOCITY), 0, 1);
             view.showStatus("Impacto completado.");
+        }
 
-            // rebote
-            new Timer(20, new java.awt.event.ActionListener() {
-                int count = 0;
-                boolean up = true;
-                @Override
-                public void actionPerformed(java.awt.event.ActionEvent e) {
-                    if (count++ > 15) ((Timer) e.getSource()).stop();
-                    double offset = up ? -3 : 3;
-                    view.getAnimationPanel().move(offset);
-                    if (count % 3 == 0) up = !up;
-                }
-            }).start();
-
-            return;
+        if (frame.finished()) {
+            clock = null;
+            view.stopRecording();
+            replay.recordingFinished();
         }
+    }
 
-        double yPx = groundLevel - (y * pixelScale);
-        view.getAnimationPanel().setY(yPx);
-        view.getAnimationPanel().repaint();
+    /**
+     * Calcula el desplazamiento del rebote: saltos de 3 px cada 20 ms que cambian
+     * de sentido cada tres saltos, durante {@link #BOUNCE_TICKS} saltos.
+     * 
+     * @param seconds Segundos reales transcurridos desde el impacto
+     * @return Desplazamiento vertical acumulado en píxeles (negativo hacia arriba)
+     */
+    private static double bounceOffset(double seconds) {
+        int ticks = (int) Math.min(BOUNCE_TICKS, Math.floor(seconds / BOUNCE_TICK_SECONDS));
+        double offset = 0;
+        for (int i = 0; i < ticks; i++) {
+            offset += (i / 3) % 2 == 0 ? -3 : 3;
+        }
+        return offset;
     }
 
     /**
      * Calcula y muestra el tiempo necesario para que el objeto toque el suelo.
-     * También muestra la velocidad de impacto.
+     * También muestra la velocidad de impacto. Con paracaídas el cálculo integra la
+     * caída, así que se hace fuera del EDT y el resultado se muestra al terminar.
      */
     private void calcTimeGround() {
         try {
             double y0 = Double.parseDouble(view.getHeightString());
             double v0 = Double.parseDouble(view.getV0());
-            double a = FreeFallModel.G;
-
-            FreeFallModel model = new FreeFallModel(y0, v0, a);
-            double tGround = model.timeToGround();
+            FallModel fall = createModel(y0, v0);
+            view.getBtnCalcTimeGround().setEnabled(false);
+            new SwingWorker<String, Void>() {
+                @Override
+                protected String doInBackground() {
+                    double tGround = fall.timeToGround();
+                    return tGround >= 0 ? String.format("Tiempo hasta el suelo: %.2f s\nVelocidad de impacto: %.2f m/s", tGround, Math.abs(fall.velocityAt(tGround)))
+                                        : "El objeto no toca el suelo.";
+                }
 
-            JOptionPane.showMessageDialog(view,
-                    tGround >= 0 ? String.format("Tiempo hasta el suelo: %.2f s\nVelocidad de impacto: %.2f m/s", tGround, Math.abs(model.velocityAt(tGround)))
-                                 : "El objeto no toca el suelo.");
+                @Override
+                protected void done() {
+                    view.getBtnCalcTimeGround().setEnabled(view.getBtnSimular().isEnabled());
+                    try {
+                        JOptionPane.showMessageDialog(view, get());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (ExecutionException e) {
+                        throw new IllegalStateException("No se pudo calcular el tiempo hasta el suelo.", e.getCause());
+                    }
+                }
+            }.execute();
         } catch (NumberFormatException ex) {
             JOptionPane.showMessageDialog(view, "Por favor ingresa números válidos.", "Error", JOptionPane.ERROR_MESSAGE);
         }
@@ -1,7 +1,18 @@
 package controller;
 
+import engine.PlaybackFrame;
+import engine.SimulationClock;
+import engine.TrafficFrame;
+import engine.TrafficSimulation;
+import engine.TrajectoryPlayback;
+import engine.TrajectoryTable;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.Random;
 import javax.swing.*;
 import model.MRUModel;
+import model.TrafficLanes;
+import util.FrameMetrics;
 import view.MRUView;
 
 /**
@@ -13,18 +24,39 @@ import view.MRUView;
  * @version 1.0
  */
 public class MRUController {
+    /** Paso fijo de la física en segundos de simulación */
+    private static final double SIM_STEP = 0.05;
+    
+    /** Segundos simulados por segundo real (un paso cada 40 ms) */
+    private static final double TIME_SCALE = 1.25;
+    
+    /** Separación en segundos entre muestras de la trayectoria precalculada */
+    private static final double TABLE_STEP = 0.01;
+    
+    /** Columnas de la trayectoria precalculada */
+    private static final int COL_POSITION = 0, COL_DISPLACEMENT = 1, COL_PIXEL = 2;
+    
+    /** Nombres de las columnas que graba la vista, para exportarlas */
+    private static final String[] RECORDED_COLUMNS = {"position", "displacement", "velocity", "finalPosition", "progress", "spriteX"};
+    
+    /** Número máximo de vehículos que se pueden simular a la vez */
+    private static final int MAX_VEHICLES = 100_000;
+    
+    /** Número máximo de carriles en el modo de muchos vehículos */
+    private static final int MAX_LANES = 4;
+
     /** Vista asociada al controlador */
     private MRUView view;
     
-    /** Timer que controla la animación de la simulación */
-    private Timer animationTimer;
-    
-    /** Tiempo actual de la simulación en segundos */
-    private double t;
+    /** Reloj que ejecuta la física de la simulación en su propio hilo */
+    private SimulationClock<?> clock;
     
     /** Modelo físico de MRU */
     private MRUModel model;
     
+    /** Trayectoria precalculada de la corrida actual, para ubicar el paso anterior al interpolar */
+    private TrajectoryTable trajectory;
+    
     /** Escala de conversión de metros a píxeles */
     private double pixelScale;
     
@@ -39,6 +71,18 @@ public class MRUController {
     
     /** Posición final del objeto en metros */
     private double finalPosition;
+    
+    /** Número de carriles del modo de muchos vehículos */
+    private int laneCount;
+    
+    /** Simulación del modo de muchos vehículos (null si no está activo) */
+    private TrafficSimulation traffic;
+    
+    /** Instantánea que muestra el panel en el modo de muchos vehículos, para devolver su arreglo */
+    private TrafficFrame shownTraffic;
+    
+    /** Repetición de la última corrida grabada */
+    private final ReplayController replay;
 
     /**
      * Construye un nuevo controlador de MRU.
@@ -47,6 +91,8 @@ public class MRUController {
      */
     public MRUController(MRUView view) {
         this.view = view;
+        this.replay = new ReplayController(view.getTimeline(), view.getReplayControls(), SIM_STEP, TIME_SCALE,
+                view::showRecordedFrame, RECORDED_COLUMNS);
         setup();
     }
 
@@ -55,8 +101,30 @@ public class MRUController {
      */
     private void setup() {
         view.getBtnRun().addActionListener(e -> startAnimation());
+        view.getBtnSkip().addActionListener(e -> skipToNextEvent());
         view.getBtnTimeToX().addActionListener(e -> onTimeToX());
         view.getBtnCalculateV().addActionListener(e -> onCalculateVelocity());
+        view.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                close();
+            }
+        });
+    }
+
+    /**
+     * Libera la corrida al cerrarse la ventana: detiene los relojes de la simulación y
+     * de la repetición y suelta los vehículos del modo de muchos vehículos, para que una
+     * ventana cerrada no siga animándose ni reteniendo memoria. También descarta la
+     * grabación y devuelve la vista a su estado inicial, porque la reserva de ventanas
+     * la vuelve a entregar en la próxima apertura.
+     */
+    private void close() {
+        stopAnimation();
+        replay.reset();
+        traffic = null;
+        shownTraffic = null;
+        view.resetView();
     }
 
     /**
@@ -69,6 +137,10 @@ public class MRUController {
             x0 = Double.parseDouble(view.getX0());
             totalTime = Double.parseDouble(view.getTime());
 
+            if (!Double.isFinite(x0) || !Double.isFinite(totalTime)) {
+                JOptionPane.showMessageDialog(view, "La posición y el tiempo deben ser números finitos.", "Datos inválidos", JOptionPane.WARNING_MESSAGE);
+                return;
+            }
             if (totalTime <= 0) {
                 JOptionPane.showMessageDialog(view, "El tiempo debe ser mayor a cero.", "Datos inválidos", JOptionPane.WARNING_MESSAGE);
                 return;
@@ -110,10 +182,22 @@ public class MRUController {
             } else {
                 v = Double.parseDouble(vText);
             }
+            if (!Double.isFinite(v) || (xf != null && !Double.isFinite(xf))) {
+                JOptionPane.showMessageDialog(view, "La velocidad y la posición final deben ser números finitos.", "Datos inválidos", JOptionPane.WARNING_MESSAGE);
+                return;
+            }
+
+            int count = Integer.parseInt(view.getCountString().trim());
+            if (count < 1 || count > MAX_VEHICLES) {
+                JOptionPane.showMessageDialog(view, "La cantidad de vehículos debe estar entre 1 y " + MAX_VEHICLES + ".", "Datos inválidos", JOptionPane.WARNING_MESSAGE);
+                return;
+            }
 
             model = new MRUModel(x0, v);
 
             stopAnimation();
+            replay.reset();
+            view.startRecording(false);
 
             // Determinar xEnd para escalar la animación
             double xEnd;
@@ -128,75 +212,188 @@ public class MRUController {
             finalPosition = xEnd;
 
             view.resetPosition();
+            view.getAnimationPanel().clearVehicles();
+            traffic = null;
+            shownTraffic = null;
             view.updateTelemetry(0, model.positionAt(0), 0, v, finalPosition, 0);
             view.setSimulationRunning(true);
             view.showStatus("Simulación en progreso…");
-            
-            double minX = Math.min(x0, xEnd);
-            double maxX = Math.max(x0, xEnd);
-            double range = maxX - minX;
-
-            double panelWidth = view.getPanelWidth();
-            if (panelWidth <= 0) panelWidth = 600;
 
-            double margin = 90;
-            if (range < 1e-3) {
-                pixelScale = 0;
-                baseOffset = panelWidth / 2.0 - 60;
-            } else {
-                double availableWidth = Math.max(panelWidth - margin * 2, 200);
-                pixelScale = availableWidth / range;
-                baseOffset = margin - (minX * pixelScale);
+            if (count > 1) {
+                startTraffic(count, v, xEnd);
+                return;
             }
+            computeScale(Math.min(x0, xEnd), Math.max(x0, xEnd));
+            view.setCharacterX(baseOffset + x0 * pixelScale);
+            view.startRecording(true);
+            view.updateTelemetry(0, x0, 0, v, finalPosition, 0);
 
-            t = 0;
-
-            animationTimer = new Timer(40, e -> update());
-            animationTimer.start();
+            FrameMetrics metrics = view.getAnimationPanel().getMetrics();
+            metrics.reset(SIM_STEP / TIME_SCALE);
+            trajectory = buildTrajectory();
+            clock = new SimulationClock<>(new TrajectoryPlayback(trajectory), SIM_STEP, TIME_SCALE,
+                    metrics.timed(this::update));
+            clock.start();
+            view.getAnimationPanel().setInterpolation(clock::alpha);
         } catch (NumberFormatException ex) {
             JOptionPane.showMessageDialog(view, "Por favor ingresa valores válidos.", "Error", JOptionPane.ERROR_MESSAGE);
         }
     }
 
+    /**
+     * Precalcula la trayectoria completa: posición y desplazamiento del modelo y
+     * posición en píxeles, muestreados cada {@link #TABLE_STEP} segundos en un solo lote
+     * (o más separados en corridas muy largas, ver {@link TrajectoryTable#MAX_SAMPLES}).
+     * Como el movimiento es lineal, la interpolación de la tabla es exacta.
+     * 
+     * @return Trayectoria precalculada
+     */
+    private TrajectoryTable buildTrajectory() {
+        TrajectoryTable table = new TrajectoryTable(totalTime, TABLE_STEP, 3);
+        model.positionsAt(table.times(), table.column(COL_POSITION), table.size());
+        table.fillAffine(COL_DISPLACEMENT, COL_POSITION, -x0, 1);
+        table.fillAffine(COL_PIXEL, COL_POSITION, baseOffset, pixelScale);
+        return table;
+    }
+
+    /**
+     * Calcula la escala y el desplazamiento en píxeles para que el rango de posiciones
+     * indicado quepa en el panel.
+     * 
+     * @param minX Posición mínima a mostrar en metros
+     * @param maxX Posición máxima a mostrar en metros
+     */
+    private void computeScale(double minX, double maxX) {
+        double range = maxX - minX;
+        double panelWidth = view.getPanelWidth();
+        if (panelWidth <= 0) panelWidth = 600;
+
+        double margin = 90;
+        if (range < 1e-3) {
+            pixelScale = 0;
+            baseOffset = panelWidth / 2.0 - 60;
+        } else {
+            double availableWidth = Math.max(panelWidth - margin * 2, 200);
+            pixelScale = availableWidth / range;
+            baseOffset = margin - (minX * pixelScale);
+        }
+    }
+
+    /**
+     * Simula varios vehículos repartidos en carriles. El vehículo 0 usa exactamente los
+     * parámetros ingresados y es el que sigue la telemetría; el resto parte dentro de la
+     * primera mitad del recorrido con una velocidad entre el 50 % y el 150 % de la
+     * ingresada. La semilla depende de la cantidad para que la misma configuración se
+     * repita igual.
+     * 
+     * @param count Número de vehículos
+     * @param v Velocidad ingresada en m/s
+     * @param xEnd Posición final del vehículo de referencia en metros
+     */
+    private void startTraffic(int count, double v, double xEnd) {
+        laneCount = Math.min(count, MAX_LANES);
+        double spread = Math.max(Math.abs(xEnd - x0), 10) / 2;
+        double[] starts = new double[count];
+        double[] velocities = new double[count];
+        int[] lanes = new int[count];
+        Random random = new Random(count);
+
+        starts[0] = x0;
+        velocities[0] = v;
+        double minX = Math.min(x0, xEnd);
+        double maxX = Math.max(x0, xEnd);
+        for (int i = 1; i < count; i++) {
+            starts[i] = x0 + spread * random.nextDouble();
+            velocities[i] = v * (0.5 + random.nextDouble());
+            lanes[i] = i % laneCount;
+            double end = starts[i] + velocities[i] * totalTime;
+            minX = Math.min(minX, Math.min(starts[i], end));
+            maxX = Math.max(maxX, Math.max(starts[i], end));
+        }
+        computeScale(minX, maxX);
+
+        TrafficSimulation simulation = new TrafficSimulation(new TrafficLanes(starts, velocities, lanes, laneCount), totalTime);
+        traffic = simulation;
+        shownTraffic = null;
+        updateTraffic(simulation.snapshot());
+        FrameMetrics metrics = view.getAnimationPanel().getMetrics();
+        metrics.reset(SIM_STEP / TIME_SCALE);
+        clock = new SimulationClock<>(simulation, SIM_STEP, TIME_SCALE, metrics.timed(this::updateTraffic));
+        clock.start();
+    }
+
+    /**
+     * Actualiza la vista con la última instantánea de los vehículos. La telemetría sigue
+     * al vehículo 0.
+     * 
+     * @param frame Estado más reciente de la simulación
+     */
+    private void updateTraffic(TrafficFrame frame) {
+        double x = frame.positions()[0];
+        view.getAnimationPanel().setVehicles(frame.positions(), frame.lanes(), laneCount, baseOffset, pixelScale);
+        traffic.recycle(shownTraffic);
+        shownTraffic = frame;
+        view.updateTelemetry(frame.time(), x, x - x0, model.getVelocity(), finalPosition, frame.progress());
+        view.showStatusValue("Adelantamientos: ", frame.overtakes(), 0, "");
+
+        if (frame.finished()) {
+            stopAnimation();
+            view.showStatusValue("Simulación completada. Adelantamientos: ", frame.overtakes(), 0, "");
+        }
+    }
+
+    /**
+     * Avanza la simulación en curso hasta su siguiente evento sin recorrer los pasos
+     * intermedios. El salto se ejecuta en el hilo de simulación.
+     */
+    private void skipToNextEvent() {
+        if (clock != null) {
+            clock.skipToNextEvent();
+        }
+    }
+
     /**
      * Detiene la animación de MRU.
-     * Cancela el timer de animación y actualiza el estado de la vista.
+     * Detiene el reloj de simulación y actualiza el estado de la vista.
      */
     private void stopAnimation() {
-        if (animationTimer != null) {
-            animationTimer.stop();
-            animationTimer = null;
+        if (clock != null) {
+            clock.stop();
+            clock = null;
         }
+        view.getAnimationPanel().setInterpolation(null);
         view.setSimulationRunning(false);
+        view.stopRecording();
+        replay.recordingFinished();
     }
 
     /**
-     * Actualiza el estado de la animación en cada frame.
-     * Calcula la nueva posición, desplazamiento y telemetría, y actualiza la vista.
-     * Si se alcanza el tiempo total, detiene la simulación.
+     * Actualiza la vista con el último punto de la trayectoria publicado por el reloj.
+     * Se ejecuta en el EDT; todos los valores salen de la tabla precalculada, incluida la
+     * posición del paso anterior, para que el panel interpole entre ambas. Si se
+     * alcanzó el tiempo total, detiene la simulación.
+     * 
+     * @param frame Punto más reciente de la reproducción
      */
-    private void update() {
-        t += 0.05;
-        if (t > totalTime) t = totalTime;
-
-        double x = model.positionAt(t);
-        double displacement = model.displacementAt(t);
+    private void update(PlaybackFrame frame) {
+        double t = frame.time();
+        double x = frame.value(COL_POSITION);
+        double displacement = frame.value(COL_DISPLACEMENT);
 
-        double xPx = baseOffset + x * pixelScale;
+        double xPx = frame.value(COL_PIXEL);
+        double previousPx = trajectory.valueAt(COL_PIXEL, t - SIM_STEP);
         if (Double.isNaN(xPx) || Double.isInfinite(xPx)) {
             xPx = view.getPanelWidth() / 2.0;
+            previousPx = xPx;
         }
 
-        view.setCharacterX(xPx);
-        view.repaintPanel();
+        view.setCharacterX(previousPx, xPx);
 
-        double progress = Math.min(1, Math.max(0, t / totalTime));
-        view.updateTelemetry(t, x, displacement, model.getVelocity(), finalPosition, progress);
-        view.showStatus(String.format("Avance: %.2f m", displacement));
+        view.updateTelemetry(t, x, displacement, model.getVelocity(), finalPosition, frame.progress());
+        view.showStatusValue("Avance: ", displacement, " m");
 
-        if (t >= totalTime) {
+        if (frame.finished()) {
             stopAnimation();
-            view.updateTelemetry(totalTime, model.positionAt(totalTime), model.displacementAt(totalTime), model.getVelocity(), finalPosition, 1);
             view.showStatus("Simulación completada.");
         }
     }
@@ -1,4 +1,13 @@
 package controller;
+import engine.AnimationScheduler;
+import java.awt.Window;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.SwingUtilities;
+import util.AssetWarmup;
+import util.LeakTracker;
+import util.Sprite;
+import util.StartupMetrics;
 import view.FreeFallView;
 import view.MRUView;
 import view.MainView;
@@ -7,6 +16,17 @@ import view.MainView;
  * Controlador principal de la aplicación.
  * Gestiona la navegación entre las diferentes vistas de simulación
  * (Caída Libre y MRU) desde la vista principal.
+ * <p>
+ * Las ventanas de simulación no son modales: cada clic abre una ventana más, en
+ * cascada, para comparar corridas lado a lado. Todas comparten el mismo
+ * {@link AnimationScheduler}, así que abrir ventanas no suma hilos ni temporizadores;
+ * sólo cuestan mientras algo se mueve en ellas.
+ * <p>
+ * Las ventanas de simulación salen de una {@link WindowPool} por tipo: al cerrarse
+ * liberan sus recursos nativos, su controlador detiene los relojes de la corrida y la
+ * ventana vuelve a la reserva para la próxima apertura. Tras mostrar la vista principal,
+ * {@link #warmUp()} precarga los sprites en segundo plano y luego construye las
+ * ventanas en el EDT antes de que el usuario las pida.
  * 
  * @author SimuladorFisica
  * @version 1.0
@@ -15,6 +35,21 @@ public class MainController {
     /** Vista principal de la aplicación */
     private MainView view;
 
+    /** Máximo de ventanas cerradas de cada tipo que se conservan para reutilizar */
+    private static final int POOL_CAPACITY = 2;
+
+    /** Desplazamiento en píxeles entre ventanas abiertas en cascada */
+    private static final int CASCADE_OFFSET = 32;
+
+    /** Número de ventanas de un tipo tras el cual la cascada vuelve a empezar */
+    private static final int CASCADE_LENGTH = 8;
+
+    /** Ventanas de caída libre */
+    private final WindowPool<FreeFallView> freeFallViews;
+
+    /** Ventanas de MRU */
+    private final WindowPool<MRUView> mruViews;
+
     /**
      * Construye un nuevo controlador principal.
      * 
@@ -22,24 +57,75 @@ public class MainController {
      */
     public MainController(MainView view) {
         this.view = view;
+        this.freeFallViews = new WindowPool<>(this::createFreeFallView, POOL_CAPACITY);
+        this.mruViews = new WindowPool<>(this::createMRUView, POOL_CAPACITY);
+        LeakTracker.gauge("animaciones activas", AnimationScheduler.shared()::getActiveCount);
         register();
     }
 
     /**
      * Registra los listeners de los botones de la vista principal.
-     * Cada botón abre su respectiva ventana de simulación.
+     * Cada botón abre una ventana más de su simulación.
      */
     private void register() {
         view.getBtnFreeFall().addActionListener(e -> {
-            FreeFallView ffView = new FreeFallView(view);
-            new FreeFallController(ffView);
-            ffView.setVisible(true);
+            StartupMetrics.begin(FreeFallView.METRICS_NAME);
+            open(freeFallViews);
         });
 
         view.getBtnMRU().addActionListener(e -> {
-            MRUView mruView = new MRUView(view);
-            new MRUController(mruView);
-            mruView.setVisible(true);
+            StartupMetrics.begin(MRUView.METRICS_NAME);
+            open(mruViews);
         });
     }
+
+    /**
+     * Muestra una ventana de la reserva, desplazada en cascada respecto de las demás
+     * ventanas abiertas del mismo tipo.
+     * 
+     * @param pool Reserva de ventanas del tipo a abrir
+     */
+    private void open(WindowPool<? extends Window> pool) {
+        Window window = pool.acquire();
+        int offset = CASCADE_OFFSET * ((pool.getOpenCount() - 1) % CASCADE_LENGTH);
+        window.setLocationRelativeTo(view);
+        window.setLocation(window.getX() + offset, window.getY() + offset);
+        window.setVisible(true);
+    }
+
+    /**
+     * Precarga los sprites en segundo plano y, al terminar, construye las ventanas de
+     * simulación que aún no existan, cada una en su propio evento del EDT para no
+     * bloquear la interfaz. Debe llamarse después de mostrar la vista principal.
+     */
+    public void warmUp() {
+        List<Sprite> sprites = new ArrayList<>(FreeFallView.SPRITES);
+        sprites.addAll(MRUView.SPRITES);
+        AssetWarmup.start(sprites, () -> {
+            freeFallViews.prefill();
+            SwingUtilities.invokeLater(mruViews::prefill);
+        });
+    }
+
+    /**
+     * Construye una ventana de caída libre con su controlador.
+     * 
+     * @return Ventana de caída libre
+     */
+    private FreeFallView createFreeFallView() {
+        FreeFallView freeFallView = new FreeFallView(view);
+        LeakTracker.track(new FreeFallController(freeFallView), "FreeFallController");
+        return freeFallView;
+    }
+
+    /**
+     * Construye una ventana de MRU con su controlador.
+     * 
+     * @return Ventana de MRU
+     */
+    private MRUView createMRUView() {
+        MRUView mruView = new MRUView(view);
+        LeakTracker.track(new MRUController(mruView), "MRUController");
+        return mruView;
+    }
 }
@@ -0,0 +1,201 @@
+package controller;
+
+import engine.PlaybackFrame;
+import engine.SimulationClock;
+import engine.Timeline;
+import engine.TimelinePlayback;
+import export.TimelineExport;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import javax.swing.JFileChooser;
+import javax.swing.JOptionPane;
+import javax.swing.JSlider;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import view.ReplayControls;
+
+/**
+ * Repetición de la última corrida grabada, compartida por los controladores.
+ * Mover la barra muestra al instante el cuadro de ese tiempo; el botón repite la
+ * corrida con un reloj propio a la velocidad elegida, que se puede cambiar en marcha.
+ * Nada de esto vuelve a calcular la física: todo sale de la {@link Timeline}, que
+ * también se puede exportar a CSV o al formato binario por columnas.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+final class ReplayController {
+    /** Grabación a repetir */
+    private final Timeline timeline;
+    
+    /** Controles de la vista */
+    private final ReplayControls controls;
+    
+    /** Paso fijo del reloj de repetición en segundos de simulación */
+    private final double step;
+    
+    /** Segundos de simulación por segundo real a velocidad 1x */
+    private final double baseTimeScale;
+    
+    /** Muestra en la vista un cuadro reproducido */
+    private final Consumer<PlaybackFrame> show;
+    
+    /** Nombres de las columnas de la grabación al exportarla */
+    private final String[] columnNames;
+
+    /** Copia de la última corrida grabada, que sólo se lee (null si no hay grabación) */
+    private Timeline recording;
+    
+    /** Reproducción de la grabación actual (null si no hay grabación) */
+    private TimelinePlayback playback;
+    
+    /** Reloj de la repetición en curso */
+    private SimulationClock<PlaybackFrame> clock;
+    
+    /** Indica que la barra se está moviendo desde el código y no por el usuario */
+    private boolean updatingSlider;
+
+    /**
+     * Construye el controlador de repetición y conecta los controles.
+     * 
+     * @param timeline Grabación de la vista
+     * @param controls Controles de repetición de la vista
+     * @param step Paso fijo del reloj en segundos de simulación
+     * @param baseTimeScale Escala de tiempo usada en la corrida original
+     * @param show Receptor que muestra cada cuadro reproducido (en el EDT)
+     * @param columnNames Nombres de las columnas de la grabación, sin contar el tiempo
+     */
+    ReplayController(Timeline timeline, ReplayControls controls, double step, double baseTimeScale,
+                     Consumer<PlaybackFrame> show, String[] columnNames) {
+        this.timeline = timeline;
+        this.controls = controls;
+        this.step = step;
+        this.baseTimeScale = baseTimeScale;
+        this.show = show;
+        this.columnNames = columnNames;
+
+        controls.getBtnReplay().addActionListener(e -> replay());
+        controls.getBtnExport().addActionListener(e -> export());
+        controls.getSlider().addChangeListener(e -> onSliderMoved());
+        controls.getSpeedSelector().addActionListener(e -> {
+            if (clock != null) clock.setTimeScale(baseTimeScale * controls.getSpeed());
+        });
+    }
+
+    /**
+     * Habilita la repetición si la grabación tiene cuadros. Se llama al terminar o
+     * detener una corrida. La repetición y la exportación usan una copia de la
+     * grabación, porque la vista la vacía al iniciar la corrida siguiente mientras el
+     * reloj de repetición podría estar leyéndola en el hilo del planificador.
+     */
+    void recordingFinished() {
+        stop();
+        recording = timeline.isEmpty() ? null : timeline.copy();
+        playback = recording == null ? null : new TimelinePlayback(recording);
+        if (playback != null) playback.jumpTo(playback.getEndTime());
+        controls.setReplayEnabled(playback != null);
+        moveSlider(1);
+    }
+
+    /**
+     * Detiene la repetición, descarta la grabación y deshabilita los controles. Se llama
+     * al iniciar una corrida nueva y al cerrar la ventana.
+     */
+    void reset() {
+        stop();
+        recording = null;
+        playback = null;
+        controls.setReplayEnabled(false);
+        moveSlider(0);
+    }
+
+    /**
+     * Repite la grabación desde la posición de la barra (o desde el inicio si está al final).
+     */
+    private void replay() {
+        if (playback == null) return;
+        stop();
+        if (playback.isFinished()) {
+            playback.jumpTo(playback.getStartTime());
+        }
+        clock = new SimulationClock<>(playback, step, baseTimeScale * controls.getSpeed(), this::onFrame);
+        clock.start();
+    }
+
+    /**
+     * Pide un archivo y exporta la grabación. La extensión elegida decide el formato.
+     */
+    private void export() {
+        if (playback == null) return;
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Exportar telemetría");
+        FileNameExtensionFilter csv = new FileNameExtensionFilter("CSV (*.csv)", "csv");
+        FileNameExtensionFilter binary = new FileNameExtensionFilter("Binario por columnas (*"
+                + TimelineExport.BINARY_EXTENSION + ")", TimelineExport.BINARY_EXTENSION.substring(1));
+        chooser.addChoosableFileFilter(csv);
+        chooser.addChoosableFileFilter(binary);
+        chooser.setFileFilter(csv);
+        if (chooser.showSaveDialog(controls) != JFileChooser.APPROVE_OPTION) return;
+
+        Path path = chooser.getSelectedFile().toPath();
+        String name = path.getFileName().toString().toLowerCase();
+        if (!name.endsWith(".csv") && !name.endsWith(TimelineExport.BINARY_EXTENSION)) {
+            path = path.resolveSibling(path.getFileName() + (chooser.getFileFilter() == binary
+                    ? TimelineExport.BINARY_EXTENSION : ".csv"));
+        }
+        try {
+            TimelineExport.write(recording, columnNames, path);
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(controls, "No se pudo exportar: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Detiene el reloj de repetición, si hay uno.
+     */
+    void stop() {
+        if (clock != null) {
+            clock.stop();
+            clock = null;
+        }
+    }
+
+    /**
+     * Muestra un cuadro de la repetición y acompaña la barra.
+     * 
+     * @param frame Cuadro reproducido
+     */
+    private void onFrame(PlaybackFrame frame) {
+        show.accept(frame);
+        moveSlider(frame.progress());
+        if (frame.finished()) clock = null;
+    }
+
+    /**
+     * Salta al tiempo que indica la barra. Durante una repetición el salto lo hace el
+     * reloj; si no, se muestra directamente el cuadro interpolado.
+     */
+    private void onSliderMoved() {
+        if (updatingSlider || playback == null) return;
+        JSlider slider = controls.getSlider();
+        double fraction = slider.getValue() / (double) ReplayControls.SLIDER_MAX;
+        double time = playback.getStartTime() + fraction * (playback.getEndTime() - playback.getStartTime());
+        if (clock != null) {
+            clock.seek(time);
+        } else {
+            playback.jumpTo(time);
+            show.accept(playback.snapshot());
+        }
+    }
+
+    /**
+     * Mueve la barra sin disparar un salto.
+     * 
+     * @param fraction Posición de la barra (0.0 a 1.0)
+     */
+    private void moveSlider(double fraction) {
+        updatingSlider = true;
+        controls.getSlider().setValue((int) Math.round(fraction * ReplayControls.SLIDER_MAX));
+        updatingSlider = false;
+    }
+}
@@ -0,0 +1,104 @@
+package controller;
+
+import java.awt.Window;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Supplier;
+import util.LeakTracker;
+
+/**
+ * Reserva de ventanas de simulación de un mismo tipo.
+ * Las ventanas se cierran con {@code dispose()}, que libera sus recursos nativos
+ * (pares, búferes del renderizado activo) y dispara el cierre de su controlador; la
+ * ventana ya cerrada vuelve a la reserva, hasta un máximo, para reutilizarse en la
+ * próxima apertura sin volver a construir sus componentes. Las que no caben quedan
+ * libres para el recolector.
+ * 
+ * @param <W> Tipo de ventana
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+final class WindowPool<W extends Window> {
+    /** Construye una ventana nueva junto con su controlador */
+    private final Supplier<W> factory;
+
+    /** Máximo de ventanas cerradas que se conservan para reutilizar */
+    private final int capacity;
+
+    /** Ventanas cerradas disponibles para reutilizar */
+    private final ArrayDeque<W> idle = new ArrayDeque<>();
+
+    /** Ventanas entregadas y aún no cerradas */
+    private final Set<W> inUse = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Construye una reserva de ventanas.
+     * 
+     * @param factory Construye una ventana nueva junto con su controlador
+     * @param capacity Máximo de ventanas cerradas que se conservan
+     */
+    WindowPool(Supplier<W> factory, int capacity) {
+        this.factory = factory;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Entrega una ventana cerrada de la reserva o construye una nueva.
+     * 
+     * @return Ventana lista para mostrarse
+     */
+    W acquire() {
+        W window = idle.poll();
+        if (window == null) {
+            window = create();
+        }
+        inUse.add(window);
+        return window;
+    }
+
+    /**
+     * Construye una ventana por adelantado si la reserva está vacía y no hay ninguna abierta.
+     */
+    void prefill() {
+        if (idle.isEmpty() && inUse.isEmpty()) {
+            idle.push(create());
+        }
+    }
+
+    /**
+     * Construye una ventana y la devuelve a la reserva cuando se cierra.
+     * 
+     * @return Ventana nueva
+     */
+    private W create() {
+        W window = factory.get();
+        window.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                release(window);
+            }
+        });
+        LeakTracker.track(window, window.getClass().getSimpleName());
+        return window;
+    }
+
+    /**
+     * Devuelve a la reserva una ventana recién cerrada, si cabe.
+     * 
+     * @param window Ventana cerrada
+     */
+    private void release(W window) {
+        if (!inUse.remove(window)) return;
+        if (idle.size() < capacity) {
+            idle.push(window);
+        }
+        LeakTracker.report();
+    }
+
+    int getOpenCount() { return inUse.size(); }
+    int getIdleCount() { return idle.size(); }
+}
@@ -0,0 +1,333 @@
+package engine;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import javax.swing.SwingUtilities;
+
+/**
+ * Fuente de ticks compartida por todas las animaciones de la aplicación: relojes de
+ * simulación, repintados de interpolación y volcados diferidos de telemetría.
+ * <p>
+ * Un único hilo guarda el próximo vencimiento de cada animación, despierta en el más
+ * cercano y avanza sólo las que vencieron. Sin animaciones activas queda detenido sin
+ * plazo, así que una ventana quieta no despierta la CPU. Las animaciones se ejecutan
+ * en ese hilo; las que deben tocar la interfaz se registran con {@link #repeat} o
+ * {@link #schedule}, que las entregan en el EDT con a lo sumo una tarea pendiente.
+ * <p>
+ * Todo lo que las animaciones de un mismo despertar envían al EDT con
+ * {@link #runOnEdt(Runnable)} se entrega en un único evento, así que con varias
+ * ventanas simulando a la vez el EDT recibe un evento por tick y no uno por ventana.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public final class AnimationScheduler {
+    /** Valor de retorno de {@link Animation#tick(long)} para dejar de animar */
+    public static final long DONE = Long.MIN_VALUE;
+
+    /** Planificador compartido por toda la aplicación */
+    private static final AnimationScheduler SHARED = new AnimationScheduler();
+
+    /**
+     * Animación avanzada por el planificador.
+     */
+    @FunctionalInterface
+    public interface Animation {
+        /**
+         * Avanza la animación. Se ejecuta en el hilo del planificador.
+         * 
+         * @param now Instante actual según {@link System#nanoTime()}
+         * @return Instante del próximo tick, o {@link AnimationScheduler#DONE} para quitarla del planificador
+         */
+        long tick(long now);
+    }
+
+    /** Animaciones registradas */
+    private final CopyOnWriteArrayList<Entry> entries = new CopyOnWriteArrayList<>();
+
+    /** Número de veces que despertó el hilo del planificador */
+    private final AtomicLong wakeups = new AtomicLong();
+
+    /** Acciones pendientes de ejecutar en el EDT */
+    private final ConcurrentLinkedQueue<Runnable> edtQueue = new ConcurrentLinkedQueue<>();
+
+    /** Indica si ya hay un evento encolado en el EDT para vaciar {@link #edtQueue} */
+    private final AtomicBoolean edtDrainPending = new AtomicBoolean();
+
+    /** Número de eventos enviados al EDT */
+    private final AtomicLong edtDispatches = new AtomicLong();
+
+    /** Hilo del planificador (null hasta la primera animación) */
+    private volatile Thread thread;
+
+    private AnimationScheduler() {
+    }
+
+    /**
+     * Obtiene el planificador compartido.
+     * 
+     * @return Planificador de la aplicación
+     */
+    public static AnimationScheduler shared() {
+        return SHARED;
+    }
+
+    /**
+     * Registra una animación cuyo primer tick se ejecuta de inmediato.
+     * 
+     * @param animation Animación a registrar
+     */
+    public void add(Animation animation) {
+        addAt(animation, System.nanoTime());
+    }
+
+    /**
+     * Quita una animación. Un tick que ya esté en curso termina normalmente.
+     * 
+     * @param animation Animación a quitar
+     */
+    public void remove(Animation animation) {
+        entries.removeIf(entry -> entry.animation == animation);
+    }
+
+    /**
+     * Adelanta el próximo tick de una animación a este mismo momento, por ejemplo
+     * después de un salto o de un cambio de velocidad.
+     * 
+     * @param animation Animación registrada
+     */
+    public void wake(Animation animation) {
+        for (Entry entry : entries) {
+            if (entry.animation == animation) {
+                entry.woken = true;
+            }
+        }
+        unpark();
+    }
+
+    /**
+     * Ejecuta una acción en el EDT cada cierto intervalo hasta cancelarla. Si el EDT va
+     * atrasado, los ticks que vencen con una entrega pendiente se descartan.
+     * 
+     * @param periodNanos Intervalo entre ejecuciones en nanosegundos (mayor que cero)
+     * @param action Acción a ejecutar en el EDT
+     * @return Tarea registrada
+     * @throws IllegalArgumentException si el intervalo no es positivo
+     */
+    public EdtTask repeat(long periodNanos, Runnable action) {
+        if (periodNanos <= 0) {
+            throw new IllegalArgumentException("El intervalo debe ser positivo.");
+        }
+        EdtTask task = new EdtTask(action, periodNanos);
+        addAt(task, System.nanoTime() + periodNanos);
+        return task;
+    }
+
+    /**
+     * Ejecuta una acción en el EDT una sola vez, pasado un retardo.
+     * 
+     * @param delayNanos Retardo en nanosegundos
+     * @param action Acción a ejecutar en el EDT
+     * @return Tarea registrada
+     */
+    public EdtTask schedule(long delayNanos, Runnable action) {
+        EdtTask task = new EdtTask(action, 0);
+        addAt(task, System.nanoTime() + Math.max(delayNanos, 0));
+        return task;
+    }
+
+    /**
+     * Ejecuta una acción en el EDT. Desde el hilo del planificador las acciones se
+     * acumulan y se entregan todas juntas al terminar el despertar en curso; desde
+     * cualquier otro hilo se envían de inmediato.
+     * 
+     * @param action Acción a ejecutar en el EDT
+     */
+    public void runOnEdt(Runnable action) {
+        edtQueue.add(action);
+        if (Thread.currentThread() != thread) {
+            flushEdt();
+        }
+    }
+
+    /**
+     * Envía al EDT un evento que ejecuta las acciones acumuladas, si no hay otro pendiente.
+     */
+    private void flushEdt() {
+        if (!edtQueue.isEmpty() && edtDrainPending.compareAndSet(false, true)) {
+            edtDispatches.incrementAndGet();
+            SwingUtilities.invokeLater(this::drainEdt);
+        }
+    }
+
+    /**
+     * Ejecuta en el EDT las acciones acumuladas.
+     */
+    private void drainEdt() {
+        edtDrainPending.set(false);
+        Runnable action;
+        while ((action = edtQueue.poll()) != null) {
+            action.run();
+        }
+    }
+
+    /**
+     * Registra una animación con el instante de su primer tick e inicia el hilo si hace falta.
+     * 
+     * @param animation Animación a registrar
+     * @param deadline Instante del primer tick
+     */
+    private void addAt(Animation animation, long deadline) {
+        entries.add(new Entry(animation, deadline));
+        if (thread == null) {
+            startThread();
+        }
+        unpark();
+    }
+
+    /**
+     * Inicia el hilo del planificador una sola vez.
+     */
+    private synchronized void startThread() {
+        if (thread != null) return;
+        Thread t = new Thread(this::runLoop, "animation-scheduler");
+        t.setDaemon(true);
+        thread = t;
+        t.start();
+    }
+
+    /**
+     * Despierta el hilo del planificador para que vuelva a revisar los vencimientos.
+     */
+    private void unpark() {
+        Thread t = thread;
+        if (t != null) LockSupport.unpark(t);
+    }
+
+    /**
+     * Bucle principal: avanza las animaciones vencidas y duerme hasta el vencimiento
+     * más cercano, o sin plazo si no queda ninguna.
+     */
+    private void runLoop() {
+        while (true) {
+            wakeups.incrementAndGet();
+            long now = System.nanoTime();
+            long wait = Long.MAX_VALUE;
+            for (Entry entry : entries) {
+                if (entry.woken || entry.deadline - now <= 0) {
+                    entry.woken = false;
+                    long next = tick(entry, now);
+                    if (next == DONE) {
+                        entries.remove(entry);
+                        continue;
+                    }
+                    entry.deadline = next;
+                }
+                wait = Math.min(wait, entry.deadline - now);
+            }
+            flushEdt();
+
+            if (wait == Long.MAX_VALUE) {
+                LockSupport.park(this);
+            } else {
+                long remaining = now + wait - System.nanoTime();
+                if (remaining > 0) LockSupport.parkNanos(this, remaining);
+            }
+        }
+    }
+
+    /**
+     * Ejecuta el tick de una animación. Si falla, incluso con un {@link Error}, se
+     * informa el error y la animación se quita sin detener el hilo compartido ni
+     * afectar a las demás.
+     * 
+     * @param entry Animación registrada
+     * @param now Instante actual
+     * @return Instante del próximo tick o {@link #DONE}
+     */
+    private long tick(Entry entry, long now) {
+        try {
+            return entry.animation.tick(now);
+        } catch (Throwable e) {
+            Thread current = Thread.currentThread();
+            current.getUncaughtExceptionHandler().uncaughtException(current, e);
+            return DONE;
+        }
+    }
+
+    public int getActiveCount() { return entries.size(); }
+    public long getWakeups() { return wakeups.get(); }
+    public long getEdtDispatches() { return edtDispatches.get(); }
+
+    /**
+     * Animación registrada con su próximo vencimiento.
+     */
+    private static final class Entry {
+        final Animation animation;
+
+        /** Instante del próximo tick, sólo en el hilo del planificador */
+        long deadline;
+
+        /** Indica que se pidió adelantar el próximo tick */
+        volatile boolean woken;
+
+        Entry(Animation animation, long deadline) {
+            this.animation = animation;
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * Acción periódica o diferida que se ejecuta en el EDT.
+     */
+    public final class EdtTask implements Animation {
+        /** Acción a ejecutar en el EDT */
+        private final Runnable action;
+
+        /** Intervalo entre ejecuciones en nanosegundos (0 para una sola vez) */
+        private final long periodNanos;
+
+        /** Indica si ya hay una ejecución encolada en el EDT */
+        private final AtomicBoolean pending = new AtomicBoolean();
+
+        /** Indica si la tarea fue cancelada */
+        private volatile boolean cancelled;
+
+        private EdtTask(Runnable action, long periodNanos) {
+            this.action = action;
+            this.periodNanos = periodNanos;
+        }
+
+        @Override
+        public long tick(long now) {
+            if (cancelled) return DONE;
+            if (pending.compareAndSet(false, true)) {
+                runOnEdt(this::run);
+            }
+            return periodNanos > 0 ? now + periodNanos : DONE;
+        }
+
+        /**
+         * Ejecuta la acción en el EDT si la tarea sigue vigente.
+         */
+        private void run() {
+            pending.set(false);
+            if (!cancelled) {
+                action.run();
+            }
+        }
+
+        /**
+         * Cancela la tarea. Una ejecución ya encolada en el EDT tampoco se ejecuta.
+         */
+        public void cancel() {
+            cancelled = true;
+            remove(this);
+        }
+
+        public boolean isCancelled() { return cancelled; }
+    }
+}
@@ -0,0 +1,27 @@
+package engine;
+
+/**
+ * Ejecución por eventos para el avance rápido de {@link SimulationClock#skipToNextEvent()}.
+ * En lugar de avanzar en pasos fijos, salta de un evento al siguiente.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public final class EventRunner {
+
+    private EventRunner() {
+    }
+
+    /**
+     * Salta al siguiente evento de la simulación.
+     * 
+     * @param simulation Simulación a avanzar
+     * @return true si había un evento pendiente
+     */
+    public static boolean runToNextEvent(Simulation<?> simulation) {
+        double next = simulation.nextEventTime();
+        if (Double.isInfinite(next)) return false;
+        simulation.jumpTo(next);
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+package engine;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Par de arreglos que se alternan entre el hilo de simulación y el EDT para las
+ * instantáneas de muchos cuerpos, de modo que publicar una instantánea no crea un
+ * arreglo nuevo en cada cuadro.
+ * <p>
+ * La simulación toma un arreglo libre con {@link #take()}, lo llena y lo publica dentro
+ * de la instantánea; el EDT lo devuelve con {@link #recycle(double[])} cuando ya mostró
+ * una instantánea más nueva y no vuelve a leerlo. Si el reloj descartó una instantánea
+ * sin entregarla, su arreglo no vuelve y {@link #take()} crea otro en su lugar, así que
+ * sólo se reserva memoria cuando el EDT va atrasado.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+final class FrameBuffers {
+    /** Largo de cada arreglo */
+    private final int length;
+
+    /** Arreglos libres para escribir (null en los lugares vacíos) */
+    private final AtomicReferenceArray<double[]> free = new AtomicReferenceArray<>(2);
+
+    /**
+     * Construye el par de arreglos.
+     * 
+     * @param length Largo de cada arreglo
+     */
+    FrameBuffers(int length) {
+        this.length = length;
+        for (int i = 0; i < free.length(); i++) {
+            free.set(i, new double[length]);
+        }
+    }
+
+    /**
+     * Toma un arreglo libre para escribir una instantánea. Se llama en el hilo de simulación.
+     * 
+     * @return Arreglo que ya no lee el EDT, o uno nuevo si los dos están en uso
+     */
+    double[] take() {
+        for (int i = 0; i < free.length(); i++) {
+            double[] buffer = free.getAndSet(i, null);
+            if (buffer != null) return buffer;
+        }
+        return new double[length];
+    }
+
+    /**
+     * Devuelve un arreglo que el EDT ya no lee. Si no hay lugar libre se descarta.
+     * 
+     * @param buffer Arreglo de una instantánea ya reemplazada
+     */
+    void recycle(double[] buffer) {
+        if (buffer == null || buffer.length != length) return;
+        for (int i = 0; i < free.length(); i++) {
+            if (free.compareAndSet(i, null, buffer)) return;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package engine;
+
+/**
+ * Instantánea de una simulación de muchos cuerpos en caída libre.
+ * Los arreglos no se modifican mientras se muestra la instantánea; el de alturas vuelve a
+ * la simulación con {@link ParticleSimulation#recycle(ParticleFrame)} cuando se reemplaza.
+ * 
+ * @param time Tiempo transcurrido en segundos
+ * @param heights Altura de cada cuerpo en metros
+ * @param sprites Índice del sprite de cada cuerpo
+ * @param highest Altura del cuerpo más alto en metros
+ * @param highestVelocity Velocidad del cuerpo más alto en m/s (positiva hacia abajo)
+ * @param landed Número de cuerpos que ya tocaron el suelo
+ * @param timeRemaining Tiempo hasta que aterrice el último cuerpo en segundos (-1 si no aplica)
+ * @param finished true si todos los cuerpos tocaron el suelo
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public record ParticleFrame(double time, double[] heights, int[] sprites, double highest, double highestVelocity,
+                            int landed, double timeRemaining, boolean finished) {
+    /**
+     * Obtiene el número de cuerpos.
+     * 
+     * @return Cantidad de cuerpos de la instantánea
+     */
+    public int count() {
+        return heights.length;
+    }
+}
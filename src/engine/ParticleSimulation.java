@@ -0,0 +1,116 @@
+package engine;
+
+import java.util.Arrays;
+import model.ParticleStore;
+
+/**
+ * Simulación de muchos cuerpos en caída libre sobre un {@link ParticleStore}.
+ * Cada paso actualiza todos los cuerpos en bloque. Los aterrizajes se tratan como
+ * eventos: sus tiempos se ordenan una sola vez al construir la simulación, así que
+ * el siguiente evento se obtiene sin recorrer los cuerpos.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public class ParticleSimulation implements Simulation<ParticleFrame> {
+    /** Cuerpos simulados */
+    private final ParticleStore store;
+    
+    /** Índice de sprite de cada cuerpo (fijo durante la simulación) */
+    private final int[] sprites;
+    
+    /** Arreglos de alturas que se alternan entre la simulación y el EDT */
+    private final FrameBuffers heightBuffers;
+    
+    /** Tiempos de aterrizaje ordenados de menor a mayor */
+    private final double[] landingTimes;
+    
+    /** Tiempo en que aterriza el último cuerpo (infinito si alguno no aterriza) */
+    private final double endTime;
+    
+    /** Índice del próximo aterrizaje en {@link #landingTimes} */
+    private int nextLanding;
+    
+    /** Tiempo actual de la simulación en segundos */
+    private double t;
+
+    /**
+     * Construye una nueva simulación de muchos cuerpos.
+     * 
+     * @param store Cuerpos ya cargados en su estado inicial
+     */
+    public ParticleSimulation(ParticleStore store) {
+        this.store = store;
+        int n = store.size();
+        sprites = new int[n];
+        landingTimes = new double[n];
+        double end = 0;
+        for (int i = 0; i < n; i++) {
+            sprites[i] = store.getSprite(i);
+            double impact = store.getImpactTime(i);
+            landingTimes[i] = impact < 0 ? Double.POSITIVE_INFINITY : impact;
+            end = Math.max(end, landingTimes[i]);
+        }
+        Arrays.sort(landingTimes);
+        endTime = end;
+        heightBuffers = new FrameBuffers(n);
+    }
+
+    @Override
+    public void step(double dt) {
+        jumpTo(t + dt);
+    }
+
+    @Override
+    public void jumpTo(double time) {
+        t = Math.min(time, endTime);
+        store.advanceTo(t);
+        while (nextLanding < landingTimes.length && landingTimes[nextLanding] <= t) {
+            nextLanding++;
+        }
+    }
+
+    @Override
+    public double nextEventTime() {
+        return nextLanding < landingTimes.length ? landingTimes[nextLanding] : Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return t >= endTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Las alturas se escriben en uno de dos arreglos que se alternan con el EDT; el
+     * receptor debe devolverlo con {@link #recycle(ParticleFrame)} cuando lo reemplace.
+     */
+    @Override
+    public ParticleFrame snapshot() {
+        int n = store.size();
+        double[] heights = heightBuffers.take();
+        store.copyHeights(heights);
+
+        int highest = -1;
+        for (int i = 0; i < n; i++) {
+            if (highest < 0 || heights[i] > heights[highest]) highest = i;
+        }
+        double highestHeight = highest < 0 ? 0 : heights[highest];
+        double highestVelocity = highest < 0 ? 0 : store.getVelocity(highest);
+        double timeRemaining = Double.isInfinite(endTime) ? -1 : Math.max(endTime - t, 0);
+        return new ParticleFrame(t, heights, sprites, highestHeight, highestVelocity, nextLanding, timeRemaining, isFinished());
+    }
+
+    /**
+     * Devuelve el arreglo de alturas de una instantánea que ya no se muestra, para que
+     * la simulación lo reutilice. Se llama en el EDT después de mostrar una más nueva.
+     * 
+     * @param frame Instantánea reemplazada (puede ser null)
+     */
+    public void recycle(ParticleFrame frame) {
+        if (frame != null) heightBuffers.recycle(frame.heights());
+    }
+
+    public ParticleStore getStore() { return store; }
+    public double getEndTime() { return endTime; }
+}
@@ -0,0 +1,34 @@
+package engine;
+
+/**
+ * Instantánea de la reproducción de una {@link TrajectoryTable}.
+ * 
+ * @param time Tiempo de reproducción en segundos (puede superar la duración de la tabla
+ *             durante el tramo final)
+ * @param values Valores interpolados de cada columna en min(time, duración)
+ * @param progress Fracción de la trayectoria reproducida (0.0 a 1.0)
+ * @param sinceEnd Segundos transcurridos desde el final de la trayectoria (0 antes de llegar)
+ * @param finished true si terminó la reproducción, incluido el tramo final
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public record PlaybackFrame(double time, double[] values, double progress, double sinceEnd, boolean finished) {
+    /**
+     * Obtiene el valor de una columna.
+     * 
+     * @param column Índice de la columna
+     * @return Valor interpolado
+     */
+    public double value(int column) {
+        return values[column];
+    }
+
+    /**
+     * Indica si ya se llegó al final de la trayectoria.
+     * 
+     * @return true si el tiempo alcanzó la duración de la tabla
+     */
+    public boolean ended() {
+        return progress >= 1;
+    }
+}
@@ -0,0 +1,50 @@
+package engine;
+
+/**
+ * Simulación que avanza en pasos de tiempo fijos.
+ * Los pasos se ejecutan a través de {@link SimulationClock} en el hilo del
+ * {@link AnimationScheduler} compartido; las instantáneas
+ * que devuelve {@link #snapshot()} deben ser inmutables para poder entregarse
+ * a la interfaz gráfica sin sincronización adicional.
+ * 
+ * @param <S> Tipo de la instantánea de estado
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public interface Simulation<S> {
+    /**
+     * Avanza la simulación un paso de tiempo.
+     * 
+     * @param dt Duración del paso en segundos de simulación
+     */
+    void step(double dt);
+
+    /**
+     * Salta directamente a un tiempo posterior, disparando en orden los eventos
+     * que haya en el camino. Se usa para avanzar rápido sin recorrer pasos fijos.
+     * 
+     * @param time Tiempo destino en segundos de simulación
+     */
+    void jumpTo(double time);
+
+    /**
+     * Obtiene el tiempo del siguiente evento pendiente.
+     * 
+     * @return Tiempo en segundos de simulación, o infinito si no quedan eventos
+     */
+    double nextEventTime();
+
+    /**
+     * Indica si la simulación llegó a su fin.
+     * 
+     * @return true si no deben ejecutarse más pasos
+     */
+    boolean isFinished();
+
+    /**
+     * Crea una instantánea inmutable del estado actual.
+     * 
+     * @return Estado actual de la simulación
+     */
+    S snapshot();
+}
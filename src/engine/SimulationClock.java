@@ -0,0 +1,248 @@
+package engine;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Reloj de simulación que ejecuta la física fuera del EDT, como una animación más del
+ * {@link AnimationScheduler} compartido: todos los relojes abiertos avanzan en el mismo
+ * hilo, que sólo despierta cuando le toca el próximo paso a alguno de ellos.
+ * Mide el tiempo real con {@link System#nanoTime()}, lo acumula y ejecuta tantos
+ * pasos fijos como correspondan, de modo que el tiempo simulado sigue al tiempo real
+ * aunque el repintado se retrase.
+ * <p>
+ * La interfaz gráfica sólo recibe la instantánea más reciente: se publica en una
+ * referencia atómica y se entrega en el EDT con a lo sumo una tarea pendiente,
+ * junto con las de los demás relojes del mismo tick, descartando las intermedias si el
+ * EDT va atrasado.
+ * <p>
+ * Cada instantánea lleva además el tiempo acumulado que quedó sin simular al
+ * publicarla; con él {@link #alpha()} indica en qué fracción del paso siguiente está el
+ * tiempo real, para que la vista dibuje posiciones intermedias entre dos pasos y el
+ * movimiento se vea fluido aunque la física corra a una frecuencia baja.
+ * 
+ * @param <S> Tipo de la instantánea de estado
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public final class SimulationClock<S> implements AnimationScheduler.Animation {
+    /** Máximo de pasos por despertar, para no quedar atrapado recuperando atrasos largos */
+    private static final int MAX_STEPS_PER_WAKE = 8;
+
+    /** Simulación a ejecutar */
+    private final Simulation<S> simulation;
+    
+    /** Paso fijo en segundos de simulación */
+    private final double dt;
+    
+    /** Segundos de simulación por cada segundo real */
+    private volatile double timeScale;
+    
+    /** Receptor de instantáneas, invocado en el EDT */
+    private final Consumer<S> onFrame;
+
+    /** Última instantánea publicada y aún no entregada */
+    private final AtomicReference<Published<S>> latest = new AtomicReference<>();
+    
+    /** Indica si ya hay una entrega encolada en el EDT */
+    private final AtomicBoolean deliveryPending = new AtomicBoolean();
+
+    /** Indica si el reloj fue detenido y no debe entregar más instantáneas */
+    private volatile boolean cancelled;
+    
+    /** Indica si se pidió saltar al siguiente evento */
+    private volatile boolean skipRequested;
+    
+    /** Tiempo al que se pidió saltar (NaN si no hay salto pendiente) */
+    private volatile double seekTarget = Double.NaN;
+    
+    /** Planificador que avanza el reloj */
+    private final AnimationScheduler scheduler = AnimationScheduler.shared();
+
+    /** Instante del tick anterior (0 antes del primero), sólo en el hilo de simulación */
+    private long last;
+
+    /** Tiempo real acumulado sin simular, en segundos de simulación, sólo en el hilo de simulación */
+    private double accumulator;
+
+    /** Instante de publicación de la última instantánea entregada, sólo en el EDT */
+    private long anchorNanos;
+
+    /** Tiempo sin simular al publicar la última instantánea entregada, sólo en el EDT */
+    private double anchorAccumulator;
+
+    /**
+     * Construye un nuevo reloj de simulación.
+     * 
+     * @param simulation Simulación a ejecutar
+     * @param dt Paso fijo en segundos de simulación
+     * @param timeScale Segundos de simulación por cada segundo real
+     * @param onFrame Receptor de instantáneas, invocado en el EDT
+     */
+    public SimulationClock(Simulation<S> simulation, double dt, double timeScale, Consumer<S> onFrame) {
+        this.simulation = simulation;
+        this.dt = dt;
+        this.timeScale = timeScale;
+        this.onFrame = onFrame;
+    }
+
+    /**
+     * Registra el reloj en el planificador de animaciones.
+     */
+    public void start() {
+        scheduler.add(this);
+    }
+
+    /**
+     * Detiene el reloj. Las instantáneas que aún no se hayan entregado se descartan.
+     */
+    public void stop() {
+        cancelled = true;
+        scheduler.remove(this);
+    }
+
+    /**
+     * Pide saltar directamente al siguiente evento de la simulación (avance rápido).
+     * El salto se ejecuta en el hilo de simulación.
+     */
+    public void skipToNextEvent() {
+        skipRequested = true;
+        scheduler.wake(this);
+    }
+
+    /**
+     * Cambia la velocidad de reproducción. Se aplica a partir del siguiente tick.
+     * 
+     * @param timeScale Segundos de simulación por cada segundo real (mayor que cero)
+     * @throws IllegalArgumentException si la escala no es positiva
+     */
+    public void setTimeScale(double timeScale) {
+        if (!(timeScale > 0)) {
+            throw new IllegalArgumentException("La escala de tiempo debe ser positiva.");
+        }
+        this.timeScale = timeScale;
+        scheduler.wake(this);
+    }
+
+    /**
+     * Obtiene la velocidad de reproducción actual.
+     * 
+     * @return Segundos de simulación por cada segundo real
+     */
+    public double getTimeScale() {
+        return timeScale;
+    }
+
+    /**
+     * Calcula la fracción del paso en curso que ya transcurrió en tiempo real desde la
+     * última instantánea entregada: 0 justo al publicarla, 1 cuando corresponde el paso
+     * siguiente. La vista dibuja el estado anterior mezclado con el actual según esta
+     * fracción. Debe llamarse en el EDT.
+     * 
+     * @return Fracción entre 0 y 1
+     */
+    public double alpha() {
+        if (anchorNanos == 0) return 1;
+        double elapsed = anchorAccumulator + (System.nanoTime() - anchorNanos) * 1e-9 * timeScale;
+        return Math.max(0, Math.min(1, elapsed / dt));
+    }
+
+    /**
+     * Pide saltar a un tiempo dado mientras el reloj está corriendo. El salto se
+     * ejecuta en el hilo de simulación con {@link Simulation#jumpTo(double)}.
+     * 
+     * @param time Tiempo destino en segundos de simulación
+     */
+    public void seek(double time) {
+        seekTarget = time;
+        scheduler.wake(this);
+    }
+
+    /**
+     * Acumula el tiempo real transcurrido desde el tick anterior y ejecuta los pasos
+     * fijos que correspondan. Se ejecuta en el hilo del planificador.
+     * 
+     * @param now Instante actual
+     * @return Instante del próximo paso, o {@link AnimationScheduler#DONE} al terminar
+     */
+    @Override
+    public long tick(long now) {
+        if (cancelled) return AnimationScheduler.DONE;
+        double scale = timeScale;
+        if (last != 0) {
+            accumulator += (now - last) * 1e-9 * scale;
+        }
+        last = now;
+
+        double seek = seekTarget;
+        if (!Double.isNaN(seek)) {
+            seekTarget = Double.NaN;
+            simulation.jumpTo(seek);
+            accumulator = 0;
+            publish(simulation.snapshot(), 0);
+        }
+
+        if (skipRequested) {
+            skipRequested = false;
+            if (EventRunner.runToNextEvent(simulation)) {
+                accumulator = 0;
+                publish(simulation.snapshot(), 0);
+            }
+        }
+
+        int steps = 0;
+        while (accumulator >= dt && steps < MAX_STEPS_PER_WAKE && !simulation.isFinished()) {
+            simulation.step(dt);
+            accumulator -= dt;
+            steps++;
+        }
+        if (steps == MAX_STEPS_PER_WAKE) {
+            accumulator = Math.min(accumulator, dt);
+        }
+        if (steps > 0) {
+            publish(simulation.snapshot(), accumulator);
+        }
+        if (simulation.isFinished()) {
+            return AnimationScheduler.DONE;
+        }
+
+        return now + Math.max(0, (long) ((dt - accumulator) / scale * 1e9));
+    }
+
+    /**
+     * Publica una instantánea y encola su entrega en el EDT si no hay otra pendiente.
+     * 
+     * @param state Instantánea a publicar
+     * @param accumulator Tiempo acumulado que quedó sin simular, en segundos de simulación
+     */
+    private void publish(S state, double accumulator) {
+        latest.set(new Published<>(state, System.nanoTime(), accumulator));
+        if (deliveryPending.compareAndSet(false, true)) {
+            scheduler.runOnEdt(this::deliver);
+        }
+    }
+
+    /**
+     * Entrega en el EDT la instantánea más reciente.
+     */
+    private void deliver() {
+        deliveryPending.set(false);
+        Published<S> published = latest.getAndSet(null);
+        if (published != null && !cancelled) {
+            anchorNanos = published.nanos();
+            anchorAccumulator = published.accumulator();
+            onFrame.accept(published.state());
+        }
+    }
+
+    /**
+     * Instantánea publicada junto con el momento y el tiempo sin simular al publicarla.
+     * 
+     * @param state Instantánea
+     * @param nanos Instante de publicación
+     * @param accumulator Tiempo acumulado sin simular, en segundos de simulación
+     */
+    private record Published<S>(S state, long nanos, double accumulator) {
+    }
+}
@@ -0,0 +1,246 @@
+package engine;
+
+/**
+ * Grabación de la telemetría de una corrida en arreglos primitivos.
+ * Cada cuadro es un tiempo más un número fijo de valores; todo el almacenamiento se
+ * reserva al construir la grabación y su tamaño lo limita un tope de memoria
+ * configurable, de modo que grabar no crea objetos por cuadro.
+ * <p>
+ * Los cuadros se guardan en un búfer circular. Cuando se llena hay dos políticas:
+ * {@link Overflow#DOWNSAMPLE} (por omisión) descarta uno de cada dos cuadros y desde
+ * entonces graba la mitad, de modo que una corrida larga se conserva completa con
+ * menos resolución; {@link Overflow#DROP_OLDEST} sobrescribe los cuadros más viejos.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public final class Timeline {
+    /** Tope de memoria por omisión (propiedad del sistema simulador.timeline.maxBytes, 4 MB si no se indica) */
+    public static final long DEFAULT_MAX_BYTES = Long.getLong("simulador.timeline.maxBytes", 4L << 20);
+
+    /**
+     * Qué hacer cuando la grabación se llena.
+     */
+    public enum Overflow {
+        /** Reducir la resolución a la mitad y seguir grabando la corrida completa */
+        DOWNSAMPLE,
+        /** Sobrescribir los cuadros más antiguos */
+        DROP_OLDEST
+    }
+
+    /** Número de valores por cuadro (sin contar el tiempo) */
+    private final int columns;
+    
+    /** Máximo de cuadros que caben en la grabación */
+    private final int capacity;
+    
+    /** Política al llenarse */
+    private final Overflow overflow;
+    
+    /** Tiempo de cada cuadro */
+    private final double[] times;
+    
+    /** Valores de los cuadros, fila por fila */
+    private final double[] values;
+    
+    /** Posición física del cuadro más antiguo */
+    private int head;
+    
+    /** Número de cuadros grabados */
+    private int size;
+    
+    /** Se graba uno de cada stride cuadros recibidos */
+    private int stride = 1;
+    
+    /** Cuadros recibidos desde el último grabado */
+    private int skipped;
+    
+    /** Indica que el último cuadro es provisional y lo reemplaza el siguiente */
+    private boolean provisional;
+
+    /**
+     * Construye una grabación con el tope de memoria por omisión.
+     * 
+     * @param columns Número de valores por cuadro
+     */
+    public Timeline(int columns) {
+        this(columns, DEFAULT_MAX_BYTES, Overflow.DOWNSAMPLE);
+    }
+
+    /**
+     * Construye una grabación vacía.
+     * 
+     * @param columns Número de valores por cuadro
+     * @param maxBytes Memoria máxima a usar en bytes
+     * @param overflow Política al llenarse
+     */
+    public Timeline(int columns, long maxBytes, Overflow overflow) {
+        this.columns = columns;
+        this.capacity = (int) Math.max(2, Math.min(Integer.MAX_VALUE / (columns + 1), maxBytes / (8L * (columns + 1))));
+        this.overflow = overflow;
+        this.times = new double[capacity];
+        this.values = new double[capacity * columns];
+    }
+
+    /**
+     * Construye una copia compacta de otra grabación, con capacidad justa para sus cuadros.
+     * 
+     * @param source Grabación a copiar
+     */
+    private Timeline(Timeline source) {
+        this.columns = source.columns;
+        this.capacity = Math.max(2, source.size);
+        this.overflow = source.overflow;
+        this.times = new double[capacity];
+        this.values = new double[capacity * columns];
+        for (int i = 0; i < source.size; i++) {
+            int from = (source.head + i) % source.capacity;
+            times[i] = source.times[from];
+            System.arraycopy(source.values, from * columns, values, i * columns, columns);
+        }
+        this.size = source.size;
+        this.stride = source.stride;
+    }
+
+    /**
+     * Copia los cuadros grabados en una grabación nueva e independiente. La vista sigue
+     * grabando (y vaciando) la original en el EDT, así que la repetición, que se lee en
+     * el hilo del planificador, trabaja sobre una copia que nadie modifica.
+     * 
+     * @return Copia de los cuadros actuales
+     */
+    public Timeline copy() {
+        return new Timeline(this);
+    }
+
+    /**
+     * Descarta todos los cuadros y vuelve a la resolución completa.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+        stride = 1;
+        skipped = 0;
+        provisional = false;
+    }
+
+    /**
+     * Graba un cuadro. Los cuadros con un tiempo anterior al último grabado se ignoran,
+     * para que la grabación quede ordenada por tiempo. Tras reducir la resolución, los
+     * cuadros intermedios ocupan provisionalmente la última posición hasta que llega el
+     * siguiente, así el último cuadro recibido (por ejemplo, el impacto) siempre queda.
+     * 
+     * @param time Tiempo del cuadro en segundos
+     * @param row Valores del cuadro (al menos {@link #columnCount()} posiciones; se copian)
+     */
+    public void record(double time, double[] row) {
+        if (size > 0 && time < timeAt(size - 1)) return;
+        boolean keep = ++skipped >= stride;
+        if (keep) skipped = 0;
+
+        if (!provisional) {
+            if (size == capacity) {
+                if (overflow == Overflow.DOWNSAMPLE) {
+                    downsample();
+                } else {
+                    head = (head + 1) % capacity;
+                    size--;
+                }
+            }
+            size++;
+        }
+        int slot = (head + size - 1) % capacity;
+        times[slot] = time;
+        System.arraycopy(row, 0, values, slot * columns, columns);
+        provisional = !keep;
+    }
+
+    /**
+     * Se queda con uno de cada dos cuadros (conservando el primero) y duplica el paso
+     * de grabación. Los cuadros quedan compactados al inicio del búfer.
+     */
+    private void downsample() {
+        int kept = 0;
+        for (int i = 0; i < size; i += 2) {
+            int from = (head + i) % capacity;
+            times[kept] = times[from];
+            System.arraycopy(values, from * columns, values, kept * columns, columns);
+            kept++;
+        }
+        head = 0;
+        size = kept;
+        stride *= 2;
+    }
+
+    /**
+     * Obtiene el tiempo de un cuadro.
+     * 
+     * @param index Índice lógico del cuadro (0 es el más antiguo)
+     * @return Tiempo en segundos
+     */
+    public double timeAt(int index) {
+        return times[(head + index) % capacity];
+    }
+
+    /**
+     * Obtiene un valor de un cuadro.
+     * 
+     * @param index Índice lógico del cuadro
+     * @param column Columna
+     * @return Valor grabado
+     */
+    public double valueAt(int index, int column) {
+        return values[((head + index) % capacity) * columns + column];
+    }
+
+    /**
+     * Busca el último cuadro cuyo tiempo no supera el indicado (búsqueda binaria).
+     * 
+     * @param time Tiempo en segundos
+     * @return Índice lógico del cuadro, o 0 si el tiempo es anterior al primero
+     */
+    public int indexAt(double time) {
+        int lo = 0;
+        int hi = size - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (timeAt(mid) <= time) lo = mid;
+            else hi = mid - 1;
+        }
+        return lo;
+    }
+
+    /**
+     * Interpola linealmente todos los valores en un tiempo dado.
+     * Los tiempos fuera de la grabación se limitan al primer o al último cuadro.
+     * 
+     * @param time Tiempo en segundos
+     * @param out Arreglo de salida con al menos {@link #columnCount()} posiciones
+     * @throws IllegalStateException si la grabación está vacía
+     */
+    public void interpolate(double time, double[] out) {
+        if (size == 0) {
+            throw new IllegalStateException("La grabación está vacía.");
+        }
+        int i = indexAt(time);
+        int a = ((head + i) % capacity) * columns;
+        if (i == size - 1 || time <= timeAt(i)) {
+            System.arraycopy(values, a, out, 0, columns);
+            return;
+        }
+        int b = ((head + i + 1) % capacity) * columns;
+        double t0 = timeAt(i);
+        double f = (time - t0) / (timeAt(i + 1) - t0);
+        for (int k = 0; k < columns; k++) {
+            out[k] = values[a + k] + (values[b + k] - values[a + k]) * f;
+        }
+    }
+
+    public int size() { return size; }
+    public int capacity() { return capacity; }
+    public int columnCount() { return columns; }
+    public int getStride() { return stride; }
+    public boolean isEmpty() { return size == 0; }
+    public double getStartTime() { return size == 0 ? 0 : timeAt(0); }
+    public double getEndTime() { return size == 0 ? 0 : timeAt(size - 1); }
+}
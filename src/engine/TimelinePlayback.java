@@ -0,0 +1,66 @@
+package engine;
+
+/**
+ * Simulación que reproduce una {@link Timeline} grabada. Cada paso interpola la
+ * grabación, por lo que se puede repetir a cualquier velocidad y saltar a cualquier
+ * tiempo sin volver a calcular la corrida.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public class TimelinePlayback implements Simulation<PlaybackFrame> {
+    /** Grabación a reproducir */
+    private final Timeline timeline;
+    
+    /** Tiempo del primer y del último cuadro */
+    private final double start, end;
+    
+    /** Tiempo actual de reproducción en segundos */
+    private double t;
+
+    /**
+     * Construye la reproducción de una grabación, situada en su primer cuadro.
+     * La grabación no debe modificarse mientras se reproduce: como los pasos se leen en
+     * el hilo del planificador, se le pasa una {@link Timeline#copy()} y no la grabación
+     * en curso de la vista.
+     * 
+     * @param timeline Grabación no vacía que nadie más modifica
+     */
+    public TimelinePlayback(Timeline timeline) {
+        this.timeline = timeline;
+        this.start = timeline.getStartTime();
+        this.end = timeline.getEndTime();
+        this.t = start;
+    }
+
+    @Override
+    public void step(double dt) {
+        jumpTo(t + dt);
+    }
+
+    @Override
+    public void jumpTo(double time) {
+        t = Math.max(start, Math.min(time, end));
+    }
+
+    @Override
+    public double nextEventTime() {
+        return t < end ? end : Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return t >= end;
+    }
+
+    @Override
+    public PlaybackFrame snapshot() {
+        double[] values = new double[timeline.columnCount()];
+        timeline.interpolate(t, values);
+        double progress = end > start ? (t - start) / (end - start) : 1;
+        return new PlaybackFrame(t, values, progress, 0, isFinished());
+    }
+
+    public double getStartTime() { return start; }
+    public double getEndTime() { return end; }
+}
@@ -0,0 +1,19 @@
+package engine;
+
+/**
+ * Instantánea de una simulación de muchos vehículos en MRU.
+ * Los arreglos no se modifican mientras se muestra la instantánea; el de posiciones vuelve
+ * a la simulación con {@link TrafficSimulation#recycle(TrafficFrame)} cuando se reemplaza.
+ * 
+ * @param time Tiempo transcurrido en segundos
+ * @param positions Posición de cada vehículo en metros
+ * @param lanes Carril de cada vehículo
+ * @param overtakes Adelantamientos ocurridos desde el inicio
+ * @param progress Progreso de la simulación (0.0 a 1.0)
+ * @param finished true si se alcanzó el tiempo total
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public record TrafficFrame(double time, double[] positions, int[] lanes, long overtakes,
+                           double progress, boolean finished) {
+}
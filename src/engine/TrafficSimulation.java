@@ -0,0 +1,110 @@
+package engine;
+
+import model.TrafficLanes;
+
+/**
+ * Simulación de muchos vehículos en MRU repartidos en carriles.
+ * Los adelantamientos de {@link TrafficLanes} son los eventos de la simulación,
+ * de modo que {@link EventRunner} puede saltar de uno al siguiente.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public class TrafficSimulation implements Simulation<TrafficFrame> {
+    /** Vehículos simulados */
+    private final TrafficLanes traffic;
+    
+    /** Carril de cada vehículo (fijo durante la simulación) */
+    private final int[] lanes;
+    
+    /** Arreglos de posiciones que se alternan entre la simulación y el EDT */
+    private final FrameBuffers positionBuffers;
+    
+    /** Duración total de la simulación en segundos */
+    private final double totalTime;
+    
+    /** Receptor de adelantamientos (puede ser null) */
+    private TrafficLanes.OvertakeListener overtakeListener;
+    
+    /** Tiempo actual de la simulación en segundos */
+    private double t;
+
+    /**
+     * Construye una nueva simulación de tráfico.
+     * 
+     * @param traffic Vehículos en el tiempo cero
+     * @param totalTime Duración total de la simulación en segundos
+     */
+    public TrafficSimulation(TrafficLanes traffic, double totalTime) {
+        this.traffic = traffic;
+        this.totalTime = totalTime;
+        lanes = new int[traffic.size()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = traffic.getLane(i);
+        }
+        positionBuffers = new FrameBuffers(lanes.length);
+    }
+
+    /**
+     * Registra un receptor que se invoca con cada adelantamiento en orden cronológico.
+     * Se ejecuta en el hilo de la simulación.
+     * 
+     * @param listener Receptor de adelantamientos (null para quitarlo)
+     */
+    public void setOvertakeListener(TrafficLanes.OvertakeListener listener) {
+        this.overtakeListener = listener;
+    }
+
+    @Override
+    public void step(double dt) {
+        jumpTo(t + dt);
+    }
+
+    @Override
+    public void jumpTo(double time) {
+        t = Math.min(time, totalTime);
+        traffic.advanceTo(t, overtakeListener);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Puede devolver el tiempo de un cruce que ya no ocurrirá porque los vehículos dejaron
+     * de ser vecinos; en ese caso el salto no produce adelantamientos.
+     */
+    @Override
+    public double nextEventTime() {
+        double next = traffic.nextCrossingTime();
+        return next <= totalTime ? next : (t < totalTime ? totalTime : Double.POSITIVE_INFINITY);
+    }
+
+    @Override
+    public boolean isFinished() {
+        return t >= totalTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Las posiciones se escriben en uno de dos arreglos que se alternan con el EDT; el
+     * receptor debe devolverlo con {@link #recycle(TrafficFrame)} cuando lo reemplace.
+     */
+    @Override
+    public TrafficFrame snapshot() {
+        double[] positions = positionBuffers.take();
+        traffic.copyPositions(positions);
+        double progress = totalTime > 0 ? Math.min(t / totalTime, 1) : 1;
+        return new TrafficFrame(t, positions, lanes, traffic.getOvertakes(), progress, isFinished());
+    }
+
+    /**
+     * Devuelve el arreglo de posiciones de una instantánea que ya no se muestra, para
+     * que la simulación lo reutilice. Se llama en el EDT después de mostrar una más nueva.
+     * 
+     * @param frame Instantánea reemplazada (puede ser null)
+     */
+    public void recycle(TrafficFrame frame) {
+        if (frame != null) positionBuffers.recycle(frame.positions());
+    }
+
+    public TrafficLanes getTraffic() { return traffic; }
+    public double getTotalTime() { return totalTime; }
+}
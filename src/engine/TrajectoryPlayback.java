@@ -0,0 +1,84 @@
+package engine;
+
+/**
+ * Simulación que reproduce una {@link TrajectoryTable} ya calculada.
+ * Cada paso sólo interpola la tabla, por lo que se puede avanzar, retroceder o
+ * reproducir a cualquier velocidad sin evaluar el modelo físico.
+ * <p>
+ * Opcionalmente la reproducción sigue corriendo un tramo final después de la
+ * trayectoria (por ejemplo, el rebote tras el impacto). El final de la trayectoria
+ * y el final del tramo son los eventos de la simulación.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public class TrajectoryPlayback implements Simulation<PlaybackFrame> {
+    /** Trayectoria precalculada */
+    private final TrajectoryTable table;
+    
+    /** Tiempo de reproducción en que termina la simulación */
+    private final double endTime;
+    
+    /** Tiempo actual de reproducción en segundos */
+    private double t;
+
+    /**
+     * Construye la reproducción de una trayectoria sin tramo final.
+     * 
+     * @param table Trayectoria precalculada
+     */
+    public TrajectoryPlayback(TrajectoryTable table) {
+        this(table, 0);
+    }
+
+    /**
+     * Construye la reproducción de una trayectoria.
+     * 
+     * @param table Trayectoria precalculada
+     * @param tail Segundos que sigue corriendo la reproducción al terminar la trayectoria
+     */
+    public TrajectoryPlayback(TrajectoryTable table, double tail) {
+        this.table = table;
+        this.endTime = table.getDuration() + Math.max(tail, 0);
+    }
+
+    @Override
+    public void step(double dt) {
+        jumpTo(t + dt);
+    }
+
+    /**
+     * {@inheritDoc}
+     * A diferencia de las simulaciones físicas, también admite tiempos anteriores
+     * al actual (retroceder).
+     */
+    @Override
+    public void jumpTo(double time) {
+        t = Math.max(0, Math.min(time, endTime));
+    }
+
+    @Override
+    public double nextEventTime() {
+        double duration = table.getDuration();
+        if (t < duration) return duration;
+        return t < endTime ? endTime : Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return t >= endTime;
+    }
+
+    @Override
+    public PlaybackFrame snapshot() {
+        double duration = table.getDuration();
+        double[] values = new double[table.columnCount()];
+        table.lookup(t, values);
+        double progress = duration > 0 ? Math.min(t / duration, 1) : 1;
+        return new PlaybackFrame(t, values, progress, Math.max(t - duration, 0), isFinished());
+    }
+
+    public TrajectoryTable getTable() { return table; }
+    public double getEndTime() { return endTime; }
+    public double getTime() { return t; }
+}
@@ -0,0 +1,149 @@
+package engine;
+
+/**
+ * Tabla precalculada de una trayectoria completa en una malla uniforme de tiempos.
+ * Cada columna guarda un valor por muestra (por ejemplo la altura del modelo o la
+ * posición en píxeles ya convertida), en arreglos primitivos contiguos.
+ * <p>
+ * Como la malla es uniforme, encontrar la muestra de un tiempo es una división y
+ * no una búsqueda; los valores intermedios se interpolan linealmente. Así la
+ * reproducción, el salto a un tiempo y la repetición no vuelven a evaluar la física.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public final class TrajectoryTable {
+    /**
+     * Número máximo de muestras. Una trayectoria muy larga se muestrea con una separación
+     * mayor que la pedida para no reservar más de unos pocos megabytes por columna.
+     */
+    public static final int MAX_SAMPLES = 100_000;
+
+    /** Duración de la trayectoria en segundos */
+    private final double duration;
+    
+    /** Separación entre muestras en segundos */
+    private final double dt;
+    
+    /** Número de muestras (la última cae en la duración o justo después) */
+    private final int count;
+    
+    /** Tiempo de cada muestra en segundos */
+    private final double[] time;
+    
+    /** Valores de cada columna por muestra */
+    private final double[][] columns;
+
+    /**
+     * Construye una tabla vacía que cubre [0, duration] con la separación indicada.
+     * Si con esa separación harían falta más de {@link #MAX_SAMPLES} muestras, la
+     * separación se agranda hasta que quepan; la separación usada se consulta con
+     * {@link #getStep()}. Las columnas se llenan con {@link #column(int)}.
+     * 
+     * @param duration Duración de la trayectoria en segundos
+     * @param dt Separación mínima entre muestras en segundos
+     * @param columnCount Número de columnas
+     * @throws IllegalArgumentException si la duración es negativa o no es finita, o el paso no es positivo
+     */
+    public TrajectoryTable(double duration, double dt, int columnCount) {
+        if (!(duration >= 0) || duration == Double.POSITIVE_INFINITY || !(dt > 0)) {
+            throw new IllegalArgumentException("Duración o paso de muestreo inválidos.");
+        }
+        this.duration = duration;
+        this.dt = Math.max(dt, duration / (MAX_SAMPLES - 2));
+        this.count = (int) Math.ceil(duration / this.dt) + 1;
+        this.time = new double[count];
+        for (int i = 0; i < count; i++) {
+            time[i] = i * this.dt;
+        }
+        this.columns = new double[columnCount][count];
+    }
+
+    /**
+     * Obtiene el arreglo de una columna para llenarlo o leerlo directamente.
+     * 
+     * @param index Índice de la columna
+     * @return Arreglo con un valor por muestra
+     */
+    public double[] column(int index) {
+        return columns[index];
+    }
+
+    /**
+     * Llena una columna como transformación afín de otra: dst = offset + scale * src.
+     * Sirve para precalcular la posición en píxeles a partir del valor del modelo.
+     * 
+     * @param target Columna de destino
+     * @param source Columna de origen
+     * @param offset Término independiente
+     * @param scale Factor de escala
+     */
+    public void fillAffine(int target, int source, double offset, double scale) {
+        double[] src = columns[source];
+        double[] dst = columns[target];
+        for (int i = 0; i < count; i++) {
+            dst[i] = offset + scale * src[i];
+        }
+    }
+
+    /**
+     * Interpola el valor de una columna en un tiempo dado. Los tiempos fuera de
+     * [0, duración] se limitan a los extremos.
+     * 
+     * @param index Índice de la columna
+     * @param t Tiempo en segundos
+     * @return Valor interpolado
+     */
+    public double valueAt(int index, double t) {
+        double[] c = columns[index];
+        double x = clamp(t) / dt;
+        int i = Math.min((int) x, count - 2);
+        if (i < 0) return c[0];
+        double f = x - i;
+        return c[i] + (c[i + 1] - c[i]) * f;
+    }
+
+    /**
+     * Interpola todas las columnas en un tiempo dado, calculando el índice una sola vez.
+     * 
+     * @param t Tiempo en segundos
+     * @param out Arreglo de salida con al menos {@link #columnCount()} posiciones
+     */
+    public void lookup(double t, double[] out) {
+        double x = clamp(t) / dt;
+        int i = Math.min((int) x, count - 2);
+        if (i < 0) {
+            for (int k = 0; k < columns.length; k++) out[k] = columns[k][0];
+            return;
+        }
+        double f = x - i;
+        for (int k = 0; k < columns.length; k++) {
+            double[] c = columns[k];
+            out[k] = c[i] + (c[i + 1] - c[i]) * f;
+        }
+    }
+
+    /**
+     * Limita un tiempo al intervalo [0, duración].
+     * 
+     * @param t Tiempo en segundos
+     * @return Tiempo limitado
+     */
+    private double clamp(double t) {
+        return t <= 0 ? 0 : Math.min(t, duration);
+    }
+
+    /**
+     * Obtiene el arreglo con el tiempo de cada muestra.
+     * 
+     * @return Tiempos en segundos (i * dt)
+     */
+    public double[] times() {
+        return time;
+    }
+
+    public double getDuration() { return duration; }
+    public double getStep() { return dt; }
+    public int size() { return count; }
+    public int columnCount() { return columns.length; }
+}
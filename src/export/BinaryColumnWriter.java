@@ -0,0 +1,182 @@
+package export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import sweep.SweepChunk;
+import sweep.SweepSink;
+
+/**
+ * Escribe una tabla de números en un archivo binario por columnas, little-endian.
+ * <p>
+ * Formato del archivo:
+ * <pre>
+ *   8 bytes   firma "SFCOL1\0\0"
+ *   int32     número de columnas C
+ *   int64     número de filas N
+ *   C veces   int16 longitud + nombre de la columna en UTF-8
+ *   relleno   ceros hasta un múltiplo de 8
+ *   C veces   N valores float64 de la columna
+ * </pre>
+ * Como el número de filas se conoce de antemano, cada columna tiene una posición fija
+ * en el archivo y cada bloque se escribe directamente en su lugar con escrituras
+ * posicionales de {@link FileChannel}. Así los bloques de un barrido pueden llegar
+ * desde varios hilos y en cualquier orden sin reordenarlos en memoria; cada hilo usa
+ * su propio búfer directo, compartido por todos los escritores, por lo que la memoria
+ * usada no depende del tamaño de la tabla ni del número de archivos escritos.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public class BinaryColumnWriter implements SweepSink, Closeable {
+    /** Firma al inicio del archivo */
+    public static final byte[] MAGIC = {'S', 'F', 'C', 'O', 'L', '1', 0, 0};
+
+    /** Valores por escritura (512 KB por búfer) */
+    private static final int BUFFER_VALUES = 1 << 16;
+
+    /** Canal del archivo de salida */
+    private final FileChannel channel;
+    
+    /** Número de filas de la tabla */
+    private final long rows;
+    
+    /** Número de columnas de la tabla */
+    private final int columnCount;
+    
+    /** Posición en el archivo del primer valor de la primera columna */
+    private final long dataOffset;
+    
+    /**
+     * Búfer directo de cada hilo escritor. Es estático para que lo compartan todos los
+     * escritores: así cada hilo reserva uno solo en toda la aplicación en lugar de uno
+     * por escritor que seguiría vivo después de cerrarlo.
+     */
+    private static final ThreadLocal<ByteBuffer> BUFFERS = ThreadLocal.withInitial(
+            () -> ByteBuffer.allocateDirect(BUFFER_VALUES * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN));
+
+    /**
+     * Crea el archivo (o lo reemplaza) y escribe la cabecera. Si falla la escritura de
+     * la cabecera, el archivo se cierra antes de propagar el error.
+     * 
+     * @param path Archivo de salida
+     * @param columnNames Nombres de las columnas
+     * @param rows Número total de filas que se van a escribir
+     * @throws IOException si no se puede crear el archivo
+     */
+    public BinaryColumnWriter(Path path, String[] columnNames, long rows) throws IOException {
+        this.rows = rows;
+        this.columnCount = columnNames.length;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            dataOffset = writeHeader(columnNames);
+        } catch (IOException | RuntimeException e) {
+            try {
+                channel.close();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Escribe la cabecera al inicio del archivo.
+     * 
+     * @param columnNames Nombres de las columnas
+     * @return Posición en el archivo del primer valor de la primera columna
+     * @throws IOException si falla la escritura
+     */
+    private long writeHeader(String[] columnNames) throws IOException {
+        int headerSize = MAGIC.length + Integer.BYTES + Long.BYTES;
+        byte[][] names = new byte[columnCount][];
+        for (int c = 0; c < columnCount; c++) {
+            names[c] = columnNames[c].getBytes(StandardCharsets.UTF_8);
+            headerSize += Short.BYTES + names[c].length;
+        }
+        long dataOffset = (headerSize + 7) & ~7L;
+
+        ByteBuffer header = ByteBuffer.allocate((int) dataOffset).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(MAGIC).putInt(columnCount).putLong(rows);
+        for (byte[] name : names) {
+            header.putShort((short) name.length).put(name);
+        }
+        header.position(header.limit()).flip();
+        writeFully(header, 0);
+        return dataOffset;
+    }
+
+    /**
+     * Escribe un tramo de una columna en su posición del archivo. Es seguro llamarlo
+     * desde varios hilos a la vez para tramos distintos.
+     * 
+     * @param column Índice de la columna
+     * @param firstRow Fila de la tabla donde empieza el tramo
+     * @param values Valores a escribir
+     * @param count Número de valores del tramo
+     * @throws IOException si falla la escritura
+     * @throws IndexOutOfBoundsException si el tramo sale de la tabla
+     */
+    public void write(int column, long firstRow, double[] values, int count) throws IOException {
+        if (column < 0 || column >= columnCount || firstRow < 0 || firstRow + count > rows) {
+            throw new IndexOutOfBoundsException("Tramo fuera de la tabla: columna " + column + ", fila " + firstRow);
+        }
+        ByteBuffer buffer = BUFFERS.get();
+        long position = dataOffset + (column * rows + firstRow) * Double.BYTES;
+        for (int from = 0; from < count; from += BUFFER_VALUES) {
+            int n = Math.min(BUFFER_VALUES, count - from);
+            buffer.clear();
+            buffer.asDoubleBuffer().put(values, from, n);
+            buffer.limit(n * Double.BYTES);
+            writeFully(buffer, position);
+            position += (long) n * Double.BYTES;
+        }
+    }
+
+    /**
+     * Escribe todas las columnas de un bloque de barrido en su lugar del archivo.
+     * 
+     * @param chunk Bloque calculado
+     * @throws UncheckedIOException si falla la escritura
+     */
+    @Override
+    public void accept(SweepChunk chunk) {
+        try {
+            for (int c = 0; c < columnCount; c++) {
+                write(c, chunk.firstIndex(), chunk.column(c), chunk.size());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Escribe un búfer completo en una posición del archivo.
+     * 
+     * @param buffer Datos a escribir
+     * @param position Posición en el archivo
+     * @throws IOException si falla la escritura
+     */
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * Cierra el archivo.
+     * 
+     * @throws IOException si falla el cierre
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
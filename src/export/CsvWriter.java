@@ -0,0 +1,200 @@
+package export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import sweep.SweepChunk;
+import sweep.SweepSink;
+
+/**
+ * Escribe una tabla de números como CSV (separado por comas, punto decimal).
+ * <p>
+ * Las filas se formatean en un búfer de cada hilo y luego se copian de una vez a un
+ * búfer directo compartido, que se vuelca al canal de salida (normalmente un
+ * {@link FileChannel}) sólo cuando se llena.
+ * Los bloques de un barrido pueden llegar desde varios hilos a la vez; se escriben en
+ * el orden en que llegan, y como cada fila incluye los parámetros del caso sigue
+ * siendo autodescriptiva.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public class CsvWriter implements SweepSink, Closeable {
+    /** Tamaño del búfer de escritura (1 MB) */
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /** Canal de salida */
+    private final WritableByteChannel channel;
+    
+    /** Búfer directo compartido, protegido por su propio monitor */
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    
+    /**
+     * Texto de las filas en formación, uno por hilo. Es estático para que lo compartan
+     * todos los escritores y no quede uno por escritor en cada hilo que alguna vez escribió.
+     */
+    private static final ThreadLocal<StringBuilder> TEXT = ThreadLocal.withInitial(() -> new StringBuilder(8192));
+    
+    /** Bytes de las filas en formación, uno por hilo y compartidos como {@link #TEXT} */
+    private static final ThreadLocal<byte[][]> BYTES = ThreadLocal.withInitial(() -> new byte[][] {new byte[8192]});
+
+    /**
+     * Crea el archivo (o lo reemplaza) y escribe la fila de encabezados.
+     * 
+     * @param path Archivo de salida
+     * @param columnNames Nombres de las columnas
+     * @throws IOException si no se puede crear el archivo
+     */
+    public CsvWriter(Path path, String[] columnNames) throws IOException {
+        this(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING), columnNames);
+    }
+
+    /**
+     * Escribe la fila de encabezados, codificada en UTF-8, en un canal cualquiera (por
+     * ejemplo, la salida estándar). El canal se cierra junto con el escritor, o aquí
+     * mismo si falla la escritura de los encabezados.
+     * 
+     * @param channel Canal de salida
+     * @param columnNames Nombres de las columnas
+     * @throws IOException si falla la escritura
+     */
+    public CsvWriter(WritableByteChannel channel, String[] columnNames) throws IOException {
+        this.channel = channel;
+        try {
+            StringBuilder header = new StringBuilder();
+            for (int c = 0; c < columnNames.length; c++) {
+                if (c > 0) header.append(',');
+                header.append(columnNames[c]);
+            }
+            header.append('\n');
+            byte[] data = header.toString().getBytes(StandardCharsets.UTF_8);
+            put(data, data.length);
+        } catch (IOException | RuntimeException e) {
+            try {
+                channel.close();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Escribe una fila.
+     * 
+     * @param values Valores de la fila
+     * @param count Número de valores a escribir
+     * @throws IOException si falla la escritura
+     */
+    public void writeRow(double[] values, int count) throws IOException {
+        StringBuilder row = TEXT.get();
+        row.setLength(0);
+        for (int c = 0; c < count; c++) {
+            if (c > 0) row.append(',');
+            row.append(values[c]);
+        }
+        row.append('\n');
+        append(row);
+    }
+
+    /**
+     * Escribe todas las filas de un bloque de barrido.
+     * 
+     * @param chunk Bloque calculado
+     * @throws UncheckedIOException si falla la escritura
+     */
+    @Override
+    public void accept(SweepChunk chunk) {
+        StringBuilder rows = TEXT.get();
+        rows.setLength(0);
+        int columns = chunk.columnCount();
+        try {
+            for (int r = 0; r < chunk.size(); r++) {
+                for (int c = 0; c < columns; c++) {
+                    if (c > 0) rows.append(',');
+                    rows.append(chunk.get(r, c));
+                }
+                rows.append('\n');
+                if (rows.length() >= BUFFER_SIZE / 2) {
+                    append(rows);
+                    rows.setLength(0);
+                }
+            }
+            append(rows);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Convierte el texto a bytes fuera del monitor y lo copia de una vez al búfer
+     * compartido, volcándolo al archivo cada vez que se llena.
+     * 
+     * @param chars Texto a escribir (sólo caracteres ASCII, como los números formateados)
+     * @throws IOException si falla la escritura
+     */
+    private void append(CharSequence chars) throws IOException {
+        int length = chars.length();
+        byte[][] holder = BYTES.get();
+        if (holder[0].length < length) {
+            holder[0] = new byte[Math.max(length, holder[0].length * 2)];
+        }
+        byte[] data = holder[0];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) chars.charAt(i);
+        }
+        put(data, length);
+    }
+
+    /**
+     * Copia bytes ya codificados al búfer compartido, volcándolo al archivo cada vez que se llena.
+     * 
+     * @param data Bytes a escribir
+     * @param length Número de bytes a escribir
+     * @throws IOException si falla la escritura
+     */
+    private void put(byte[] data, int length) throws IOException {
+        synchronized (buffer) {
+            int offset = 0;
+            while (offset < length) {
+                if (!buffer.hasRemaining()) flush();
+                int n = Math.min(buffer.remaining(), length - offset);
+                buffer.put(data, offset, n);
+                offset += n;
+            }
+        }
+    }
+
+    /**
+     * Vuelca el contenido del búfer al archivo. Se llama con el monitor del búfer tomado.
+     * 
+     * @throws IOException si falla la escritura
+     */
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Vuelca lo pendiente y cierra el canal.
+     * 
+     * @throws IOException si falla la escritura o el cierre
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (buffer) {
+            flush();
+        }
+        channel.close();
+    }
+}
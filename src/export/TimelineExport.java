@@ -0,0 +1,91 @@
+package export;
+
+import engine.Timeline;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Exporta la grabación de una corrida a CSV o al formato binario por columnas,
+ * según la extensión del archivo.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public final class TimelineExport {
+    /** Extensión del formato binario por columnas */
+    public static final String BINARY_EXTENSION = ".sfcol";
+
+    /** Filas que se copian por bloque al formato binario */
+    private static final int BLOCK_ROWS = 4096;
+
+    private TimelineExport() {
+    }
+
+    /**
+     * Escribe la grabación completa. La primera columna es el tiempo.
+     * 
+     * @param timeline Grabación a exportar (no debe modificarse mientras tanto)
+     * @param valueNames Nombres de las columnas de valores, sin contar el tiempo
+     * @param path Archivo de salida; si termina en {@value #BINARY_EXTENSION} se usa el
+     *             formato binario y si no, CSV
+     * @throws IOException si falla la escritura
+     */
+    public static void write(Timeline timeline, String[] valueNames, Path path) throws IOException {
+        int columns = timeline.columnCount();
+        String[] names = new String[columns + 1];
+        names[0] = "time";
+        System.arraycopy(valueNames, 0, names, 1, columns);
+
+        if (path.getFileName().toString().toLowerCase().endsWith(BINARY_EXTENSION)) {
+            writeBinary(timeline, names, path);
+        } else {
+            writeCsv(timeline, names, path);
+        }
+    }
+
+    /**
+     * Escribe la grabación como CSV, fila por fila.
+     * 
+     * @param timeline Grabación a exportar
+     * @param names Nombres de todas las columnas
+     * @param path Archivo de salida
+     * @throws IOException si falla la escritura
+     */
+    private static void writeCsv(Timeline timeline, String[] names, Path path) throws IOException {
+        int columns = timeline.columnCount();
+        double[] row = new double[columns + 1];
+        try (CsvWriter out = new CsvWriter(path, names)) {
+            for (int i = 0; i < timeline.size(); i++) {
+                row[0] = timeline.timeAt(i);
+                for (int c = 0; c < columns; c++) {
+                    row[c + 1] = timeline.valueAt(i, c);
+                }
+                out.writeRow(row, row.length);
+            }
+        }
+    }
+
+    /**
+     * Escribe la grabación en el formato binario, columna por columna en bloques.
+     * 
+     * @param timeline Grabación a exportar
+     * @param names Nombres de todas las columnas
+     * @param path Archivo de salida
+     * @throws IOException si falla la escritura
+     */
+    private static void writeBinary(Timeline timeline, String[] names, Path path) throws IOException {
+        int rows = timeline.size();
+        double[] block = new double[Math.min(BLOCK_ROWS, Math.max(rows, 1))];
+        try (BinaryColumnWriter out = new BinaryColumnWriter(path, names, rows)) {
+            for (int c = 0; c < names.length; c++) {
+                for (int first = 0; first < rows; first += block.length) {
+                    int n = Math.min(block.length, rows - first);
+                    for (int i = 0; i < n; i++) {
+                        block[i] = c == 0 ? timeline.timeAt(first + i) : timeline.valueAt(first + i, c - 1);
+                    }
+                    out.write(c, first, block, n);
+                }
+            }
+        }
+    }
+}
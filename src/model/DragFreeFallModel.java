@@ -0,0 +1,329 @@
+package model;
+
+import model.integration.Derivative;
+import model.integration.Integrator;
+import model.integration.IntegratorType;
+import model.integration.RootFinder;
+
+/**
+ * Modelo de caída con arrastre del aire y, opcionalmente, gravedad variable con la altura.
+ * Como estas ecuaciones no tienen una solución cerrada sencilla, se resuelven con un
+ * integrador numérico configurable ({@link IntegratorType}) sobre un estado primitivo
+ * [altura, velocidad vertical], sin crear objetos por paso.
+ * <p>
+ * Usa las mismas convenciones que {@link FreeFallModel}: la velocidad es positiva hacia
+ * abajo. Con arrastre cero y gravedad constante reproduce sus resultados analíticos.
+ * El arrastre es cuadrático: a = -k·v·|v|, donde k = ρ·Cd·A / (2·m).
+ * <p>
+ * El modelo guarda el último tiempo evaluado y continúa desde ahí, por lo que consultar
+ * tiempos crecientes cuesta sólo los pasos nuevos. No es seguro para hilos.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public class DragFreeFallModel implements FallModel {
+    /** Radio medio de la Tierra en metros, para la gravedad variable */
+    public static final double EARTH_RADIUS = 6.371e6;
+    
+    /**
+     * Coeficiente de arrastre de un paracaidista con el paracaídas abierto, en 1/m:
+     * da una velocidad terminal de unos 5 m/s.
+     */
+    public static final double PARACHUTE_DRAG = 0.4;
+    
+    /** Precisión con la que se localiza el contacto con el suelo en segundos */
+    private static final double GROUND_TOLERANCE = 1e-12;
+
+    /** Altura inicial en metros */
+    private final double h0;
+    
+    /** Velocidad inicial en m/s (positiva hacia abajo) */
+    private final double v0;
+    
+    /** Aceleración gravitacional a nivel del suelo en m/s² */
+    private final double g;
+    
+    /** Coeficiente de arrastre cuadrático por unidad de masa en 1/m */
+    private final double drag;
+    
+    /** Indica si la gravedad disminuye con la altura */
+    private final boolean variableGravity;
+    
+    /** Paso máximo de integración en segundos */
+    private final double step;
+    
+    /** Integrador numérico elegido */
+    private final Integrator integrator;
+    
+    /** Ecuaciones de movimiento */
+    private final Derivative equations = this::evaluate;
+
+    /** Estado actual: [altura en m, velocidad vertical en m/s (positiva hacia arriba)] */
+    private final double[] state = new double[2];
+    
+    /** Tiempo correspondiente al estado actual */
+    private double cursor;
+    
+    /** Copia auxiliar del estado para localizar el contacto con el suelo */
+    private final double[] probe = new double[2];
+    
+    /** Estado al inicio del paso que cruzó el suelo */
+    private final double[] bracketStart = new double[2];
+    
+    /** Tiempo hasta el suelo ya calculado (NaN si aún no se calculó) */
+    private double groundTime = Double.NaN;
+
+    /**
+     * Construye un nuevo modelo de caída con arrastre.
+     * 
+     * @param h0 Altura inicial en metros
+     * @param v0 Velocidad inicial en m/s (positiva hacia abajo)
+     * @param g Aceleración gravitacional a nivel del suelo en m/s²
+     * @param drag Coeficiente de arrastre por unidad de masa en 1/m (0 para el vacío)
+     * @param variableGravity true para que la gravedad disminuya con la altura
+     * @param type Método de integración
+     * @param step Paso máximo de integración en segundos
+     * @param tolerance Tolerancia de error (sólo para {@link IntegratorType#RK45})
+     */
+    public DragFreeFallModel(double h0, double v0, double g, double drag, boolean variableGravity,
+                             IntegratorType type, double step, double tolerance) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("El paso de integración debe ser positivo.");
+        }
+        this.h0 = h0;
+        this.v0 = v0;
+        this.g = g;
+        this.drag = drag;
+        this.variableGravity = variableGravity;
+        this.step = step;
+        this.integrator = type.create(state.length, tolerance);
+        rewind();
+    }
+
+    /**
+     * Construye un modelo con gravedad constante {@link FreeFallModel#G}.
+     * 
+     * @param h0 Altura inicial en metros
+     * @param v0 Velocidad inicial en m/s (positiva hacia abajo)
+     * @param drag Coeficiente de arrastre por unidad de masa en 1/m
+     * @param type Método de integración
+     * @param step Paso máximo de integración en segundos
+     */
+    public DragFreeFallModel(double h0, double v0, double drag, IntegratorType type, double step) {
+        this(h0, v0, FreeFallModel.G, drag, false, type, step, IntegratorType.DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * Ecuaciones de movimiento: dy/dt = vy, dvy/dt = -g(y) - k·vy·|vy|.
+     */
+    private void evaluate(double t, double[] y, double[] out) {
+        double vy = y[1];
+        out[0] = vy;
+        out[1] = -gravityAt(y[0]) - drag * vy * Math.abs(vy);
+    }
+
+    /**
+     * Calcula la gravedad a una altura dada.
+     * 
+     * @param height Altura en metros
+     * @return Aceleración gravitacional en m/s²
+     */
+    private double gravityAt(double height) {
+        if (!variableGravity) return g;
+        double ratio = EARTH_RADIUS / (EARTH_RADIUS + Math.max(height, 0));
+        return g * ratio * ratio;
+    }
+
+    /**
+     * Vuelve el estado a las condiciones iniciales.
+     */
+    private void rewind() {
+        state[0] = h0;
+        state[1] = -v0;
+        cursor = 0;
+        integrator.reset();
+    }
+
+    /**
+     * Integra el estado hasta el tiempo indicado, continuando desde el último tiempo
+     * evaluado si es anterior.
+     * 
+     * @param t Tiempo objetivo en segundos
+     */
+    private void advanceTo(double t) {
+        if (t < cursor) rewind();
+        while (t - cursor > 1e-12) {
+            cursor += integrator.step(equations, cursor, state, Math.min(step, t - cursor));
+        }
+    }
+
+    /**
+     * Calcula la altura del objeto en un tiempo dado.
+     * 
+     * @param t Tiempo transcurrido en segundos
+     * @return Altura en metros (puede ser negativa si el objeto pasó el suelo)
+     */
+    @Override
+    public double positionAt(double t) {
+        advanceTo(t);
+        return state[0];
+    }
+
+    /**
+     * Calcula la velocidad del objeto en un tiempo dado.
+     * 
+     * @param t Tiempo transcurrido en segundos
+     * @return Velocidad en m/s (positiva hacia abajo, negativa hacia arriba)
+     */
+    @Override
+    public double velocityAt(double t) {
+        advanceTo(t);
+        return -state[1];
+    }
+
+    /**
+     * Calcula la distancia total caída desde la altura inicial.
+     * 
+     * @param t Tiempo transcurrido en segundos
+     * @return Distancia caída en metros (siempre positiva o cero)
+     */
+    public double distanceTravelled(double t) {
+        return Math.max(h0 - positionAt(t), 0);
+    }
+
+    /**
+     * Muestrea la trayectoria en una malla uniforme de tiempos. Las muestras se
+     * recorren en orden creciente, así que cada una sólo integra los pasos nuevos
+     * desde la anterior.
+     * 
+     * @param t0 Tiempo de la primera muestra en segundos
+     * @param dt Separación entre muestras en segundos
+     * @param time Arreglo de salida para los tiempos
+     * @param height Arreglo de salida para las alturas en metros
+     * @param velocity Arreglo de salida para las velocidades en m/s
+     * @param distance Arreglo de salida para las distancias caídas en metros
+     * @param count Número de muestras a calcular
+     * @throws IllegalArgumentException si algún arreglo tiene menos de count elementos
+     */
+    @Override
+    public void sampleTrajectory(double t0, double dt, double[] time, double[] height,
+                                 double[] velocity, double[] distance, int count) {
+        if (count < 0 || time.length < count || height.length < count
+                || velocity.length < count || distance.length < count) {
+            throw new IllegalArgumentException("El arreglo no tiene capacidad para " + count + " muestras.");
+        }
+        for (int i = 0; i < count; i++) {
+            double t = t0 + i * dt;
+            advanceTo(t);
+            time[i] = t;
+            height[i] = state[0];
+            velocity[i] = -state[1];
+            distance[i] = Math.max(h0 - state[0], 0);
+        }
+    }
+
+    /**
+     * Calcula el tiempo necesario para que el objeto llegue al suelo.
+     * Integra hasta el paso en que la altura cambia de signo y luego localiza el cruce
+     * dentro de ese paso con {@link RootFinder}, volviendo a integrar desde el inicio
+     * del paso para cada tiempo candidato. La integración se detiene pasado el doble de
+     * {@link #fallTimeLimit()}, así que el costo crece con la duración real de la caída.
+     * 
+     * @return Tiempo hasta el suelo en segundos, o -1 si no lo toca
+     */
+    @Override
+    public double timeToGround() {
+        if (!Double.isNaN(groundTime)) return groundTime;
+        if (h0 < 0) return groundTime = -1;
+        if (h0 == 0) return groundTime = 0;
+
+        double limit = 2 * fallTimeLimit() + step;
+        if (!(limit < Double.POSITIVE_INFINITY)) return groundTime = -1;
+
+        rewind();
+        while (state[0] > 0 && cursor < limit) {
+            System.arraycopy(state, 0, bracketStart, 0, state.length);
+            double start = cursor;
+            cursor += integrator.step(equations, cursor, state, step);
+            if (state[0] <= 0) {
+                groundTime = RootFinder.findRoot(t -> heightFrom(start, t), start, cursor, GROUND_TOLERANCE);
+                return groundTime;
+            }
+        }
+        groundTime = -1;
+        return groundTime;
+    }
+
+    /**
+     * Acota el tiempo hasta el suelo sin integrar. El objeto sube a lo sumo lo que
+     * subiría en el vacío y, desde esa cima, cae al menos tan rápido como uno que parte
+     * del reposo con la gravedad más débil del recorrido; con arrastre, ése recorre en
+     * un tiempo t al menos vt·t - vt²·ln 2 / g, donde vt es su velocidad terminal.
+     * 
+     * @return Cota superior en segundos, o infinito si el objeto escapa sin contar el
+     *         arrastre o la gravedad no es positiva
+     */
+    private double fallTimeLimit() {
+        double up = Math.max(-v0, 0);
+        double apex;
+        if (variableGravity) {
+            double inverse = 1 / (EARTH_RADIUS + h0) - up * up / (2 * g * EARTH_RADIUS * EARTH_RADIUS);
+            if (!(inverse > 0)) return Double.POSITIVE_INFINITY;
+            apex = 1 / inverse - EARTH_RADIUS;
+        } else {
+            apex = h0 + up * up / (2 * g);
+        }
+        double weakest = gravityAt(apex);
+        if (!(weakest > 0)) return Double.POSITIVE_INFINITY;
+
+        double fall;
+        if (drag > 0) {
+            double vt = Math.sqrt(weakest / drag);
+            fall = apex / vt + vt * Math.log(2) / weakest;
+        } else {
+            fall = Math.sqrt(2 * apex / weakest);
+        }
+        return up / weakest + fall;
+    }
+
+    /**
+     * Integra una copia del estado guardado al inicio del paso de cruce hasta un tiempo dado.
+     * 
+     * @param start Tiempo del estado guardado
+     * @param t Tiempo objetivo (dentro del paso de cruce)
+     * @return Altura en el tiempo objetivo en metros
+     */
+    private double heightFrom(double start, double t) {
+        System.arraycopy(bracketStart, 0, probe, 0, probe.length);
+        integrator.reset();
+        double time = start;
+        while (t - time > 1e-15) {
+            time += integrator.step(equations, time, probe, t - time);
+        }
+        return probe[0];
+    }
+
+    /**
+     * Calcula la velocidad de impacto cuando el objeto toca el suelo.
+     * 
+     * @return Velocidad de impacto en m/s (siempre positiva), o NaN si no lo toca
+     */
+    public double impactVelocity() {
+        double t = timeToGround();
+        return t < 0 ? Double.NaN : Math.abs(velocityAt(t));
+    }
+
+    /**
+     * Calcula la velocidad terminal con gravedad constante: sqrt(g / k).
+     * 
+     * @return Velocidad terminal en m/s, o infinito si no hay arrastre
+     */
+    public double terminalVelocity() {
+        return drag > 0 ? Math.sqrt(g / drag) : Double.POSITIVE_INFINITY;
+    }
+
+    public double getInitialHeight() { return h0; }
+    public double getInitialVelocity() { return v0; }
+    public double getAcceleration() { return g; }
+    public double getDrag() { return drag; }
+}
@@ -0,0 +1,50 @@
+package model;
+
+/**
+ * Modelo de caída vertical que usa la simulación de caída libre.
+ * Lo implementan el modelo analítico en el vacío ({@link FreeFallModel}) y el modelo
+ * numérico con arrastre del aire ({@link DragFreeFallModel}), de modo que el controlador
+ * trata a ambos por igual. La velocidad es positiva hacia abajo.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public interface FallModel {
+    /**
+     * Calcula la altura del objeto en un tiempo dado.
+     * 
+     * @param t Tiempo transcurrido en segundos
+     * @return Altura en metros (puede ser negativa si el objeto pasó el suelo)
+     */
+    double positionAt(double t);
+
+    /**
+     * Calcula la velocidad del objeto en un tiempo dado.
+     * 
+     * @param t Tiempo transcurrido en segundos
+     * @return Velocidad en m/s (positiva hacia abajo, negativa hacia arriba)
+     */
+    double velocityAt(double t);
+
+    /**
+     * Muestrea la trayectoria en una malla uniforme de tiempos t0 + i*dt.
+     * 
+     * @param t0 Tiempo de la primera muestra en segundos
+     * @param dt Separación entre muestras en segundos
+     * @param time Arreglo de salida para los tiempos
+     * @param height Arreglo de salida para las alturas en metros
+     * @param velocity Arreglo de salida para las velocidades en m/s
+     * @param distance Arreglo de salida para las distancias caídas en metros
+     * @param count Número de muestras a calcular
+     * @throws IllegalArgumentException si algún arreglo tiene menos de count elementos
+     */
+    void sampleTrajectory(double t0, double dt, double[] time, double[] height,
+                          double[] velocity, double[] distance, int count);
+
+    /**
+     * Calcula el tiempo necesario para que el objeto llegue al suelo.
+     * 
+     * @return Tiempo hasta el suelo en segundos, o -1 si el objeto nunca toca el suelo
+     */
+    double timeToGround();
+}
@@ -8,7 +8,7 @@ package model;
  * @author SimuladorFisica
  * @version 1.0
  */
-public class FreeFallModel {
+public class FreeFallModel implements FallModel {
     /** Aceleración gravitacional estándar en m/s² */
     public static final double G = 9.81;
     
@@ -17,17 +17,21 @@ public class FreeFallModel {
     
     /** Velocidad inicial del objeto en m/s (positiva hacia arriba, negativa hacia abajo) */
     private double v0;
+    
+    /** Aceleración gravitacional usada por el modelo en m/s² */
+    private double g;
 
     /**
      * Construye un nuevo modelo de caída libre.
      * 
      * @param h0 Altura inicial en metros (debe ser positiva)
      * @param v0 Velocidad inicial en m/s (positiva hacia arriba, negativa hacia abajo)
-     * @param a Aceleración (actualmente no se usa, se utiliza G constante)
+     * @param a Aceleración gravitacional en m/s² (normalmente {@link #G})
      */
     public FreeFallModel(double h0, double v0, double a) {
         this.h0 = h0;
         this.v0 = v0;
+        this.g = a;
     }
 
     /**
@@ -37,8 +41,9 @@ public class FreeFallModel {
      * @param t Tiempo transcurrido en segundos
      * @return Altura actual en metros (puede ser negativa si el objeto pasó el suelo)
      */
+    @Override
     public double positionAt(double t) {
-        return h0 - (v0 * t + 0.5 * G * t * t);
+        return h0 - (v0 * t + 0.5 * g * t * t);
     }
 
     /**
@@ -48,8 +53,9 @@ public class FreeFallModel {
      * @param t Tiempo transcurrido en segundos
      * @return Velocidad en m/s (positiva hacia abajo, negativa hacia arriba)
      */
+    @Override
     public double velocityAt(double t) {
-        return v0 + G * t;
+        return v0 + g * t;
     }
 
     /**
@@ -63,14 +69,87 @@ public class FreeFallModel {
         return Math.max(distance, 0);
     }
 
+    /**
+     * Muestrea la trayectoria completa en una malla uniforme de tiempos.
+     * Llena los arreglos proporcionados por el llamador sin crear objetos por muestra;
+     * equivale a llamar {@link #positionAt}, {@link #velocityAt} y
+     * {@link #distanceTravelled} para cada tiempo t0 + i*dt.
+     * 
+     * @param t0 Tiempo de la primera muestra en segundos
+     * @param dt Separación entre muestras en segundos
+     * @param time Arreglo de salida para los tiempos
+     * @param height Arreglo de salida para las alturas en metros
+     * @param velocity Arreglo de salida para las velocidades en m/s
+     * @param distance Arreglo de salida para las distancias caídas en metros
+     * @param count Número de muestras a calcular
+     * @throws IllegalArgumentException si algún arreglo tiene menos de count elementos
+     */
+    @Override
+    public void sampleTrajectory(double t0, double dt, double[] time, double[] height,
+                                 double[] velocity, double[] distance, int count) {
+        checkCapacity(time, count);
+        for (int i = 0; i < count; i++) {
+            time[i] = t0 + i * dt;
+        }
+        trajectoryAt(time, height, velocity, distance, count);
+    }
+
+    /**
+     * Evalúa la trayectoria en un lote de tiempos arbitrarios.
+     * Cada salida se calcula en un bucle independiente y sin llamadas a métodos,
+     * de forma que el compilador JIT pueda vectorizarlo (SIMD) en lotes grandes.
+     * 
+     * @param time Tiempos a evaluar en segundos
+     * @param height Arreglo de salida para las alturas en metros
+     * @param velocity Arreglo de salida para las velocidades en m/s
+     * @param distance Arreglo de salida para las distancias caídas en metros
+     * @param count Número de muestras a calcular
+     * @throws IllegalArgumentException si algún arreglo tiene menos de count elementos
+     */
+    public void trajectoryAt(double[] time, double[] height, double[] velocity, double[] distance, int count) {
+        checkCapacity(time, count);
+        checkCapacity(height, count);
+        checkCapacity(velocity, count);
+        checkCapacity(distance, count);
+
+        final double h0 = this.h0;
+        final double v0 = this.v0;
+        final double g = this.g;
+        final double halfG = 0.5 * g;
+
+        for (int i = 0; i < count; i++) {
+            double t = time[i];
+            height[i] = h0 - (v0 * t + halfG * t * t);
+        }
+        for (int i = 0; i < count; i++) {
+            velocity[i] = v0 + g * time[i];
+        }
+        for (int i = 0; i < count; i++) {
+            distance[i] = Math.max(h0 - height[i], 0);
+        }
+    }
+
+    /**
+     * Verifica que un arreglo de salida tenga capacidad para el lote solicitado.
+     * 
+     * @param buffer Arreglo a verificar
+     * @param count Número de muestras del lote
+     */
+    private static void checkCapacity(double[] buffer, int count) {
+        if (count < 0 || buffer.length < count) {
+            throw new IllegalArgumentException("El arreglo no tiene capacidad para " + count + " muestras.");
+        }
+    }
+
     /**
      * Calcula el tiempo necesario para que el objeto llegue al suelo.
      * Utiliza la fórmula cuadrática para resolver: h0 = v0*t + (1/2)*g*t²
      * 
      * @return Tiempo hasta el suelo en segundos, o -1 si el objeto nunca toca el suelo
      */
+    @Override
     public double timeToGround() {
-        double A = 0.5 * G;
+        double A = 0.5 * g;
         double B = v0;
         double C = -h0;
         double disc = B * B - 4 * A * C;
@@ -88,7 +167,7 @@ public class FreeFallModel {
      * @return Velocidad de impacto en m/s (siempre positiva)
      */
     public double impactVelocity() {
-        return Math.sqrt(v0 * v0 + 2 * G * h0);
+        return Math.sqrt(v0 * v0 + 2 * g * h0);
     }
 
     /**
@@ -112,9 +191,9 @@ public class FreeFallModel {
     /**
      * Obtiene la aceleración gravitacional utilizada.
      * 
-     * @return Aceleración en m/s² (siempre 9.81)
+     * @return Aceleración en m/s²
      */
     public double getAcceleration() {
-        return G;
+        return g;
     }
 }
@@ -37,6 +37,27 @@ public class MRUModel {
         return x0 + v * t;
     }
 
+    /**
+     * Evalúa la posición en un lote de tiempos.
+     * Llena el arreglo de salida sin crear objetos por muestra, en un bucle
+     * simple que el compilador JIT puede vectorizar.
+     * 
+     * @param time Tiempos a evaluar en segundos
+     * @param position Arreglo de salida para las posiciones en metros
+     * @param count Número de muestras a calcular
+     * @throws IllegalArgumentException si algún arreglo tiene menos de count elementos
+     */
+    public void positionsAt(double[] time, double[] position, int count) {
+        if (count < 0 || time.length < count || position.length < count) {
+            throw new IllegalArgumentException("El arreglo no tiene capacidad para " + count + " muestras.");
+        }
+        final double x0 = this.x0;
+        final double v = this.v;
+        for (int i = 0; i < count; i++) {
+            position[i] = x0 + v * time[i];
+        }
+    }
+
     /**
      * Calcula el desplazamiento desde la posición inicial.
      * 
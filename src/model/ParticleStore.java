@@ -0,0 +1,349 @@
+package model;
+
+import java.util.stream.IntStream;
+
+/**
+ * Almacén de muchos cuerpos en caída libre organizado como estructura de arreglos:
+ * cada propiedad (altura inicial, velocidad, estado, sprite...) vive en su propio
+ * arreglo primitivo, de modo que actualizar miles de cuerpos es un recorrido lineal
+ * por memoria contigua y no crea objetos.
+ * <p>
+ * Cada cuerpo sigue una solución analítica: la de {@link FreeFallModel} en el vacío o,
+ * si tiene coeficiente de arrastre, la solución cerrada del arrastre cuadrático con
+ * gravedad constante (la misma ecuación que integra {@link DragFreeFallModel}), con
+ * tangentes e hiperbólicas según suba, caiga más lento o más rápido que su velocidad
+ * terminal. Por eso la actualización por lotes no acumula error y puede saltar a
+ * cualquier tiempo.
+ * Por encima de {@link #PARALLEL_THRESHOLD} cuerpos la actualización se reparte
+ * por bloques entre los núcleos disponibles.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public class ParticleStore {
+    /** Estado de un cuerpo que aún está cayendo */
+    public static final byte FALLING = 0;
+    
+    /** Estado de un cuerpo que ya tocó el suelo */
+    public static final byte LANDED = 1;
+    
+    /** Número de cuerpos a partir del cual la actualización se paraleliza */
+    public static final int PARALLEL_THRESHOLD = 4096;
+    
+    /** Cuerpos por bloque en la actualización paralela */
+    private static final int CHUNK = 2048;
+
+    /** ln 2, para los logaritmos de las funciones hiperbólicas */
+    private static final double LN2 = Math.log(2);
+
+    /**
+     * Argumento a partir del cual e^(-2x) es despreciable frente a 1 en doble precisión:
+     * la velocidad ya es la terminal y ln(cosh x) = ln(sinh x) = x - ln 2
+     */
+    private static final double SATURATION = 20;
+
+    /** Aceleración gravitacional en m/s² */
+    private final double g;
+    
+    private final double[] h0;
+    private final double[] v0;
+    private final double[] height;
+    private final double[] velocity;
+    private final double[] impactTime;
+    private final byte[] state;
+    private final int[] sprite;
+    
+    /** Coeficiente de arrastre cuadrático de cada cuerpo en 1/m (0 en el vacío) */
+    private final double[] drag;
+    
+    /** Velocidad terminal de cada cuerpo con arrastre en m/s */
+    private final double[] terminal;
+    
+    /**
+     * Fase inicial de la solución con arrastre de cada cuerpo: el ángulo de la tangente
+     * si parte hacia arriba, o el argumento de la tangente o cotangente hiperbólica si
+     * parte hacia abajo más lento o más rápido que la velocidad terminal
+     */
+    private final double[] phase;
+    
+    /**
+     * Término constante de la distancia caída de cada cuerpo con arrastre: ln(cos φ) si
+     * parte hacia arriba, ln(cosh φ) o ln(sinh φ) si parte hacia abajo
+     */
+    private final double[] base;
+    
+    /** Número de cuerpos almacenados */
+    private int size;
+
+    /**
+     * Construye un almacén vacío.
+     * 
+     * @param capacity Número máximo de cuerpos
+     * @param g Aceleración gravitacional en m/s²
+     */
+    public ParticleStore(int capacity, double g) {
+        this.g = g;
+        h0 = new double[capacity];
+        v0 = new double[capacity];
+        height = new double[capacity];
+        velocity = new double[capacity];
+        impactTime = new double[capacity];
+        state = new byte[capacity];
+        sprite = new int[capacity];
+        drag = new double[capacity];
+        terminal = new double[capacity];
+        phase = new double[capacity];
+        base = new double[capacity];
+    }
+
+    /**
+     * Agrega un cuerpo que cae en el vacío en su estado inicial.
+     * 
+     * @param initialHeight Altura inicial en metros
+     * @param initialVelocity Velocidad inicial en m/s (positiva hacia abajo)
+     * @param spriteIndex Índice del sprite con el que se dibuja
+     * @return Índice del cuerpo agregado
+     * @throws IllegalStateException si el almacén está lleno
+     */
+    public int add(double initialHeight, double initialVelocity, int spriteIndex) {
+        return add(initialHeight, initialVelocity, 0, spriteIndex);
+    }
+
+    /**
+     * Agrega un cuerpo en su estado inicial.
+     * 
+     * @param initialHeight Altura inicial en metros
+     * @param initialVelocity Velocidad inicial en m/s (positiva hacia abajo)
+     * @param dragCoefficient Coeficiente de arrastre cuadrático en 1/m (0 para el vacío),
+     *                        como en {@link DragFreeFallModel}
+     * @param spriteIndex Índice del sprite con el que se dibuja
+     * @return Índice del cuerpo agregado
+     * @throws IllegalStateException si el almacén está lleno
+     * @throws IllegalArgumentException si el arrastre es negativo, o positivo sin una gravedad positiva
+     */
+    public int add(double initialHeight, double initialVelocity, double dragCoefficient, int spriteIndex) {
+        if (size == h0.length) {
+            throw new IllegalStateException("El almacén de cuerpos está lleno.");
+        }
+        if (!(dragCoefficient >= 0) || (dragCoefficient > 0 && !(g > 0))) {
+            throw new IllegalArgumentException("El arrastre debe ser cero o positivo con gravedad positiva.");
+        }
+        int i = size++;
+        h0[i] = initialHeight;
+        v0[i] = initialVelocity;
+        height[i] = initialHeight;
+        velocity[i] = initialVelocity;
+        drag[i] = dragCoefficient;
+        if (dragCoefficient > 0) {
+            double vt = Math.sqrt(g / dragCoefficient);
+            terminal[i] = vt;
+            double p = initialPhase(initialVelocity, vt);
+            phase[i] = p;
+            base[i] = initialVelocity < 0 ? Math.log(Math.cos(p))
+                    : initialVelocity < vt ? logCosh(p)
+                    : initialVelocity > vt ? logSinh(p) : 0;
+            impactTime[i] = dragImpactTime(initialHeight, initialVelocity, vt, p, base[i]);
+        } else {
+            impactTime[i] = new FreeFallModel(initialHeight, initialVelocity, g).timeToGround();
+        }
+        state[i] = FALLING;
+        sprite[i] = spriteIndex;
+        return i;
+    }
+
+    /**
+     * Lleva todos los cuerpos al tiempo indicado.
+     * 
+     * @param t Tiempo en segundos desde que se soltaron los cuerpos
+     * @return Número de cuerpos que ya tocaron el suelo
+     */
+    public int advanceTo(double t) {
+        if (size < PARALLEL_THRESHOLD) {
+            return advanceRange(0, size, t);
+        }
+        int chunks = (size + CHUNK - 1) / CHUNK;
+        return IntStream.range(0, chunks).parallel()
+                .map(c -> advanceRange(c * CHUNK, Math.min(size, (c + 1) * CHUNK), t))
+                .sum();
+    }
+
+    /**
+     * Actualiza un tramo contiguo de cuerpos.
+     * 
+     * @param from Primer índice (incluido)
+     * @param to Último índice (excluido)
+     * @param t Tiempo en segundos
+     * @return Cuerpos del tramo que ya tocaron el suelo
+     */
+    private int advanceRange(int from, int to, double t) {
+        final double halfG = 0.5 * g;
+        int landed = 0;
+        for (int i = from; i < to; i++) {
+            double impact = impactTime[i];
+            double time = impact >= 0 && t >= impact ? impact : t;
+            double v = v0[i];
+            double fallen;
+            if (drag[i] > 0) {
+                fallen = dragFallen(i, time);
+            } else {
+                velocity[i] = v + g * time;
+                fallen = v * time + halfG * time * time;
+            }
+            if (time == impact) {
+                height[i] = 0;
+                state[i] = LANDED;
+                landed++;
+            } else {
+                height[i] = h0[i] - fallen;
+                state[i] = FALLING;
+            }
+        }
+        return landed;
+    }
+
+    /**
+     * Calcula la distancia caída por un cuerpo con arrastre y deja su velocidad en
+     * {@link #velocity}. Con τ = vt / g y la escala vt·τ = vt² / g: subiendo, la
+     * velocidad es -vt·tan(φ - t/τ) hasta la cima en τ·φ y desde ahí cae como desde el
+     * reposo, con vt·tanh; bajando más lento que vt es vt·tanh(t/τ + φ) y más rápido,
+     * vt·coth(t/τ + φ). Las distancias se calculan con logaritmos de cos, cosh y sinh
+     * para no desbordar en caídas largas.
+     * 
+     * @param i Cuerpo
+     * @param time Tiempo en segundos
+     * @return Distancia caída desde la altura inicial en metros (negativa mientras sube)
+     */
+    private double dragFallen(int i, double time) {
+        double vt = terminal[i];
+        double tau = vt / g;
+        double scale = vt * tau;
+        double v = v0[i];
+        double p = phase[i];
+        if (v < 0) {
+            double rise = tau * p;
+            if (time <= rise) {
+                double angle = p - time / tau;
+                velocity[i] = -vt * Math.tan(angle);
+                return -scale * (Math.log(Math.cos(angle)) - base[i]);
+            }
+            double x = (time - rise) / tau;
+            if (x > SATURATION) {
+                velocity[i] = vt;
+                return scale * (x - LN2 + base[i]);
+            }
+            double m = Math.expm1(-2 * x);
+            velocity[i] = vt * -m / (2 + m);
+            return scale * (x + Math.log(2 + m) - LN2 + base[i]);
+        }
+        if (v == vt) {
+            velocity[i] = vt;
+            return vt * time;
+        }
+        double x = time / tau + p;
+        if (x > SATURATION) {
+            velocity[i] = vt;
+            return scale * (x - LN2 - base[i]);
+        }
+        // Con m = e^(-2x) - 1: tanh x = -m / (2 + m), ln cosh x = x + ln(2 + m) - ln 2,
+        // coth x = (2 + m) / -m y ln sinh x = x + ln(-m) - ln 2, con una sola exponencial
+        double m = Math.expm1(-2 * x);
+        if (v < vt) {
+            velocity[i] = vt * -m / (2 + m);
+            return scale * (x + Math.log(2 + m) - LN2 - base[i]);
+        }
+        velocity[i] = vt * (2 + m) / -m;
+        return scale * (x + Math.log(-m) - LN2 - base[i]);
+    }
+
+    /**
+     * Calcula la fase inicial de la solución con arrastre.
+     * 
+     * @param v Velocidad inicial en m/s (positiva hacia abajo)
+     * @param vt Velocidad terminal en m/s
+     * @return atan(-v/vt) si sube, atanh(v/vt) si baja más lento que vt, atanh(vt/v) si
+     *         baja más rápido, o 0 si baja justo a vt
+     */
+    private static double initialPhase(double v, double vt) {
+        if (v < 0) return Math.atan(-v / vt);
+        if (v < vt) return atanh(v / vt);
+        if (v > vt) return atanh(vt / v);
+        return 0;
+    }
+
+    /**
+     * Calcula el tiempo hasta el suelo de un cuerpo con arrastre despejando la distancia
+     * caída de {@link #dragFallen}.
+     * 
+     * @param h Altura inicial en metros
+     * @param v Velocidad inicial en m/s (positiva hacia abajo)
+     * @param vt Velocidad terminal en m/s
+     * @param p Fase inicial
+     * @param b Término constante de la distancia caída (ver {@link #base})
+     * @return Tiempo hasta el suelo en segundos, o -1 si empieza bajo el suelo
+     */
+    private double dragImpactTime(double h, double v, double vt, double p, double b) {
+        if (h < 0) return -1;
+        if (h == 0) return 0;
+        double tau = vt / g;
+        double scale = vt * tau;
+        if (v < 0) {
+            return tau * (p + acoshExp(h / scale - b));
+        }
+        if (v < vt) {
+            return tau * (acoshExp(h / scale + b) - p);
+        }
+        if (v > vt) {
+            return tau * (asinhExp(h / scale + b) - p);
+        }
+        return h / vt;
+    }
+
+    /** Arcotangente hiperbólica, para |x| menor que 1 */
+    private static double atanh(double x) {
+        return 0.5 * Math.log1p(2 * x / (1 - x));
+    }
+
+    /** ln(cosh x) sin desbordar para x grande */
+    private static double logCosh(double x) {
+        double a = Math.abs(x);
+        return a > SATURATION ? a - LN2 : a + Math.log1p(Math.exp(-2 * a)) - LN2;
+    }
+
+    /** ln(sinh x) para x positivo, sin desbordar para x grande ni perder precisión para x pequeño */
+    private static double logSinh(double x) {
+        return x > SATURATION ? x - LN2 : x + Math.log(-Math.expm1(-2 * x)) - LN2;
+    }
+
+
+    /** acosh(e^l) para l no negativo, sin calcular e^l */
+    private static double acoshExp(double l) {
+        return l + Math.log1p(Math.sqrt(-Math.expm1(-2 * l)));
+    }
+
+    /** asinh(e^m) sin calcular e^m cuando m es grande */
+    private static double asinhExp(double m) {
+        if (m >= 0) {
+            return m + Math.log(1 + Math.sqrt(1 + Math.exp(-2 * m)));
+        }
+        double y = Math.exp(m);
+        return Math.log1p(y + y * y / (Math.sqrt(y * y + 1) + 1));
+    }
+
+    /**
+     * Copia las alturas actuales en un arreglo.
+     * 
+     * @param target Arreglo de destino con al menos {@link #size()} posiciones
+     */
+    public void copyHeights(double[] target) {
+        System.arraycopy(height, 0, target, 0, size);
+    }
+
+    public int size() { return size; }
+    public double getHeight(int i) { return height[i]; }
+    public double getVelocity(int i) { return velocity[i]; }
+    public double getImpactTime(int i) { return impactTime[i]; }
+    public double getInitialHeight(int i) { return h0[i]; }
+    public byte getState(int i) { return state[i]; }
+    public int getSprite(int i) { return sprite[i]; }
+    public double getDrag(int i) { return drag[i]; }
+}
@@ -0,0 +1,390 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Conjunto de muchos vehículos en MRU repartidos en varios carriles.
+ * Los datos de cada vehículo (posición inicial, velocidad y carril) se guardan en
+ * arreglos primitivos paralelos; cada carril mantiene sus vehículos ordenados por
+ * posición.
+ * <p>
+ * Como cada vehículo describe una recta x = x0 + v*t, el orden de un carril sólo
+ * cambia cuando dos vehículos vecinos se cruzan. Los tiempos de esos cruces se
+ * calculan de forma analítica y se guardan en una cola de eventos (barrido en el
+ * tiempo): avanzar el reloj sólo procesa los adelantamientos ocurridos, intercambia
+ * los dos vecinos y programa los cruces de sus nuevos vecinos, sin comparar todos los
+ * pares. Las consultas por rango usan búsqueda binaria sobre el orden vigente.
+ * <p>
+ * Las consultas ({@link #queryRange}, {@link #vehicleAt}, {@link #positionAt}) responden
+ * siempre en el tiempo actual: para preguntar por otro instante hay que llamar antes a
+ * {@link #advanceTo}. Avanzar es barato; retroceder reconstruye todo el orden desde el
+ * tiempo cero, así que conviene consultar en tiempos crecientes. La verificación contra
+ * una comparación de todos los pares está en {@code test/model/TrafficLanesCheck.java}.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public final class TrafficLanes {
+    /** Posición inicial de cada vehículo en metros */
+    private final double[] x0;
+
+    /** Velocidad de cada vehículo en m/s */
+    private final double[] v;
+
+    /** Carril de cada vehículo */
+    private final int[] lane;
+
+    /** Primer índice de cada carril dentro de {@link #order} (tamaño lanes + 1) */
+    private final int[] laneStart;
+
+    /** Vehículos de todos los carriles, cada carril ordenado por posición */
+    private final int[] order;
+
+    /** Posición de cada vehículo dentro de {@link #order} */
+    private final int[] rank;
+
+    /** Arreglo auxiliar del ordenamiento de los carriles */
+    private final int[] scratch;
+
+    /** Cola de cruces pendientes entre vecinos */
+    private final CrossingQueue crossings = new CrossingQueue();
+
+    /** Tiempo actual en segundos */
+    private double t;
+
+    /** Número de adelantamientos procesados desde el tiempo cero */
+    private long overtakes;
+
+    /**
+     * Receptor de adelantamientos.
+     */
+    @FunctionalInterface
+    public interface OvertakeListener {
+        /**
+         * Se invoca cada vez que un vehículo adelanta a su vecino de carril,
+         * en orden cronológico.
+         * 
+         * @param time Tiempo del adelantamiento en segundos
+         * @param lane Carril en el que ocurre
+         * @param overtaker Vehículo que adelanta
+         * @param overtaken Vehículo adelantado
+         */
+        void overtake(double time, int lane, int overtaker, int overtaken);
+    }
+
+    /**
+     * Construye el conjunto de vehículos en el tiempo cero.
+     * 
+     * @param x0 Posición inicial de cada vehículo en metros
+     * @param v Velocidad de cada vehículo en m/s
+     * @param lane Carril de cada vehículo (de 0 a lanes - 1)
+     * @param lanes Número de carriles
+     * @throws IllegalArgumentException si los arreglos no tienen el mismo tamaño o un carril no es válido
+     */
+    public TrafficLanes(double[] x0, double[] v, int[] lane, int lanes) {
+        int n = x0.length;
+        if (v.length != n || lane.length != n) {
+            throw new IllegalArgumentException("Los arreglos de vehículos deben tener el mismo tamaño.");
+        }
+        this.x0 = x0.clone();
+        this.v = v.clone();
+        this.lane = lane.clone();
+        laneStart = new int[lanes + 1];
+        for (int i = 0; i < n; i++) {
+            if (lane[i] < 0 || lane[i] >= lanes) {
+                throw new IllegalArgumentException("Carril inválido: " + lane[i]);
+            }
+            laneStart[lane[i] + 1]++;
+        }
+        for (int l = 0; l < lanes; l++) {
+            laneStart[l + 1] += laneStart[l];
+        }
+        order = new int[n];
+        rank = new int[n];
+        scratch = new int[n];
+        rebuild();
+    }
+
+    /**
+     * Ordena cada carril en el tiempo cero y programa los cruces de todos los vecinos.
+     * A igualdad de posición va primero el más lento, que es el orden válido justo después.
+     */
+    private void rebuild() {
+        int n = x0.length;
+        int[] fill = laneStart.clone();
+        for (int i = 0; i < n; i++) {
+            order[fill[lane[i]]++] = i;
+        }
+        int lanes = laneStart.length - 1;
+        for (int l = 0; l < lanes; l++) {
+            sortLane(laneStart[l], laneStart[l + 1]);
+        }
+        for (int r = 0; r < n; r++) {
+            rank[order[r]] = r;
+        }
+
+        t = 0;
+        overtakes = 0;
+        crossings.clear();
+        for (int l = 0; l < lanes; l++) {
+            for (int r = laneStart[l]; r + 1 < laneStart[l + 1]; r++) {
+                scheduleCrossing(order[r], order[r + 1]);
+            }
+        }
+    }
+
+    /**
+     * Ordena un tramo de {@link #order} por (posición inicial, velocidad) con un
+     * ordenamiento por mezcla sobre los índices primitivos, sin encajonarlos en objetos.
+     * 
+     * @param from Primer índice (incluido)
+     * @param to Último índice (excluido)
+     */
+    private void sortLane(int from, int to) {
+        if (to - from < 2) return;
+        int mid = (from + to) >>> 1;
+        sortLane(from, mid);
+        sortLane(mid, to);
+        if (!before(order[mid], order[mid - 1])) return;
+
+        System.arraycopy(order, from, scratch, from, to - from);
+        int i = from, j = mid;
+        for (int r = from; r < to; r++) {
+            if (j >= to || (i < mid && !before(scratch[j], scratch[i]))) {
+                order[r] = scratch[i++];
+            } else {
+                order[r] = scratch[j++];
+            }
+        }
+    }
+
+    /**
+     * Compara dos vehículos por (posición inicial, velocidad).
+     * 
+     * @param a Primer vehículo
+     * @param b Segundo vehículo
+     * @return true si a va estrictamente antes que b
+     */
+    private boolean before(int a, int b) {
+        int c = Double.compare(x0[a], x0[b]);
+        return c != 0 ? c < 0 : Double.compare(v[a], v[b]) < 0;
+    }
+
+    /**
+     * Programa el cruce de dos vecinos si el de atrás es más rápido. Un cruce en el
+     * mismo instante actual también se programa, para resolver encuentros de tres o
+     * más vehículos en un mismo punto.
+     * <p>
+     * Si el de atrás es más rápido, el cruce no puede ser anterior al tiempo actual;
+     * un tiempo calculado apenas menor sólo es redondeo, así que se lleva al tiempo
+     * actual en lugar de descartarse (descartarlo dejaría a los dos vehículos
+     * atravesándose sin adelantamiento).
+     * 
+     * @param behind Vehículo de atrás
+     * @param ahead Vehículo de adelante
+     */
+    private void scheduleCrossing(int behind, int ahead) {
+        if (v[behind] > v[ahead]) {
+            crossings.push(Math.max(overtakeTime(behind, ahead), t), behind, ahead);
+        }
+    }
+
+    /**
+     * Avanza el tiempo procesando en orden cronológico los adelantamientos ocurridos.
+     * Si el tiempo pedido es anterior al actual, se reconstruye el orden desde cero.
+     * 
+     * @param time Nuevo tiempo en segundos
+     * @param listener Receptor de adelantamientos (puede ser null)
+     */
+    public void advanceTo(double time, OvertakeListener listener) {
+        if (time < t) {
+            rebuild();
+        }
+        while (!crossings.isEmpty() && crossings.peekTime() <= time) {
+            double when = crossings.peekTime();
+            int behind = crossings.peekFirst();
+            int ahead = crossings.peekSecond();
+            crossings.pop();
+            int r = rank[behind];
+            if (rank[ahead] != r + 1) {
+                continue; // dejaron de ser vecinos: evento obsoleto
+            }
+            t = when;
+            order[r] = ahead;
+            order[r + 1] = behind;
+            rank[ahead] = r;
+            rank[behind] = r + 1;
+            overtakes++;
+            if (listener != null) {
+                listener.overtake(when, lane[behind], behind, ahead);
+            }
+
+            int l = lane[behind];
+            if (r > laneStart[l]) {
+                scheduleCrossing(order[r - 1], ahead);
+            }
+            if (r + 2 < laneStart[l + 1]) {
+                scheduleCrossing(behind, order[r + 2]);
+            }
+        }
+        t = time;
+    }
+
+    /**
+     * Calcula el tiempo en que un vehículo alcanza a otro, sea o no su vecino y sin
+     * depender del tiempo actual.
+     * Fórmula: t = (x0j - x0i) / (vi - vj)
+     * 
+     * @param i Vehículo que alcanza
+     * @param j Vehículo alcanzado
+     * @return Tiempo del encuentro en segundos (negativo si ocurrió antes del tiempo
+     *         cero), o NaN si van a la misma velocidad
+     */
+    public double overtakeTime(int i, int j) {
+        double dv = v[i] - v[j];
+        if (dv == 0) return Double.NaN;
+        return (x0[j] - x0[i]) / dv;
+    }
+
+    /**
+     * Busca los vehículos de un carril cuya posición en el tiempo actual está en
+     * [from, to]. Para consultar otro instante, llamar antes a {@link #advanceTo}.
+     * 
+     * @param laneIndex Carril a consultar
+     * @param from Posición mínima en metros
+     * @param to Posición máxima en metros
+     * @param out Arreglo donde se escriben los vehículos encontrados, ordenados por posición
+     * @return Número de vehículos en el rango (puede superar out.length; sólo se escriben los que caben)
+     */
+    public int queryRange(int laneIndex, double from, double to, int[] out) {
+        int lo = laneStart[laneIndex];
+        int hi = laneStart[laneIndex + 1];
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (positionAt(order[mid]) < from) lo = mid + 1;
+            else hi = mid;
+        }
+        int end = laneStart[laneIndex + 1];
+        int count = 0;
+        for (int r = lo; r < end; r++) {
+            int i = order[r];
+            if (positionAt(i) > to) break;
+            if (count < out.length) out[count] = i;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Copia las posiciones actuales de todos los vehículos.
+     * 
+     * @param target Arreglo de destino con al menos {@link #size()} posiciones
+     */
+    public void copyPositions(double[] target) {
+        final double time = t;
+        for (int i = 0; i < x0.length; i++) {
+            target[i] = x0[i] + v[i] * time;
+        }
+    }
+
+    /**
+     * Calcula la posición actual de un vehículo.
+     * 
+     * @param i Vehículo
+     * @return Posición en metros
+     */
+    public double positionAt(int i) {
+        return x0[i] + v[i] * t;
+    }
+
+    /**
+     * Obtiene el vehículo que ocupa un puesto del carril en el tiempo actual (0 es el
+     * más atrasado). Para consultar otro instante, llamar antes a {@link #advanceTo}.
+     * 
+     * @param laneIndex Carril
+     * @param place Puesto dentro del carril
+     * @return Vehículo en ese puesto
+     */
+    public int vehicleAt(int laneIndex, int place) {
+        return order[laneStart[laneIndex] + place];
+    }
+
+    /**
+     * Obtiene el tiempo del próximo adelantamiento pendiente (puede ser un evento obsoleto
+     * que se descartará, por lo que es una cota inferior).
+     * 
+     * @return Tiempo en segundos, o infinito si no hay más cruces
+     */
+    public double nextCrossingTime() {
+        return crossings.isEmpty() ? Double.POSITIVE_INFINITY : crossings.peekTime();
+    }
+
+    public int size() { return x0.length; }
+    public int laneCount() { return laneStart.length - 1; }
+    public int laneSize(int laneIndex) { return laneStart[laneIndex + 1] - laneStart[laneIndex]; }
+    public int getLane(int i) { return lane[i]; }
+    public double getVelocity(int i) { return v[i]; }
+    public double getTime() { return t; }
+    public long getOvertakes() { return overtakes; }
+
+    /**
+     * Montículo binario de cruces guardado en arreglos primitivos, para no crear un
+     * objeto por evento.
+     */
+    private static final class CrossingQueue {
+        private double[] time = new double[64];
+        private int[] first = new int[64];
+        private int[] second = new int[64];
+        private int size;
+
+        boolean isEmpty() { return size == 0; }
+        double peekTime() { return time[0]; }
+        int peekFirst() { return first[0]; }
+        int peekSecond() { return second[0]; }
+        void clear() { size = 0; }
+
+        void push(double t, int a, int b) {
+            if (size == time.length) {
+                time = Arrays.copyOf(time, size * 2);
+                first = Arrays.copyOf(first, size * 2);
+                second = Arrays.copyOf(second, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (time[parent] <= t) break;
+                set(i, parent);
+                i = parent;
+            }
+            time[i] = t;
+            first[i] = a;
+            second[i] = b;
+        }
+
+        void pop() {
+            int last = --size;
+            if (last == 0) return;
+            double t = time[last];
+            int a = first[last];
+            int b = second[last];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= last) break;
+                if (child + 1 < last && time[child + 1] < time[child]) child++;
+                if (time[child] >= t) break;
+                set(i, child);
+                i = child;
+            }
+            time[i] = t;
+            first[i] = a;
+            second[i] = b;
+        }
+
+        private void set(int to, int from) {
+            time[to] = time[from];
+            first[to] = first[from];
+            second[to] = second[from];
+        }
+    }
+}
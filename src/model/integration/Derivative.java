@@ -0,0 +1,22 @@
+package model.integration;
+
+/**
+ * Sistema de ecuaciones diferenciales de primer orden dy/dt = f(t, y).
+ * Para los integradores que distinguen posición y velocidad, el estado se organiza
+ * con las posiciones en la primera mitad y las velocidades en la segunda, y la
+ * derivada devuelve velocidades y aceleraciones en ese mismo orden.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface Derivative {
+    /**
+     * Evalúa la derivada del estado.
+     * 
+     * @param t Tiempo en segundos
+     * @param state Estado actual (no debe modificarse)
+     * @param out Arreglo de salida para la derivada, del mismo largo que el estado
+     */
+    void evaluate(double t, double[] state, double[] out);
+}
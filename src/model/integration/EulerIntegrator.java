@@ -0,0 +1,35 @@
+package model.integration;
+
+/**
+ * Método de Euler explícito: y(t + dt) = y(t) + dt * f(t, y).
+ * Primer orden; el más barato y el menos preciso.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public class EulerIntegrator implements Integrator {
+    private final double[] k;
+
+    /**
+     * Construye un integrador de Euler.
+     * 
+     * @param dimension Largo del vector de estado
+     */
+    public EulerIntegrator(int dimension) {
+        this.k = new double[dimension];
+    }
+
+    @Override
+    public double step(Derivative f, double t, double[] state, double dt) {
+        f.evaluate(t, state, k);
+        for (int i = 0; i < state.length; i++) {
+            state[i] += dt * k[i];
+        }
+        return dt;
+    }
+
+    @Override
+    public int evaluationsPerStep() {
+        return 1;
+    }
+}
@@ -0,0 +1,37 @@
+package model.integration;
+
+/**
+ * Método numérico que avanza un estado primitivo un paso de tiempo.
+ * Cada instancia reserva sus arreglos auxiliares al construirse para una dimensión
+ * fija, de modo que los pasos no crean objetos. Las instancias no son seguras para hilos.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public interface Integrator {
+    /**
+     * Avanza el estado en el lugar.
+     * 
+     * @param f Derivada del sistema
+     * @param t Tiempo actual en segundos
+     * @param state Estado a avanzar (se sobrescribe con el nuevo estado)
+     * @param dt Paso solicitado en segundos
+     * @return Paso realmente dado en segundos (menor que dt sólo en métodos adaptativos)
+     */
+    double step(Derivative f, double t, double[] state, double dt);
+
+    /**
+     * Obtiene el número de evaluaciones de la derivada por paso aceptado,
+     * como medida aproximada del costo del método.
+     * 
+     * @return Evaluaciones por paso
+     */
+    int evaluationsPerStep();
+
+    /**
+     * Olvida lo que el método haya guardado de pasos anteriores, para reiniciar una
+     * integración desde otro estado. Los métodos sin memoria entre pasos no hacen nada.
+     */
+    default void reset() {
+    }
+}
@@ -0,0 +1,41 @@
+package model.integration;
+
+/**
+ * Métodos de integración disponibles, ordenados de menor a mayor costo por paso.
+ * Permite elegir en cada ejecución el equilibrio entre precisión y costo.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public enum IntegratorType {
+    /** Euler explícito (orden 1) */
+    EULER,
+    /** Euler semi-implícito (orden 1, simpléctico) */
+    SEMI_IMPLICIT_EULER,
+    /** Verlet de velocidades (orden 2, simpléctico) */
+    VELOCITY_VERLET,
+    /** Runge-Kutta clásico (orden 4) */
+    RK4,
+    /** Dormand-Prince adaptativo con control de error (orden 5) */
+    RK45;
+
+    /** Tolerancia por defecto del método adaptativo */
+    public static final double DEFAULT_TOLERANCE = 1e-8;
+
+    /**
+     * Crea un integrador de este tipo.
+     * 
+     * @param dimension Largo del vector de estado
+     * @param tolerance Tolerancia de error (sólo la usa {@link #RK45})
+     * @return Nuevo integrador
+     */
+    public Integrator create(int dimension, double tolerance) {
+        switch (this) {
+            case EULER: return new EulerIntegrator(dimension);
+            case SEMI_IMPLICIT_EULER: return new SemiImplicitEulerIntegrator(dimension);
+            case VELOCITY_VERLET: return new VelocityVerletIntegrator(dimension);
+            case RK4: return new RK4Integrator(dimension);
+            default: return new RK45Integrator(dimension, tolerance);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package model.integration;
+
+/**
+ * Método adaptativo de Dormand-Prince 5(4) con control del error.
+ * Compara las soluciones de orden 5 y 4 en cada paso: si el error relativo supera
+ * la tolerancia reduce el paso y lo repite, y si sobra precisión sugiere uno mayor
+ * para el siguiente. Avanza con la solución de orden 5.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public class RK45Integrator implements Integrator {
+    private static final double C2 = 1.0 / 5, C3 = 3.0 / 10, C4 = 4.0 / 5, C5 = 8.0 / 9;
+    private static final double A21 = 1.0 / 5;
+    private static final double A31 = 3.0 / 40, A32 = 9.0 / 40;
+    private static final double A41 = 44.0 / 45, A42 = -56.0 / 15, A43 = 32.0 / 9;
+    private static final double A51 = 19372.0 / 6561, A52 = -25360.0 / 2187, A53 = 64448.0 / 6561, A54 = -212.0 / 729;
+    private static final double A61 = 9017.0 / 3168, A62 = -355.0 / 33, A63 = 46732.0 / 5247, A64 = 49.0 / 176, A65 = -5103.0 / 18656;
+    private static final double B1 = 35.0 / 384, B3 = 500.0 / 1113, B4 = 125.0 / 192, B5 = -2187.0 / 6784, B6 = 11.0 / 84;
+    /** Diferencias entre los pesos de orden 5 y los de orden 4 (estimación del error) */
+    private static final double E1 = 71.0 / 57600, E3 = -71.0 / 16695, E4 = 71.0 / 1920,
+            E5 = -17253.0 / 339200, E6 = 22.0 / 525, E7 = -1.0 / 40;
+
+    /** Paso mínimo permitido en segundos; por debajo se acepta el paso aunque exceda la tolerancia */
+    private static final double MIN_STEP = 1e-9;
+
+    private final double tolerance;
+    private final double[] k1, k2, k3, k4, k5, k6, k7, tmp, next;
+
+    /** Paso sugerido para la siguiente llamada (NaN hasta el primer paso) */
+    private double suggestedStep = Double.NaN;
+
+    /**
+     * Construye un integrador adaptativo.
+     * 
+     * @param dimension Largo del vector de estado
+     * @param tolerance Tolerancia de error (absoluta y relativa) por paso
+     */
+    public RK45Integrator(int dimension, double tolerance) {
+        this.tolerance = tolerance;
+        k1 = new double[dimension];
+        k2 = new double[dimension];
+        k3 = new double[dimension];
+        k4 = new double[dimension];
+        k5 = new double[dimension];
+        k6 = new double[dimension];
+        k7 = new double[dimension];
+        tmp = new double[dimension];
+        next = new double[dimension];
+    }
+
+    @Override
+    public double step(Derivative f, double t, double[] state, double dt) {
+        int n = state.length;
+        double h = Double.isNaN(suggestedStep) ? dt : Math.min(dt, suggestedStep);
+
+        while (true) {
+            f.evaluate(t, state, k1);
+            for (int i = 0; i < n; i++) tmp[i] = state[i] + h * A21 * k1[i];
+            f.evaluate(t + C2 * h, tmp, k2);
+            for (int i = 0; i < n; i++) tmp[i] = state[i] + h * (A31 * k1[i] + A32 * k2[i]);
+            f.evaluate(t + C3 * h, tmp, k3);
+            for (int i = 0; i < n; i++) tmp[i] = state[i] + h * (A41 * k1[i] + A42 * k2[i] + A43 * k3[i]);
+            f.evaluate(t + C4 * h, tmp, k4);
+            for (int i = 0; i < n; i++) tmp[i] = state[i] + h * (A51 * k1[i] + A52 * k2[i] + A53 * k3[i] + A54 * k4[i]);
+            f.evaluate(t + C5 * h, tmp, k5);
+            for (int i = 0; i < n; i++) tmp[i] = state[i] + h * (A61 * k1[i] + A62 * k2[i] + A63 * k3[i] + A64 * k4[i] + A65 * k5[i]);
+            f.evaluate(t + h, tmp, k6);
+            for (int i = 0; i < n; i++) next[i] = state[i] + h * (B1 * k1[i] + B3 * k3[i] + B4 * k4[i] + B5 * k5[i] + B6 * k6[i]);
+            f.evaluate(t + h, next, k7);
+
+            double error = 0;
+            for (int i = 0; i < n; i++) {
+                double e = h * (E1 * k1[i] + E3 * k3[i] + E4 * k4[i] + E5 * k5[i] + E6 * k6[i] + E7 * k7[i]);
+                double scale = tolerance * (1 + Math.max(Math.abs(state[i]), Math.abs(next[i])));
+                error = Math.max(error, Math.abs(e) / scale);
+            }
+
+            if (error <= 1 || h <= MIN_STEP) {
+                System.arraycopy(next, 0, state, 0, n);
+                double factor = error == 0 ? 5 : Math.min(5, 0.9 * Math.pow(error, -0.2));
+                suggestedStep = h * factor;
+                return h;
+            }
+            h = Math.max(MIN_STEP, h * Math.max(0.2, 0.9 * Math.pow(error, -0.2)));
+        }
+    }
+
+    /**
+     * Obtiene el paso sugerido por el control de error para la siguiente llamada.
+     * 
+     * @return Paso sugerido en segundos (NaN antes del primer paso)
+     */
+    public double getSuggestedStep() {
+        return suggestedStep;
+    }
+
+    /**
+     * Olvida el paso sugerido, para reiniciar una integración desde otro estado.
+     */
+    @Override
+    public void reset() {
+        suggestedStep = Double.NaN;
+    }
+
+    @Override
+    public int evaluationsPerStep() {
+        return 7;
+    }
+}
@@ -0,0 +1,49 @@
+package model.integration;
+
+/**
+ * Método clásico de Runge-Kutta de cuarto orden.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public class RK4Integrator implements Integrator {
+    private final double[] k1;
+    private final double[] k2;
+    private final double[] k3;
+    private final double[] k4;
+    private final double[] tmp;
+
+    /**
+     * Construye un integrador RK4.
+     * 
+     * @param dimension Largo del vector de estado
+     */
+    public RK4Integrator(int dimension) {
+        k1 = new double[dimension];
+        k2 = new double[dimension];
+        k3 = new double[dimension];
+        k4 = new double[dimension];
+        tmp = new double[dimension];
+    }
+
+    @Override
+    public double step(Derivative f, double t, double[] state, double dt) {
+        int n = state.length;
+        f.evaluate(t, state, k1);
+        for (int i = 0; i < n; i++) tmp[i] = state[i] + 0.5 * dt * k1[i];
+        f.evaluate(t + 0.5 * dt, tmp, k2);
+        for (int i = 0; i < n; i++) tmp[i] = state[i] + 0.5 * dt * k2[i];
+        f.evaluate(t + 0.5 * dt, tmp, k3);
+        for (int i = 0; i < n; i++) tmp[i] = state[i] + dt * k3[i];
+        f.evaluate(t + dt, tmp, k4);
+        for (int i = 0; i < n; i++) {
+            state[i] += dt / 6.0 * (k1[i] + 2 * k2[i] + 2 * k3[i] + k4[i]);
+        }
+        return dt;
+    }
+
+    @Override
+    public int evaluationsPerStep() {
+        return 4;
+    }
+}
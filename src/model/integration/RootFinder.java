@@ -0,0 +1,59 @@
+package model.integration;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Búsqueda de raíces en un intervalo que ya encierra un cambio de signo.
+ * Usa el método de Illinois (regula falsi modificada), que converge de forma
+ * superlineal y nunca sale del intervalo.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public final class RootFinder {
+    /** Número máximo de iteraciones antes de devolver la mejor aproximación */
+    private static final int MAX_ITERATIONS = 100;
+
+    private RootFinder() {
+    }
+
+    /**
+     * Encuentra el punto donde la función cambia de signo dentro de [lo, hi].
+     * 
+     * @param f Función a anular
+     * @param lo Extremo inferior del intervalo
+     * @param hi Extremo superior del intervalo
+     * @param tolerance Ancho de intervalo aceptable
+     * @return Abscisa de la raíz
+     * @throws IllegalArgumentException si f(lo) y f(hi) tienen el mismo signo
+     */
+    public static double findRoot(DoubleUnaryOperator f, double lo, double hi, double tolerance) {
+        double fLo = f.applyAsDouble(lo);
+        double fHi = f.applyAsDouble(hi);
+        if (fLo == 0) return lo;
+        if (fHi == 0) return hi;
+        if ((fLo > 0) == (fHi > 0)) {
+            throw new IllegalArgumentException("El intervalo no encierra una raíz.");
+        }
+
+        int side = 0;
+        double x = lo;
+        for (int i = 0; i < MAX_ITERATIONS && hi - lo > tolerance; i++) {
+            x = (lo * fHi - hi * fLo) / (fHi - fLo);
+            double fx = f.applyAsDouble(x);
+            if (fx == 0) return x;
+            if ((fx > 0) == (fHi > 0)) {
+                hi = x;
+                fHi = fx;
+                if (side == -1) fLo *= 0.5;
+                side = -1;
+            } else {
+                lo = x;
+                fLo = fx;
+                if (side == 1) fHi *= 0.5;
+                side = 1;
+            }
+        }
+        return x;
+    }
+}
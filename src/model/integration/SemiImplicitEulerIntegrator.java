@@ -0,0 +1,42 @@
+package model.integration;
+
+/**
+ * Método de Euler semi-implícito (simpléctico): primero actualiza las velocidades
+ * con la aceleración actual y luego las posiciones con las velocidades nuevas.
+ * Primer orden, pero conserva mejor la energía que Euler explícito.
+ * Requiere el estado organizado como [posiciones..., velocidades...].
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public class SemiImplicitEulerIntegrator implements Integrator {
+    private final double[] k;
+
+    /**
+     * Construye un integrador de Euler semi-implícito.
+     * 
+     * @param dimension Largo del vector de estado (par)
+     */
+    public SemiImplicitEulerIntegrator(int dimension) {
+        if (dimension % 2 != 0) {
+            throw new IllegalArgumentException("El estado debe tener posiciones y velocidades.");
+        }
+        this.k = new double[dimension];
+    }
+
+    @Override
+    public double step(Derivative f, double t, double[] state, double dt) {
+        int half = state.length / 2;
+        f.evaluate(t, state, k);
+        for (int i = 0; i < half; i++) {
+            state[half + i] += dt * k[half + i];
+            state[i] += dt * state[half + i];
+        }
+        return dt;
+    }
+
+    @Override
+    public int evaluationsPerStep() {
+        return 1;
+    }
+}
@@ -0,0 +1,52 @@
+package model.integration;
+
+/**
+ * Método de Verlet de velocidades: x += v*dt + a*dt²/2 y v += (a0 + a1)*dt/2.
+ * Segundo orden y simpléctico; exacto para aceleración constante. Cuando la
+ * aceleración depende de la velocidad (arrastre), a1 se evalúa con una velocidad
+ * predicha v + a0*dt.
+ * Requiere el estado organizado como [posiciones..., velocidades...].
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public class VelocityVerletIntegrator implements Integrator {
+    private final double[] a0;
+    private final double[] a1;
+
+    /**
+     * Construye un integrador de Verlet de velocidades.
+     * 
+     * @param dimension Largo del vector de estado (par)
+     */
+    public VelocityVerletIntegrator(int dimension) {
+        if (dimension % 2 != 0) {
+            throw new IllegalArgumentException("El estado debe tener posiciones y velocidades.");
+        }
+        this.a0 = new double[dimension];
+        this.a1 = new double[dimension];
+    }
+
+    @Override
+    public double step(Derivative f, double t, double[] state, double dt) {
+        int half = state.length / 2;
+        f.evaluate(t, state, a0);
+        for (int i = 0; i < half; i++) {
+            double v = state[half + i];
+            double a = a0[half + i];
+            state[i] += v * dt + 0.5 * a * dt * dt;
+            state[half + i] = v + a * dt;
+        }
+        f.evaluate(t + dt, state, a1);
+        for (int i = 0; i < half; i++) {
+            // deshacer la predicción y aplicar el promedio de aceleraciones
+            state[half + i] += 0.5 * (a1[half + i] - a0[half + i]) * dt;
+        }
+        return dt;
+    }
+
+    @Override
+    public int evaluationsPerStep() {
+        return 2;
+    }
+}
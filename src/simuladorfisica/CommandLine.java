@@ -0,0 +1,286 @@
+package simuladorfisica;
+
+import export.BinaryColumnWriter;
+import export.CsvWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import sweep.FreeFallSweep;
+import sweep.MRUSweep;
+import sweep.ParameterSweep;
+import sweep.ResultStore;
+import sweep.SweepRange;
+import sweep.SweepSink;
+
+/**
+ * Modo de línea de comandos: ejecuta casos de caída libre o MRU (uno solo o un barrido)
+ * sin interfaz gráfica y sin inicializar AWT, de modo que funciona con
+ * {@code java.awt.headless=true} en servidores sin pantalla.
+ * <p>
+ * Un caso individual es un barrido con rangos de un solo punto. Sin {@code --out} los
+ * resultados se escriben en la salida estándar como CSV, en el orden de la malla; con
+ * {@code --out} el formato se elige por la extensión del archivo y el barrido se evalúa
+ * en paralelo.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+final class CommandLine {
+    /** Código de salida: ejecución correcta */
+    static final int EXIT_OK = 0;
+
+    /** Código de salida: error de lectura o escritura */
+    static final int EXIT_IO_ERROR = 1;
+
+    /** Código de salida: argumentos inválidos */
+    static final int EXIT_USAGE = 2;
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Uso:",
+            "  java -jar SimuladorFisica.jar caida --h0 RANGO [--v0 RANGO] [--out ARCHIVO]",
+            "  java -jar SimuladorFisica.jar mru --x0 RANGO --v RANGO --t RANGO [--xf X] [--out ARCHIVO]",
+            "",
+            "RANGO es un valor (10) o inicio:fin:puntos (0:100:101), extremos incluidos.",
+            "caida   altura inicial h0 >= 0 en m y velocidad inicial v0 en m/s (por omisión 0).",
+            "mru     posición inicial x0 en m, velocidad v en m/s, tiempo t en s y",
+            "        posición destino xf en m para el tiempo de llegada (opcional).",
+            "",
+            "Sin --out los resultados se escriben como CSV en la salida estándar.",
+            "Con --out el formato se elige por la extensión: .csv (texto),",
+            ".sfcol (columnas binarias) o .sfres (almacén mapeado en memoria).",
+            "",
+            "Códigos de salida: 0 correcto, 1 error de E/S, 2 argumentos inválidos.");
+
+    private CommandLine() {
+    }
+
+    /**
+     * Ejecuta la línea de comandos.
+     * 
+     * @param args Argumentos del programa (el primero es el subcomando)
+     * @return Código de salida del proceso
+     */
+    static int run(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        return run(args, System.out, System.err);
+    }
+
+    /**
+     * Ejecuta la línea de comandos con flujos de salida explícitos.
+     * 
+     * @param args Argumentos del programa (el primero es el subcomando)
+     * @param out Salida de resultados
+     * @param err Salida de mensajes de error
+     * @return Código de salida del proceso
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        String command = args[0].toLowerCase(Locale.ROOT);
+        if (command.equals("-h") || command.equals("--help") || command.equals("ayuda")) {
+            out.println(USAGE);
+            return EXIT_OK;
+        }
+
+        ParameterSweep sweep;
+        Path target;
+        try {
+            Options options = new Options(args);
+            switch (command) {
+                case "caida" -> {
+                    SweepRange heights = options.range("--h0", null);
+                    if (heights.getStart() < 0 || heights.getEnd() < 0) {
+                        throw new IllegalArgumentException("La altura inicial no puede ser negativa.");
+                    }
+                    sweep = new FreeFallSweep(heights, options.range("--v0", SweepRange.of(0)));
+                }
+                case "mru" -> sweep = new MRUSweep(options.range("--x0", null), options.range("--v", null),
+                        options.range("--t", null), options.number("--xf", Double.NaN));
+                default -> throw new IllegalArgumentException("Subcomando desconocido: " + args[0]);
+            }
+            String file = options.text("--out");
+            target = file != null ? Path.of(file) : null;
+            options.checkAllUsed();
+        } catch (IllegalArgumentException e) {
+            err.println("Error: " + e.getMessage());
+            err.println(USAGE);
+            return EXIT_USAGE;
+        }
+
+        try {
+            if (target == null) {
+                writeCsv(sweep, out);
+            } else {
+                writeFile(sweep, target);
+            }
+            return EXIT_OK;
+        } catch (IOException | UncheckedIOException e) {
+            err.println("Error de E/S: " + e.getMessage());
+            return EXIT_IO_ERROR;
+        }
+    }
+
+    /**
+     * Escribe el barrido como CSV en la salida estándar. Se evalúa en un solo hilo para
+     * que las filas salgan en el orden de la malla y empiecen a escribirse enseguida.
+     * 
+     * @param sweep Barrido a ejecutar
+     * @param out Salida de resultados
+     * @throws IOException si falla la escritura
+     */
+    private static void writeCsv(ParameterSweep sweep, PrintStream out) throws IOException {
+        out.flush();
+        CsvWriter writer = new CsvWriter(Channels.newChannel(out), sweep.columnNames());
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            sweep.run(pool, writer);
+        } finally {
+            pool.shutdown();
+            writer.close();
+        }
+    }
+
+    /**
+     * Escribe el barrido en un archivo cuyo formato se elige por la extensión.
+     * 
+     * @param sweep Barrido a ejecutar
+     * @param path Archivo de destino (.csv, .sfcol o .sfres)
+     * @throws IOException si falla la escritura
+     */
+    private static void writeFile(ParameterSweep sweep, Path path) throws IOException {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".sfres")) {
+            runInto(sweep, ResultStore.create(path, sweep));
+        } else if (name.endsWith(".sfcol")) {
+            runInto(sweep, new BinaryColumnWriter(path, sweep.columnNames(), sweep.size()));
+        } else {
+            runInto(sweep, new CsvWriter(path, sweep.columnNames()));
+        }
+    }
+
+    /**
+     * Ejecuta el barrido sobre un destino que se cierra al terminar, aunque falle.
+     * 
+     * @param <S> Tipo del destino, que además de recibir bloques se puede cerrar
+     * @param sweep Barrido a ejecutar
+     * @param sink Destino recién abierto
+     * @throws IOException si falla la escritura o el cierre
+     */
+    private static <S extends SweepSink & Closeable> void runInto(ParameterSweep sweep, S sink) throws IOException {
+        try (sink) {
+            sweep.run(sink);
+        }
+    }
+
+    /**
+     * Opciones de la forma {@code --nombre valor} que siguen al subcomando.
+     */
+    private static final class Options {
+        private final String[] names;
+        private final String[] values;
+        private final boolean[] used;
+
+        Options(String[] args) {
+            if (args.length % 2 == 0) {
+                throw new IllegalArgumentException("Cada opción debe ir seguida de un valor.");
+            }
+            int count = (args.length - 1) / 2;
+            names = new String[count];
+            values = new String[count];
+            used = new boolean[count];
+            for (int i = 0; i < count; i++) {
+                names[i] = args[1 + 2 * i];
+                values[i] = args[2 + 2 * i];
+                if (!names[i].startsWith("--")) {
+                    throw new IllegalArgumentException("Se esperaba una opción y se encontró: " + names[i]);
+                }
+            }
+        }
+
+        /**
+         * Obtiene el texto de una opción y la marca como usada.
+         * 
+         * @param name Nombre de la opción
+         * @return Valor, o null si no se indicó
+         */
+        String text(String name) {
+            String found = null;
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    if (found != null) {
+                        throw new IllegalArgumentException("Opción repetida: " + name);
+                    }
+                    found = values[i];
+                    used[i] = true;
+                }
+            }
+            return found;
+        }
+
+        /**
+         * Lee un número.
+         * 
+         * @param name Nombre de la opción
+         * @param fallback Valor si la opción no se indicó
+         * @return Valor leído
+         */
+        double number(String name, double fallback) {
+            String text = text(name);
+            return text != null ? parse(name, text) : fallback;
+        }
+
+        /**
+         * Lee un rango con el formato {@code valor} o {@code inicio:fin:puntos}.
+         * 
+         * @param name Nombre de la opción
+         * @param fallback Rango si la opción no se indicó, o null si es obligatoria
+         * @return Rango leído
+         */
+        SweepRange range(String name, SweepRange fallback) {
+            String text = text(name);
+            if (text == null) {
+                if (fallback == null) {
+                    throw new IllegalArgumentException("Falta la opción obligatoria " + name + ".");
+                }
+                return fallback;
+            }
+            String[] parts = text.split(":", -1);
+            if (parts.length == 1) {
+                return SweepRange.of(parse(name, parts[0]));
+            }
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Rango inválido en " + name + ": " + text);
+            }
+            int steps;
+            try {
+                steps = Integer.parseInt(parts[2].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Número de puntos inválido en " + name + ": " + parts[2]);
+            }
+            return new SweepRange(parse(name, parts[0]), parse(name, parts[1]), steps);
+        }
+
+        /**
+         * Verifica que no quedaron opciones desconocidas.
+         */
+        void checkAllUsed() {
+            for (int i = 0; i < names.length; i++) {
+                if (!used[i]) {
+                    throw new IllegalArgumentException("Opción desconocida: " + names[i]);
+                }
+            }
+        }
+
+        private static double parse(String name, String text) {
+            try {
+                double value = Double.parseDouble(text.trim());
+                if (Double.isFinite(value)) return value;
+            } catch (NumberFormatException ignored) {
+            }
+            throw new IllegalArgumentException("Valor inválido en " + name + ": " + text);
+        }
+    }
+}
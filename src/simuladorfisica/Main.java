@@ -1,13 +1,18 @@
 package simuladorfisica;
 
 import controller.MainController;
+import java.util.function.Consumer;
 import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
+import util.StartupMetrics;
 import view.MainView;
 
 /**
  * Clase principal de la aplicación Simulador de Física.
- * Inicializa la interfaz gráfica y configura el Look and Feel del sistema.
+ * Sin argumentos inicializa la interfaz gráfica y configura el Look and Feel del
+ * sistema; con argumentos ejecuta el modo de línea de comandos ({@link CommandLine}),
+ * que no carga AWT ni Swing. Los argumentos {@code --entrenar} y {@code --medir-arranque}
+ * abren la interfaz en las corridas de arranque de {@link StartupProfile}.
  * 
  * @author SimuladorFisica
  * @version 1.0
@@ -16,13 +21,33 @@ public class Main {
 
     /**
      * Punto de entrada principal de la aplicación.
-     * Configura el Look and Feel del sistema y crea la vista principal
-     * en el hilo de eventos de Swing (EDT).
+     * Si se reciben argumentos ejecuta la línea de comandos y termina el proceso con su
+     * código de salida; si no, abre la interfaz gráfica.
      * 
-     * @param args Argumentos de línea de comandos (no utilizados)
+     * @param args Argumentos de línea de comandos (vacío para abrir la interfaz gráfica;
+     *             {@code --help} muestra el uso del modo sin interfaz)
      */
     public static void main(String[] args) {
+        if (args.length == 1 && args[0].equals(StartupProfile.TRAIN)) {
+            launchGui(StartupProfile::train);
+        } else if (args.length == 1 && args[0].equals(StartupProfile.MEASURE)) {
+            launchGui(view -> StartupProfile.measure());
+        } else if (args.length > 0) {
+            System.exit(CommandLine.run(args));
+        } else {
+            launchGui(null);
+        }
+    }
 
+    /**
+     * Configura el Look and Feel del sistema y crea la vista principal
+     * en el hilo de eventos de Swing (EDT). Una vez visible, empieza la precarga
+     * de recursos y ventanas en segundo plano.
+     * 
+     * @param afterShow Acción a ejecutar en el EDT con la vista ya visible (puede ser null)
+     */
+    private static void launchGui(Consumer<MainView> afterShow) {
+        StartupMetrics.begin(MainView.METRICS_NAME);
         try {
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
         } catch (Exception ignored) {
@@ -30,8 +55,12 @@ public class Main {
 
         SwingUtilities.invokeLater(() -> {
             MainView mainView = new MainView();
-            new MainController(mainView);
+            MainController controller = new MainController(mainView);
             mainView.setVisible(true);
+            controller.warmUp();
+            if (afterShow != null) {
+                afterShow.accept(mainView);
+            }
         });
     }
 }
@@ -0,0 +1,92 @@
+package simuladorfisica;
+
+import java.awt.Window;
+import javax.swing.Timer;
+import util.StartupMetrics;
+import view.FreeFallView;
+import view.MRUView;
+import view.MainView;
+
+/**
+ * Corridas de arranque usadas por el build para el caché AOT de la JVM
+ * ({@code ant aot-cache} y {@code ant startup-report}).
+ * <p>
+ * La corrida de entrenamiento recorre lo que hace un usuario típico: muestra la vista
+ * principal, abre cada simulación, la inicia y la cierra, y termina el proceso para que
+ * la JVM guarde las clases cargadas. La corrida de medición termina apenas la vista
+ * principal pinta su primer cuadro e informa el tiempo desde el inicio de la JVM.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+final class StartupProfile {
+    /** Argumento que inicia la corrida de entrenamiento */
+    static final String TRAIN = "--entrenar";
+
+    /** Argumento que inicia la corrida de medición del arranque */
+    static final String MEASURE = "--medir-arranque";
+
+    /** Pausa entre los pasos del entrenamiento en milisegundos */
+    private static final int STEP_DELAY = 600;
+
+    private StartupProfile() {
+    }
+
+    /**
+     * Recorre ambas simulaciones y termina el proceso. Cada paso corre en su propio
+     * tick del temporizador, para que la ventana abierta en el paso anterior llegue a
+     * mostrarse y a pintar.
+     * 
+     * @param view Vista principal ya visible
+     */
+    static void train(MainView view) {
+        Runnable[] steps = {
+            view.getBtnFreeFall()::doClick,
+            () -> showing(FreeFallView.class).getBtnSimular().doClick(),
+            () -> showing(FreeFallView.class).getBtnDetener().doClick(),
+            () -> showing(FreeFallView.class).dispose(),
+            view.getBtnMRU()::doClick,
+            () -> showing(MRUView.class).getBtnRun().doClick(),
+            () -> showing(MRUView.class).dispose(),
+            () -> System.exit(0)
+        };
+        int[] next = {0};
+        Timer timer = new Timer(STEP_DELAY, e -> {
+            if (next[0] < steps.length) {
+                steps[next[0]++].run();
+            }
+        });
+        timer.start();
+    }
+
+    /**
+     * Espera el primer cuadro de la vista principal, escribe la medición en la salida
+     * estándar y termina el proceso.
+     */
+    static void measure() {
+        Timer timer = new Timer(10, e -> {
+            double millis = StartupMetrics.lastFrameMillis(MainView.METRICS_NAME);
+            if (Double.isNaN(millis)) return;
+            System.out.printf("Primer cuadro de la ventana principal: %d ms desde el inicio de la JVM (%.1f ms desde main)%n",
+                    StartupMetrics.lastFrameSinceJvmStart(MainView.METRICS_NAME), millis);
+            System.exit(0);
+        });
+        timer.start();
+    }
+
+    /**
+     * Busca la ventana visible de un tipo.
+     * 
+     * @param type Clase de la ventana
+     * @return Ventana visible
+     * @throws IllegalStateException si no hay ninguna visible
+     */
+    private static <W extends Window> W showing(Class<W> type) {
+        for (Window window : Window.getWindows()) {
+            if (type.isInstance(window) && window.isShowing()) {
+                return type.cast(window);
+            }
+        }
+        throw new IllegalStateException("No hay ninguna ventana visible de tipo " + type.getSimpleName());
+    }
+}
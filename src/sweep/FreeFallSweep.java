@@ -0,0 +1,84 @@
+package sweep;
+
+import model.FreeFallModel;
+
+/**
+ * Barrido de caída libre sobre una malla de alturas y velocidades iniciales.
+ * Para cada par (h0, v0) calcula el tiempo hasta el suelo y la velocidad de impacto.
+ * El caso de índice {@code i * v0Steps + j} corresponde a la altura i y la velocidad j.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public class FreeFallSweep extends ParameterSweep {
+    /** Columna de la altura inicial en metros */
+    public static final int COL_H0 = 0;
+    /** Columna de la velocidad inicial en m/s */
+    public static final int COL_V0 = 1;
+    /** Columna del tiempo hasta el suelo en segundos (-1 si no lo toca) */
+    public static final int COL_TIME_TO_GROUND = 2;
+    /** Columna de la velocidad de impacto en m/s */
+    public static final int COL_IMPACT_VELOCITY = 3;
+
+    private static final String[] COLUMNS = {"h0", "v0", "timeToGround", "impactVelocity"};
+
+    /** Rango de alturas iniciales */
+    private final SweepRange heights;
+    
+    /** Rango de velocidades iniciales */
+    private final SweepRange velocities;
+
+    /**
+     * Construye un nuevo barrido de caída libre.
+     * 
+     * @param heights Rango de alturas iniciales en metros
+     * @param velocities Rango de velocidades iniciales en m/s
+     */
+    public FreeFallSweep(SweepRange heights, SweepRange velocities) {
+        this.heights = heights;
+        this.velocities = velocities;
+    }
+
+    @Override
+    public String[] columnNames() {
+        return COLUMNS.clone();
+    }
+
+    @Override
+    public long size() {
+        return (long) heights.getSteps() * velocities.getSteps();
+    }
+
+    @Override
+    public long[] shape() {
+        return new long[] {heights.getSteps(), velocities.getSteps()};
+    }
+
+    @Override
+    protected void evaluate(SweepChunk chunk) {
+        double[] h0s = chunk.column(COL_H0);
+        double[] v0s = chunk.column(COL_V0);
+        double[] times = chunk.column(COL_TIME_TO_GROUND);
+        double[] impacts = chunk.column(COL_IMPACT_VELOCITY);
+
+        int vSteps = velocities.getSteps();
+        long first = chunk.firstIndex();
+        int i = (int) (first / vSteps);
+        int j = (int) (first % vSteps);
+        double h0 = heights.valueAt(i);
+
+        for (int row = 0; row < chunk.size(); row++) {
+            double v0 = velocities.valueAt(j);
+            FreeFallModel model = new FreeFallModel(h0, v0, FreeFallModel.G);
+            h0s[row] = h0;
+            v0s[row] = v0;
+            times[row] = model.timeToGround();
+            impacts[row] = model.impactVelocity();
+
+            if (++j == vSteps) {
+                j = 0;
+                h0 = heights.valueAt(++i);
+            }
+        }
+    }
+}
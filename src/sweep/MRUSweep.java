@@ -0,0 +1,114 @@
+package sweep;
+
+import model.MRUModel;
+
+/**
+ * Barrido de MRU sobre una malla de posiciones iniciales, velocidades y tiempos.
+ * Para cada caso calcula la posición y el desplazamiento en el tiempo dado, y el
+ * tiempo necesario para llegar a una posición destino común.
+ * El caso de índice {@code (i * vSteps + j) * tSteps + k} corresponde a x0 i, v j y t k.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public class MRUSweep extends ParameterSweep {
+    /** Columna de la posición inicial en metros */
+    public static final int COL_X0 = 0;
+    /** Columna de la velocidad en m/s */
+    public static final int COL_V = 1;
+    /** Columna del tiempo evaluado en segundos */
+    public static final int COL_T = 2;
+    /** Columna de la posición en el tiempo evaluado en metros */
+    public static final int COL_POSITION = 3;
+    /** Columna del desplazamiento en el tiempo evaluado en metros */
+    public static final int COL_DISPLACEMENT = 4;
+    /** Columna del tiempo para llegar al destino en segundos */
+    public static final int COL_TIME_TO_REACH = 5;
+
+    private static final String[] COLUMNS = {"x0", "v", "t", "position", "displacement", "timeToReach"};
+
+    /** Rango de posiciones iniciales */
+    private final SweepRange positions;
+    
+    /** Rango de velocidades */
+    private final SweepRange velocities;
+    
+    /** Rango de tiempos */
+    private final SweepRange times;
+    
+    /** Posición destino para {@link MRUModel#timeToReach(double)} */
+    private final double target;
+
+    /**
+     * Construye un nuevo barrido de MRU.
+     * 
+     * @param positions Rango de posiciones iniciales en metros
+     * @param velocities Rango de velocidades en m/s
+     * @param times Rango de tiempos en segundos
+     * @param target Posición destino en metros
+     */
+    public MRUSweep(SweepRange positions, SweepRange velocities, SweepRange times, double target) {
+        this.positions = positions;
+        this.velocities = velocities;
+        this.times = times;
+        this.target = target;
+    }
+
+    @Override
+    public String[] columnNames() {
+        return COLUMNS.clone();
+    }
+
+    @Override
+    public long size() {
+        return (long) positions.getSteps() * velocities.getSteps() * times.getSteps();
+    }
+
+    @Override
+    public long[] shape() {
+        return new long[] {positions.getSteps(), velocities.getSteps(), times.getSteps()};
+    }
+
+    @Override
+    protected void evaluate(SweepChunk chunk) {
+        double[] x0s = chunk.column(COL_X0);
+        double[] vs = chunk.column(COL_V);
+        double[] ts = chunk.column(COL_T);
+        double[] xs = chunk.column(COL_POSITION);
+        double[] ds = chunk.column(COL_DISPLACEMENT);
+        double[] reach = chunk.column(COL_TIME_TO_REACH);
+
+        int vSteps = velocities.getSteps();
+        int tSteps = times.getSteps();
+        long first = chunk.firstIndex();
+        int k = (int) (first % tSteps);
+        long rest = first / tSteps;
+        int j = (int) (rest % vSteps);
+        int i = (int) (rest / vSteps);
+
+        MRUModel model = new MRUModel(positions.valueAt(i), velocities.valueAt(j));
+        double timeToReach = model.timeToReach(target);
+
+        for (int row = 0; row < chunk.size(); row++) {
+            double t = times.valueAt(k);
+            x0s[row] = model.getX0();
+            vs[row] = model.getVelocity();
+            ts[row] = t;
+            xs[row] = model.positionAt(t);
+            ds[row] = model.displacementAt(t);
+            reach[row] = timeToReach;
+
+            if (++k == tSteps) {
+                k = 0;
+                if (++j == vSteps) {
+                    j = 0;
+                    i++;
+                }
+                if (i < positions.getSteps()) {
+                    model = new MRUModel(positions.valueAt(i), velocities.valueAt(j));
+                    timeToReach = model.timeToReach(target);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package sweep;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Base para barridos de parámetros sin interfaz gráfica.
+ * Divide la malla de casos en tramos que se evalúan en paralelo sobre un
+ * {@link ForkJoinPool} y entrega los resultados por bloques a un {@link SweepSink},
+ * de modo que la memoria usada no depende del tamaño de la malla.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public abstract class ParameterSweep {
+    /** Número de casos por bloque entregado al destino */
+    public static final int CHUNK_SIZE = 4096;
+
+    /**
+     * Obtiene los nombres de las columnas que produce el barrido.
+     * 
+     * @return Nombres de columnas en orden
+     */
+    public abstract String[] columnNames();
+
+    /**
+     * Obtiene el número total de casos de la malla.
+     * 
+     * @return Número de casos
+     */
+    public abstract long size();
+
+    /**
+     * Obtiene las dimensiones de la malla, de la más lenta a la más rápida. El índice
+     * de un caso es el índice en orden por filas de sus coordenadas en la malla.
+     * 
+     * @return Número de pasos de cada dimensión (por omisión una sola dimensión)
+     */
+    public long[] shape() {
+        return new long[] {size()};
+    }
+
+    /**
+     * Evalúa un tramo contiguo de casos y escribe los resultados en el bloque.
+     * 
+     * @param chunk Bloque de destino, ya preparado con el índice inicial y el tamaño
+     */
+    protected abstract void evaluate(SweepChunk chunk);
+
+    /**
+     * Ejecuta el barrido en el pool común de Fork/Join.
+     * 
+     * @param sink Destino de los resultados
+     */
+    public void run(SweepSink sink) {
+        run(ForkJoinPool.commonPool(), sink);
+    }
+
+    /**
+     * Ejecuta el barrido completo y espera a que termine.
+     * 
+     * @param pool Pool de hilos donde repartir el trabajo
+     * @param sink Destino de los resultados
+     */
+    public void run(ForkJoinPool pool, SweepSink sink) {
+        long total = size();
+        if (total == 0) return;
+        ThreadLocal<SweepChunk> chunks = ThreadLocal.withInitial(() -> new SweepChunk(columnNames(), CHUNK_SIZE));
+        pool.invoke(new SweepTask(0, total, sink, chunks));
+    }
+
+    /**
+     * Tarea que divide un tramo de la malla por mitades hasta llegar al tamaño de bloque.
+     */
+    private final class SweepTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long from;
+        private final long to;
+        private final transient SweepSink sink;
+        private final transient ThreadLocal<SweepChunk> chunks;
+
+        SweepTask(long from, long to, SweepSink sink, ThreadLocal<SweepChunk> chunks) {
+            this.from = from;
+            this.to = to;
+            this.sink = sink;
+            this.chunks = chunks;
+        }
+
+        @Override
+        protected void compute() {
+            long length = to - from;
+            if (length <= CHUNK_SIZE) {
+                SweepChunk chunk = chunks.get();
+                chunk.reset(from, (int) length);
+                evaluate(chunk);
+                sink.accept(chunk);
+                return;
+            }
+            // Cortar en múltiplos del bloque para que sólo el último quede incompleto
+            long middle = from + ((length / CHUNK_SIZE + 1) / 2) * CHUNK_SIZE;
+            invokeAll(new SweepTask(from, middle, sink, chunks),
+                      new SweepTask(middle, to, sink, chunks));
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package sweep;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Almacén de resultados de barridos en un archivo mapeado en memoria.
+ * <p>
+ * Cada caso de la malla ocupa un registro de ancho fijo (un float64 little-endian por
+ * columna), ubicado en {@code dataOffset + índice * anchoDeRegistro}. El archivo se
+ * mapea con {@link FileChannel#map} en tramos de hasta 1 GB que nunca cortan un registro,
+ * así que leer o escribir un caso es un acceso directo por índice y el sistema operativo
+ * sólo carga las páginas que se tocan: un resultado más grande que la memoria se puede
+ * recorrer, y volver a abrirlo sólo lee la cabecera.
+ * <p>
+ * Formato de la cabecera:
+ * <pre>
+ *   8 bytes   firma "SFRES1\0\0"
+ *   int32     número de columnas C
+ *   int32     número de dimensiones D
+ *   int64     número de registros N
+ *   int64     posición de los datos
+ *   D veces   int64 pasos de cada dimensión
+ *   C veces   int16 longitud + nombre de la columna en UTF-8
+ *   relleno   ceros hasta un múltiplo de 8
+ * </pre>
+ * Implementa {@link SweepSink}: los bloques de un barrido se escriben directamente en su
+ * lugar desde varios hilos, porque cada uno toca registros distintos.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public final class ResultStore implements SweepSink, Closeable {
+    /** Firma al inicio del archivo */
+    private static final byte[] MAGIC = {'S', 'F', 'R', 'E', 'S', '1', 0, 0};
+
+    /** Tamaño máximo de cada tramo mapeado */
+    private static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+    /** Nombres de las columnas */
+    private final String[] columnNames;
+    
+    /** Dimensiones de la malla */
+    private final long[] shape;
+    
+    /** Número de registros */
+    private final long size;
+    
+    /** Bytes por registro */
+    private final int recordBytes;
+    
+    /** Registros por tramo mapeado */
+    private final long recordsPerSegment;
+    
+    /** Tramos mapeados del archivo de datos (null después de {@link #close()}) */
+    private MappedByteBuffer[] segments;
+    
+    /** Indica si el almacén se abrió para escritura */
+    private final boolean writable;
+
+    /**
+     * Construye el almacén sobre un archivo ya dimensionado.
+     * 
+     * @param channel Canal del archivo
+     * @param mode Modo de mapeo
+     * @param columnNames Nombres de las columnas
+     * @param shape Dimensiones de la malla
+     * @param size Número de registros
+     * @param dataOffset Posición de los datos en el archivo
+     * @throws IOException si no se puede mapear el archivo
+     */
+    private ResultStore(FileChannel channel, FileChannel.MapMode mode, String[] columnNames, long[] shape,
+                        long size, long dataOffset) throws IOException {
+        this.columnNames = columnNames;
+        this.shape = shape;
+        this.size = size;
+        this.recordBytes = columnNames.length * Double.BYTES;
+        this.recordsPerSegment = Math.max(1, MAX_SEGMENT_BYTES / recordBytes);
+        this.writable = mode == FileChannel.MapMode.READ_WRITE;
+
+        int count = (int) ((size + recordsPerSegment - 1) / recordsPerSegment);
+        segments = new MappedByteBuffer[count];
+        for (int s = 0; s < count; s++) {
+            long first = s * recordsPerSegment;
+            long records = Math.min(recordsPerSegment, size - first);
+            segments[s] = channel.map(mode, dataOffset + first * recordBytes, records * recordBytes);
+            segments[s].order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Crea un almacén vacío (lleno de ceros) para los resultados de un barrido.
+     * 
+     * @param path Archivo de salida (se reemplaza si existe)
+     * @param sweep Barrido cuyas columnas y malla se van a guardar
+     * @return Almacén abierto para escritura
+     * @throws IOException si no se puede crear el archivo
+     */
+    public static ResultStore create(Path path, ParameterSweep sweep) throws IOException {
+        return create(path, sweep.columnNames(), sweep.shape());
+    }
+
+    /**
+     * Crea un almacén vacío (lleno de ceros).
+     * 
+     * @param path Archivo de salida (se reemplaza si existe)
+     * @param columnNames Nombres de las columnas
+     * @param shape Dimensiones de la malla; el número de registros es su producto
+     * @return Almacén abierto para escritura
+     * @throws IOException si no se puede crear el archivo
+     * @throws IllegalArgumentException si no hay columnas
+     */
+    public static ResultStore create(Path path, String[] columnNames, long... shape) throws IOException {
+        if (columnNames.length == 0) {
+            throw new IllegalArgumentException("El almacén necesita al menos una columna.");
+        }
+        long size = 1;
+        for (long steps : shape) {
+            size = Math.multiplyExact(size, steps);
+        }
+
+        byte[][] names = new byte[columnNames.length][];
+        int headerSize = MAGIC.length + 2 * Integer.BYTES + 2 * Long.BYTES + shape.length * Long.BYTES;
+        for (int c = 0; c < columnNames.length; c++) {
+            names[c] = columnNames[c].getBytes(StandardCharsets.UTF_8);
+            headerSize += Short.BYTES + names[c].length;
+        }
+        long dataOffset = (headerSize + 7) & ~7L;
+
+        ByteBuffer header = ByteBuffer.allocate((int) dataOffset).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(MAGIC).putInt(columnNames.length).putInt(shape.length).putLong(size).putLong(dataOffset);
+        for (long steps : shape) {
+            header.putLong(steps);
+        }
+        for (byte[] name : names) {
+            header.putShort((short) name.length).put(name);
+        }
+        header.position(header.limit()).flip();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            long length = dataOffset + size * columnNames.length * Double.BYTES;
+            if (length > dataOffset) {
+                channel.write(ByteBuffer.allocate(1), length - 1);
+            }
+            return new ResultStore(channel, FileChannel.MapMode.READ_WRITE, columnNames.clone(), shape.clone(),
+                    size, dataOffset);
+        }
+    }
+
+    /**
+     * Abre un almacén existente leyendo sólo su cabecera; los registros se cargan
+     * bajo demanda al accederlos.
+     * 
+     * @param path Archivo creado con {@link #create}
+     * @return Almacén abierto sólo para lectura
+     * @throws IOException si el archivo no existe, no tiene el formato esperado, su cabecera
+     *         es incoherente (columnas, dimensiones o tamaños imposibles) o está truncado
+     */
+    public static ResultStore open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer fixed = ByteBuffer.allocate(MAGIC.length + 2 * Integer.BYTES + 2 * Long.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, fixed, 0);
+            byte[] magic = new byte[MAGIC.length];
+            fixed.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException("El archivo no es un almacén de resultados: " + path);
+            }
+            int columns = fixed.getInt();
+            int dimensions = fixed.getInt();
+            long size = fixed.getLong();
+            long dataOffset = fixed.getLong();
+            long headerBytes = dataOffset - fixed.capacity();
+            if (columns <= 0 || columns > Integer.MAX_VALUE / Double.BYTES || dimensions < 0 || size < 0
+                    || headerBytes < (long) dimensions * Long.BYTES + (long) columns * Short.BYTES
+                    || headerBytes > Integer.MAX_VALUE) {
+                throw invalidHeader(path, null);
+            }
+            long dataEnd;
+            try {
+                dataEnd = Math.addExact(dataOffset, Math.multiplyExact(size, (long) columns * Double.BYTES));
+            } catch (ArithmeticException e) {
+                throw invalidHeader(path, e);
+            }
+            if (dataEnd > channel.size()) {
+                throw new IOException("El almacén de resultados está truncado: " + path);
+            }
+
+            ByteBuffer header = ByteBuffer.allocate((int) headerBytes).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, header, fixed.capacity());
+            long[] shape = new long[dimensions];
+            String[] names = new String[columns];
+            try {
+                long product = 1;
+                for (int d = 0; d < dimensions; d++) {
+                    shape[d] = header.getLong();
+                    if (shape[d] < 0) {
+                        throw invalidHeader(path, null);
+                    }
+                    product = Math.multiplyExact(product, shape[d]);
+                }
+                if (product != size) {
+                    throw invalidHeader(path, null);
+                }
+                for (int c = 0; c < columns; c++) {
+                    byte[] name = new byte[Short.toUnsignedInt(header.getShort())];
+                    header.get(name);
+                    names[c] = new String(name, StandardCharsets.UTF_8);
+                }
+            } catch (BufferUnderflowException | ArithmeticException e) {
+                throw invalidHeader(path, e);
+            }
+            return new ResultStore(channel, FileChannel.MapMode.READ_ONLY, names, shape, size, dataOffset);
+        }
+    }
+
+    /**
+     * Crea el error de una cabecera incoherente, por ejemplo de un archivo dañado.
+     * 
+     * @param path Archivo leído
+     * @param cause Causa original (puede ser null)
+     * @return Error a lanzar
+     */
+    private static IOException invalidHeader(Path path, Throwable cause) {
+        return new IOException("El almacén de resultados tiene una cabecera inválida: " + path, cause);
+    }
+
+    /**
+     * Lee bytes del canal hasta llenar el búfer.
+     * 
+     * @param channel Canal de origen
+     * @param buffer Búfer de destino
+     * @param position Posición en el archivo
+     * @throws IOException si el archivo termina antes
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position);
+            if (n < 0) throw new IOException("Fin de archivo inesperado.");
+            position += n;
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Calcula el índice de un caso a partir de sus coordenadas en la malla.
+     * 
+     * @param coordinates Una coordenada por dimensión
+     * @return Índice del registro
+     * @throws IndexOutOfBoundsException si alguna coordenada sale de la malla
+     */
+    public long index(long... coordinates) {
+        if (coordinates.length != shape.length) {
+            throw new IndexOutOfBoundsException("Se esperaban " + shape.length + " coordenadas.");
+        }
+        long index = 0;
+        for (int d = 0; d < shape.length; d++) {
+            if (coordinates[d] < 0 || coordinates[d] >= shape[d]) {
+                throw new IndexOutOfBoundsException("Coordenada fuera de la malla: " + coordinates[d]);
+            }
+            index = index * shape[d] + coordinates[d];
+        }
+        return index;
+    }
+
+    /**
+     * Lee un valor.
+     * 
+     * @param record Índice del registro
+     * @param column Columna
+     * @return Valor guardado
+     */
+    public double get(long record, int column) {
+        return segment(record).getDouble(offset(record, column));
+    }
+
+    /**
+     * Lee un registro completo.
+     * 
+     * @param record Índice del registro
+     * @param out Arreglo de salida con al menos {@link #columnCount()} posiciones
+     */
+    public void readRecord(long record, double[] out) {
+        MappedByteBuffer segment = segment(record);
+        int base = offset(record, 0);
+        for (int c = 0; c < columnNames.length; c++) {
+            out[c] = segment.getDouble(base + c * Double.BYTES);
+        }
+    }
+
+    /**
+     * Escribe un valor.
+     * 
+     * @param record Índice del registro
+     * @param column Columna
+     * @param value Valor a guardar
+     * @throws java.nio.ReadOnlyBufferException si el almacén se abrió sólo para lectura
+     */
+    public void set(long record, int column, double value) {
+        segment(record).putDouble(offset(record, column), value);
+    }
+
+    /**
+     * Escribe un bloque de barrido en los registros que le corresponden.
+     * 
+     * @param chunk Bloque calculado
+     */
+    @Override
+    public void accept(SweepChunk chunk) {
+        int columns = Math.min(chunk.columnCount(), columnNames.length);
+        long first = chunk.firstIndex();
+        for (int row = 0; row < chunk.size(); row++) {
+            MappedByteBuffer segment = segment(first + row);
+            int base = offset(first + row, 0);
+            for (int c = 0; c < columns; c++) {
+                segment.putDouble(base + c * Double.BYTES, chunk.get(row, c));
+            }
+        }
+    }
+
+    /**
+     * Obtiene el tramo mapeado que contiene un registro.
+     * 
+     * @param record Índice del registro
+     * @return Tramo mapeado
+     * @throws IndexOutOfBoundsException si el registro no existe
+     * @throws IllegalStateException si el almacén ya se cerró
+     */
+    private MappedByteBuffer segment(long record) {
+        MappedByteBuffer[] mapped = segments;
+        if (mapped == null) {
+            throw new IllegalStateException("El almacén de resultados está cerrado.");
+        }
+        if (record < 0 || record >= size) {
+            throw new IndexOutOfBoundsException("Registro fuera del almacén: " + record);
+        }
+        return mapped[(int) (record / recordsPerSegment)];
+    }
+
+    /**
+     * Calcula la posición de un valor dentro de su tramo.
+     * 
+     * @param record Índice del registro
+     * @param column Columna
+     * @return Posición en bytes dentro del tramo
+     */
+    private int offset(long record, int column) {
+        return (int) (record % recordsPerSegment) * recordBytes + column * Double.BYTES;
+    }
+
+    /**
+     * Busca una columna por nombre.
+     * 
+     * @param name Nombre de la columna
+     * @return Índice de la columna, o -1 si no existe
+     */
+    public int columnIndex(String name) {
+        for (int c = 0; c < columnNames.length; c++) {
+            if (columnNames[c].equals(name)) return c;
+        }
+        return -1;
+    }
+
+    /**
+     * Asegura que los registros escritos lleguen al disco y suelta los tramos mapeados.
+     * Java no permite liberar un {@link MappedByteBuffer} de forma explícita: el mapeo
+     * se deshace cuando el recolector descarta el último tramo. Por eso el almacén deja
+     * de referenciarlos al cerrarse, para que un almacén cerrado que siga alcanzable no
+     * retenga el mapeo; cualquier acceso posterior lanza {@link IllegalStateException}.
+     * No debe cerrarse mientras otro hilo lo está usando. Cerrarlo más de una vez no
+     * tiene efecto.
+     */
+    @Override
+    public void close() {
+        MappedByteBuffer[] mapped = segments;
+        if (mapped == null) return;
+        if (writable) {
+            for (MappedByteBuffer segment : mapped) {
+                segment.force();
+            }
+        }
+        segments = null;
+    }
+
+    public long size() { return size; }
+    public int columnCount() { return columnNames.length; }
+    public String[] columnNames() { return columnNames.clone(); }
+    public long[] shape() { return shape.clone(); }
+    public boolean isWritable() { return writable; }
+}
@@ -0,0 +1,74 @@
+package sweep;
+
+/**
+ * Bloque de resultados contiguos de un barrido, organizado por columnas.
+ * Cada columna es un arreglo primitivo; la fila i corresponde al caso
+ * {@code firstIndex + i} de la malla.
+ * <p>
+ * Los bloques se reutilizan entre llamadas: el contenido sólo es válido
+ * durante {@link SweepSink#accept(SweepChunk)} y debe copiarse si se quiere conservar.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public final class SweepChunk {
+    /** Nombres de las columnas, en el mismo orden que {@link #columns} */
+    private final String[] columnNames;
+    
+    /** Valores por columna */
+    private final double[][] columns;
+    
+    /** Índice global del primer caso del bloque */
+    private long firstIndex;
+    
+    /** Número de filas válidas del bloque */
+    private int size;
+
+    /**
+     * Construye un bloque vacío.
+     * 
+     * @param columnNames Nombres de las columnas
+     * @param capacity Número máximo de filas
+     */
+    SweepChunk(String[] columnNames, int capacity) {
+        this.columnNames = columnNames;
+        this.columns = new double[columnNames.length][capacity];
+    }
+
+    /**
+     * Prepara el bloque para un nuevo tramo de la malla.
+     * 
+     * @param firstIndex Índice global del primer caso
+     * @param size Número de filas
+     */
+    void reset(long firstIndex, int size) {
+        this.firstIndex = firstIndex;
+        this.size = size;
+    }
+
+    /**
+     * Obtiene una columna de resultados.
+     * 
+     * @param column Índice de la columna
+     * @return Arreglo con los valores (sólo las primeras {@link #size()} posiciones son válidas)
+     */
+    public double[] column(int column) {
+        return columns[column];
+    }
+
+    /**
+     * Obtiene un valor individual del bloque.
+     * 
+     * @param row Fila dentro del bloque
+     * @param column Índice de la columna
+     * @return Valor almacenado
+     */
+    public double get(int row, int column) {
+        return columns[column][row];
+    }
+
+    public long firstIndex() { return firstIndex; }
+    public int size() { return size; }
+    public int columnCount() { return columns.length; }
+    public String[] columnNames() { return columnNames.clone(); }
+}
@@ -0,0 +1,62 @@
+package sweep;
+
+/**
+ * Rango de valores equiespaciados para un parámetro de un barrido.
+ * Incluye ambos extremos: con {@code steps} puntos, el primero es {@code start}
+ * y el último es {@code end}.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public final class SweepRange {
+    /** Valor inicial del rango */
+    private final double start;
+    
+    /** Valor final del rango */
+    private final double end;
+    
+    /** Número de puntos del rango */
+    private final int steps;
+
+    /**
+     * Construye un nuevo rango.
+     * 
+     * @param start Valor inicial
+     * @param end Valor final
+     * @param steps Número de puntos (al menos 1)
+     * @throws IllegalArgumentException si steps es menor que 1
+     */
+    public SweepRange(double start, double end, int steps) {
+        if (steps < 1) {
+            throw new IllegalArgumentException("El rango debe tener al menos un punto.");
+        }
+        this.start = start;
+        this.end = end;
+        this.steps = steps;
+    }
+
+    /**
+     * Crea un rango de un solo valor.
+     * 
+     * @param value Valor fijo
+     * @return Rango con un único punto
+     */
+    public static SweepRange of(double value) {
+        return new SweepRange(value, value, 1);
+    }
+
+    /**
+     * Obtiene el valor del punto i-ésimo del rango.
+     * 
+     * @param i Índice del punto (0 a steps - 1)
+     * @return Valor del parámetro en ese punto
+     */
+    public double valueAt(int i) {
+        if (steps == 1) return start;
+        return start + (end - start) * i / (steps - 1);
+    }
+
+    public double getStart() { return start; }
+    public double getEnd() { return end; }
+    public int getSteps() { return steps; }
+}
@@ -0,0 +1,22 @@
+package sweep;
+
+/**
+ * Destino de los resultados de un barrido.
+ * Recibe los bloques a medida que se calculan, sin esperar al final del barrido.
+ * <p>
+ * Se invoca desde varios hilos del {@link java.util.concurrent.ForkJoinPool} a la vez
+ * y los bloques llegan en cualquier orden, por lo que la implementación debe ser
+ * segura para hilos y usar {@link SweepChunk#firstIndex()} para ubicarlos.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface SweepSink {
+    /**
+     * Procesa un bloque de resultados.
+     * 
+     * @param chunk Bloque calculado (válido sólo durante la llamada)
+     */
+    void accept(SweepChunk chunk);
+}
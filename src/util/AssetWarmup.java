@@ -0,0 +1,48 @@
+package util;
+
+import java.util.List;
+import javax.swing.SwingUtilities;
+
+/**
+ * Precarga en segundo plano los sprites de {@code resources} a los tamaños que usan las
+ * vistas, de modo que al abrir una simulación {@link ImageLoader#load} los encuentre ya
+ * decodificados y escalados en su caché. Los sprites son las mismas constantes
+ * {@link Sprite} que declaran las vistas, así que no hay tamaños que mantener a la par.
+ * <p>
+ * El trabajo corre en un hilo demonio de baja prioridad, para no competir con el pintado
+ * de la ventana principal; al terminar ejecuta una acción en el hilo de eventos (EDT).
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public final class AssetWarmup {
+    private AssetWarmup() {
+    }
+
+    /**
+     * Inicia la precarga en un hilo demonio.
+     * 
+     * @param sprites Sprites a precargar
+     * @param onDone Acción a ejecutar en el EDT cuando termine (puede ser null)
+     * @return Hilo de la precarga, ya iniciado
+     */
+    public static Thread start(List<Sprite> sprites, Runnable onDone) {
+        Thread thread = new Thread(() -> {
+            long start = System.nanoTime();
+            for (Sprite sprite : sprites) {
+                sprite.load();
+            }
+            if (StartupMetrics.LOG) {
+                System.err.printf("[arranque] %d sprites precargados en %.1f ms%n",
+                        sprites.size(), (System.nanoTime() - start) / 1e6);
+            }
+            if (onDone != null) {
+                SwingUtilities.invokeLater(onDone);
+            }
+        }, "asset-warmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+        return thread;
+    }
+}
@@ -0,0 +1,42 @@
+package util;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Evento de JFR emitido por {@link FrameMetrics} cada vez que el EDT procesa una
+ * instantánea de la simulación. Sólo cuesta algo si hay una grabación de JFR activa.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+@Name("simulador.Frame")
+@Label("Cuadro de animación")
+@Category({"Simulador", "Animación"})
+@Description("Actualización de la vista con una instantánea del reloj de simulación")
+@StackTrace(false)
+final class FrameEvent extends jdk.jfr.Event {
+    @Label("Ventana")
+    String window;
+
+    @Label("Tiempo de actualización")
+    @Timespan(Timespan.NANOSECONDS)
+    long updateTime;
+
+    @Label("Intervalo desde el cuadro anterior")
+    @Timespan(Timespan.NANOSECONDS)
+    long interval;
+
+    @Label("Ticks atrasados")
+    @Description("Ticks del reloj que no llegaron a mostrarse desde el cuadro anterior")
+    int lateTicks;
+
+    @Label("Memoria asignada en el EDT desde el cuadro anterior")
+    @DataAmount
+    long allocated;
+}
@@ -0,0 +1,270 @@
+package util;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Instrumentación del ciclo de animación de una ventana.
+ * Mide cuánto tarda el EDT en aplicar cada instantánea del reloj de simulación
+ * ({@link #timed(Consumer)}) y en pintar el panel ({@link #beginPaint()} /
+ * {@link #endPaint(long)}), el intervalo real entre cuadros, los ticks del reloj que
+ * llegaron tarde o no llegaron a mostrarse y la memoria asignada en el EDT por cuadro.
+ * Con renderizado activo registra además el intervalo real entre cuadros presentados
+ * ({@link #recordPresent(long)}).
+ * <p>
+ * Los tiempos se guardan en {@link LatencyHistogram} sin bloqueos y cada cuadro emite
+ * además un evento de JFR ({@code simulador.Frame} y {@code simulador.Paint}), que sólo
+ * cuesta algo con una grabación activa, por ejemplo
+ * {@code -XX:StartFlightRecording:filename=aula.jfr}.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public final class FrameMetrics {
+    /** Un intervalo mayor que esta fracción del período cuenta como tick atrasado */
+    private static final double LATE_FACTOR = 1.5;
+
+    /** Peso de cada intervalo nuevo en el promedio exponencial de cuadros por segundo */
+    private static final double FPS_SMOOTHING = 0.1;
+
+    /** Nombre de la ventana en los eventos de JFR */
+    private final String window;
+
+    /** Tiempo de actualización de la vista por cuadro, en nanosegundos */
+    private final LatencyHistogram updateTimes = new LatencyHistogram();
+
+    /** Tiempo de pintado del panel, en nanosegundos */
+    private final LatencyHistogram paintTimes = new LatencyHistogram();
+
+    /** Intervalo real entre cuadros, en nanosegundos */
+    private final LatencyHistogram intervals = new LatencyHistogram();
+
+    /** Memoria asignada en el EDT por cuadro, en bytes */
+    private final LatencyHistogram allocations = new LatencyHistogram();
+
+    /** Intervalo entre cuadros presentados por el renderizado activo, en nanosegundos */
+    private final LatencyHistogram presentIntervals = new LatencyHistogram();
+
+    /** Número de cuadros procesados */
+    private final AtomicLong frames = new AtomicLong();
+
+    /** Número de ticks del reloj atrasados o descartados */
+    private final AtomicLong lateTicks = new AtomicLong();
+
+    /** Período esperado entre ticks del reloj, en nanosegundos */
+    private volatile long periodNanos;
+
+    /** Promedio exponencial del intervalo entre cuadros, en nanosegundos */
+    private volatile double smoothedInterval = Double.NaN;
+
+    /** Inicio del cuadro anterior (0 si no hubo), sólo en el EDT */
+    private long lastFrame;
+
+    /** Memoria asignada por el EDT al inicio del cuadro anterior (-1 si no se mide) */
+    private long lastAllocated = -1;
+
+    /** Intervalo, ticks atrasados y memoria del cuadro en curso, para su evento de JFR */
+    private long pendingInterval, pendingAllocated;
+    private int pendingLate;
+
+    /** Acción a ejecutar después de cada cuadro (puede ser null) */
+    private Runnable frameListener;
+
+    /**
+     * Construye la instrumentación de una ventana.
+     * 
+     * @param window Nombre de la ventana en los eventos de JFR
+     */
+    public FrameMetrics(String window) {
+        this.window = window;
+    }
+
+    /**
+     * Borra las mediciones y fija el período esperado entre ticks. Se llama al
+     * iniciar cada simulación, para que la pausa previa no cuente como atraso.
+     * 
+     * @param periodSeconds Segundos reales entre ticks del reloj (paso / escala de tiempo)
+     */
+    public void reset(double periodSeconds) {
+        periodNanos = (long) (periodSeconds * 1e9);
+        updateTimes.reset();
+        paintTimes.reset();
+        intervals.reset();
+        allocations.reset();
+        presentIntervals.reset();
+        frames.set(0);
+        lateTicks.set(0);
+        smoothedInterval = Double.NaN;
+        lastFrame = 0;
+        lastAllocated = -1;
+    }
+
+    /**
+     * Envuelve el receptor de instantáneas de un reloj para medir cada cuadro.
+     * 
+     * @param <S> Tipo de la instantánea
+     * @param onFrame Receptor original, invocado en el EDT
+     * @return Receptor instrumentado
+     */
+    public <S> Consumer<S> timed(Consumer<S> onFrame) {
+        return state -> {
+            long start = beginFrame();
+            try {
+                onFrame.accept(state);
+            } finally {
+                endFrame(start);
+            }
+        };
+    }
+
+    /**
+     * Registra el inicio de un cuadro: intervalo desde el anterior, ticks atrasados y
+     * memoria asignada en el EDT desde el cuadro anterior.
+     * 
+     * @return Instante de inicio en nanosegundos
+     */
+    private long beginFrame() {
+        long now = System.nanoTime();
+        long allocated = Allocation.currentThread();
+        long interval = 0;
+        int late = 0;
+        if (lastFrame != 0) {
+            interval = now - lastFrame;
+            intervals.record(interval);
+            long period = periodNanos;
+            if (period > 0 && interval > period * LATE_FACTOR) {
+                late = (int) Math.max(1, Math.round((double) interval / period) - 1);
+                lateTicks.addAndGet(late);
+            }
+            double smoothed = smoothedInterval;
+            smoothedInterval = Double.isNaN(smoothed) ? interval : smoothed + FPS_SMOOTHING * (interval - smoothed);
+        }
+        long allocatedSince = 0;
+        if (allocated >= 0 && lastAllocated >= 0) {
+            allocatedSince = allocated - lastAllocated;
+            allocations.record(allocatedSince);
+        }
+        lastFrame = now;
+        lastAllocated = allocated;
+        pendingInterval = interval;
+        pendingLate = late;
+        pendingAllocated = allocatedSince;
+        return now;
+    }
+
+    /**
+     * Registra el fin de un cuadro.
+     * 
+     * @param start Instante devuelto por {@link #beginFrame()}
+     */
+    private void endFrame(long start) {
+        long elapsed = System.nanoTime() - start;
+        updateTimes.record(elapsed);
+        frames.incrementAndGet();
+
+        FrameEvent event = new FrameEvent();
+        if (event.shouldCommit()) {
+            event.window = window;
+            event.updateTime = elapsed;
+            event.interval = pendingInterval;
+            event.lateTicks = pendingLate;
+            event.allocated = pendingAllocated;
+            event.commit();
+        }
+        if (frameListener != null) {
+            frameListener.run();
+        }
+    }
+
+    /**
+     * Registra el inicio del pintado del panel.
+     * 
+     * @return Instante de inicio en nanosegundos
+     */
+    public long beginPaint() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Registra el fin del pintado del panel.
+     * 
+     * @param start Instante devuelto por {@link #beginPaint()}
+     */
+    public void endPaint(long start) {
+        long elapsed = System.nanoTime() - start;
+        paintTimes.record(elapsed);
+
+        PaintEvent event = new PaintEvent();
+        if (event.shouldCommit()) {
+            event.window = window;
+            event.paintTime = elapsed;
+            event.commit();
+        }
+    }
+
+    /**
+     * Registra el intervalo entre dos cuadros presentados seguidos.
+     * 
+     * @param interval Nanosegundos desde la presentación anterior
+     */
+    public void recordPresent(long interval) {
+        presentIntervals.record(interval);
+    }
+
+    /**
+     * Calcula los cuadros por segundo efectivos a partir del promedio de los intervalos.
+     * 
+     * @return Cuadros por segundo, o NaN si todavía no hay dos cuadros
+     */
+    public double fps() {
+        double smoothed = smoothedInterval;
+        return smoothed > 0 ? 1e9 / smoothed : Double.NaN;
+    }
+
+    /**
+     * Establece una acción que se ejecuta en el EDT después de cada cuadro, por ejemplo
+     * para repintar un panel de métricas.
+     * 
+     * @param listener Acción a ejecutar (null para ninguna)
+     */
+    public void setFrameListener(Runnable listener) {
+        this.frameListener = listener;
+    }
+
+    public String getWindow() { return window; }
+    public LatencyHistogram getUpdateTimes() { return updateTimes; }
+    public LatencyHistogram getPaintTimes() { return paintTimes; }
+    public LatencyHistogram getIntervals() { return intervals; }
+    public LatencyHistogram getAllocations() { return allocations; }
+    public LatencyHistogram getPresentIntervals() { return presentIntervals; }
+    public long getFrames() { return frames.get(); }
+    public long getLateTicks() { return lateTicks.get(); }
+    public double getPeriodMillis() { return periodNanos / 1e6; }
+
+    /**
+     * Acceso perezoso al contador de memoria asignada por hilo de HotSpot, para no
+     * cargar la gestión de la JVM hasta el primer cuadro.
+     */
+    private static final class Allocation {
+        private static final com.sun.management.ThreadMXBean BEAN = bean();
+
+        private static com.sun.management.ThreadMXBean bean() {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean hotspot
+                    && hotspot.isThreadAllocatedMemorySupported()) {
+                hotspot.setThreadAllocatedMemoryEnabled(true);
+                return hotspot;
+            }
+            return null;
+        }
+
+        /**
+         * Obtiene la memoria asignada por el hilo actual desde que empezó.
+         * 
+         * @return Bytes asignados, o -1 si la JVM no lo informa
+         */
+        static long currentThread() {
+            return BEAN != null ? BEAN.getCurrentThreadAllocatedBytes() : -1;
+        }
+    }
+}
@@ -3,16 +3,42 @@ package util;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.imageio.ImageIO;
 import javax.swing.*;
 
 /**
  * Utilidad para cargar y redimensionar imágenes desde recursos.
  * Si la imagen no se encuentra, genera un placeholder con el nombre del archivo.
+ * <p>
+ * Las imágenes se decodifican una sola vez, se escalan a una imagen compatible con
+ * la configuración gráfica de la pantalla y se guardan en una caché LRU acotada por
+ * (ruta, ancho, alto), de modo que las simulaciones repetidas no vuelven a decodificar
+ * ni a redimensionar los PNG.
  * 
  * @author SimuladorFisica
  * @version 1.0
  */
 public class ImageLoader {
+    /** Número máximo de imágenes escaladas que se mantienen en caché */
+    public static final int MAX_CACHE_ENTRIES = 32;
+
+    /** Caché LRU de imágenes escaladas (orden de acceso) */
+    private static final Map<Key, ImageIcon> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, ImageIcon> eldest) {
+            return size() > MAX_CACHE_ENTRIES;
+        }
+    };
+
+    /** Número de cargas resueltas desde la caché */
+    private static final AtomicLong HITS = new AtomicLong();
+
+    /** Número de cargas que tuvieron que decodificar y escalar la imagen */
+    private static final AtomicLong MISSES = new AtomicLong();
+
     /**
      * Carga una imagen desde recursos y la redimensiona al tamaño especificado.
      * 
@@ -22,16 +48,128 @@ public class ImageLoader {
      * @return ImageIcon con la imagen cargada y redimensionada, o un placeholder si falla
      */
     public static ImageIcon load(String path, int width, int height) {
+        Key key = new Key(path, width, height);
+        synchronized (CACHE) {
+            ImageIcon cached = CACHE.get(key);
+            if (cached != null) {
+                HITS.incrementAndGet();
+                return cached;
+            }
+        }
+
+        MISSES.incrementAndGet();
+        ImageIcon icon = decode(path, width, height);
+        synchronized (CACHE) {
+            ImageIcon raced = CACHE.putIfAbsent(key, icon);
+            return raced != null ? raced : icon;
+        }
+    }
+
+    /**
+     * Decodifica y escala una imagen sin pasar por la caché.
+     * 
+     * @param path Ruta relativa del recurso
+     * @param width Ancho deseado en píxeles
+     * @param height Alto deseado en píxeles
+     * @return ImageIcon con la imagen escalada, o un placeholder si falla
+     */
+    private static ImageIcon decode(String path, int width, int height) {
         try {
             URL url = ImageLoader.class.getResource("/" + path);
             if (url == null) return placeholder(width, height, path);
-            Image img = Toolkit.getDefaultToolkit().getImage(url);
-            return new ImageIcon(img.getScaledInstance(width, height, Image.SCALE_SMOOTH));
+            BufferedImage source = ImageIO.read(url);
+            if (source == null) return placeholder(width, height, path);
+            return new ImageIcon(scale(source, width, height));
         } catch (Exception e) {
             return placeholder(width, height, path);
         }
     }
 
+    /**
+     * Escala una imagen reduciéndola a la mitad en pasos sucesivos y terminando con
+     * interpolación bicúbica, lo que da una calidad similar a {@link Image#SCALE_SMOOTH}.
+     * 
+     * @param source Imagen original
+     * @param width Ancho final en píxeles
+     * @param height Alto final en píxeles
+     * @return Imagen compatible con la pantalla del tamaño indicado
+     */
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        Image current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+
+        while (w / 2 >= width && h / 2 >= height) {
+            w /= 2;
+            h /= 2;
+            current = draw(current, w, h, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+        return draw(current, width, height, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+    }
+
+    /**
+     * Dibuja una imagen en una nueva imagen compatible del tamaño indicado.
+     * 
+     * @param image Imagen a dibujar
+     * @param w Ancho de destino
+     * @param h Alto de destino
+     * @param interpolation Sugerencia de interpolación a usar
+     * @return Nueva imagen con el contenido escalado
+     */
+    private static BufferedImage draw(Image image, int w, int h, Object interpolation) {
+        BufferedImage target = createCompatibleImage(w, h);
+        Graphics2D g = target.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(image, 0, 0, w, h, null);
+        g.dispose();
+        return target;
+    }
+
+    /**
+     * Crea una imagen translúcida con el formato de píxel de la pantalla principal,
+     * para que Java2D pueda mantenerla acelerada. Sin pantalla usa ARGB estándar.
+     * 
+     * @param w Ancho en píxeles
+     * @param h Alto en píxeles
+     * @return Imagen vacía
+     */
+    public static BufferedImage createCompatibleImage(int w, int h) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            return gc.createCompatibleImage(w, h, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * Vacía la caché de imágenes. Los contadores de aciertos y fallos se conservan.
+     */
+    public static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    /**
+     * Obtiene el número de cargas resueltas desde la caché.
+     * 
+     * @return Aciertos de caché desde el inicio de la aplicación
+     */
+    public static long getCacheHits() {
+        return HITS.get();
+    }
+
+    /**
+     * Obtiene el número de cargas que tuvieron que decodificar la imagen.
+     * 
+     * @return Fallos de caché desde el inicio de la aplicación
+     */
+    public static long getCacheMisses() {
+        return MISSES.get();
+    }
+
     /**
      * Genera un ImageIcon placeholder cuando no se puede cargar la imagen.
      * 
@@ -50,4 +188,10 @@ public class ImageLoader {
         g.dispose();
         return new ImageIcon(img);
     }
+
+    /**
+     * Clave de la caché: recurso y tamaño de destino.
+     */
+    private record Key(String path, int width, int height) {
+    }
 }
@@ -0,0 +1,125 @@
+package util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de valores no negativos (tiempos en nanosegundos, bytes) con cubetas
+ * logarítmico-lineales, al estilo de HdrHistogram: cada potencia de dos se divide en
+ * {@value #HALF} cubetas, de modo que el error relativo de cualquier percentil es menor
+ * que 1/{@value #HALF} en todo el rango de {@code long}.
+ * <p>
+ * Registrar un valor es un incremento atómico sobre un arreglo fijo, sin bloqueos ni
+ * creación de objetos, así que puede hacerse desde el hilo de simulación o el EDT
+ * mientras otro hilo lee los percentiles.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public final class LatencyHistogram {
+    /** Bits de precisión dentro de cada potencia de dos */
+    private static final int SUB_BITS = 6;
+
+    /** Número de cubetas lineales del primer tramo */
+    private static final int SUB = 1 << SUB_BITS;
+
+    /** Número de cubetas por cada potencia de dos a partir del primer tramo */
+    private static final int HALF = SUB / 2;
+
+    /** Conteo de cada cubeta */
+    private final AtomicLongArray counts = new AtomicLongArray(HALF * (Long.SIZE - SUB_BITS) + SUB);
+
+    /** Número de valores registrados */
+    private final AtomicLong count = new AtomicLong();
+
+    /** Suma de los valores registrados */
+    private final AtomicLong sum = new AtomicLong();
+
+    /** Mayor valor registrado */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Registra un valor. Los negativos se cuentan como cero.
+     * 
+     * @param value Valor a registrar
+     */
+    public void record(long value) {
+        if (value < 0) value = 0;
+        counts.incrementAndGet(indexOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Calcula un percentil.
+     * 
+     * @param percentile Percentil entre 0 y 100
+     * @return Mayor valor equivalente de la cubeta que contiene el percentil, o 0 si no hay datos
+     */
+    public long valueAtPercentile(double percentile) {
+        long total = count.get();
+        if (total == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestValueIn(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Calcula la media de los valores registrados.
+     * 
+     * @return Media, o NaN si no hay datos
+     */
+    public double mean() {
+        long total = count.get();
+        return total == 0 ? Double.NaN : (double) sum.get() / total;
+    }
+
+    /**
+     * Borra todos los valores. Los registros concurrentes con el borrado pueden
+     * conservarse o perderse.
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    /**
+     * Calcula la cubeta de un valor.
+     * 
+     * @param value Valor no negativo
+     * @return Índice de la cubeta
+     */
+    private static int indexOf(long value) {
+        int magnitude = Long.SIZE - Long.numberOfLeadingZeros(value);
+        if (magnitude <= SUB_BITS) return (int) value;
+        int shift = magnitude - SUB_BITS;
+        return HALF * shift + (int) (value >>> shift);
+    }
+
+    /**
+     * Calcula el mayor valor que cae en una cubeta.
+     * 
+     * @param index Índice de la cubeta
+     * @return Mayor valor de la cubeta
+     */
+    private static long highestValueIn(int index) {
+        if (index < SUB) return index;
+        int shift = index / HALF - 1;
+        long top = index % HALF + HALF;
+        return ((top + 1) << shift) - 1;
+    }
+
+    public long count() { return count.get(); }
+    public long max() { return max.get(); }
+}
@@ -0,0 +1,153 @@
+package util;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Modo de detección de fugas para sesiones largas: cuenta, por tipo, cuántos objetos
+ * se crearon y cuántos siguen alcanzables (ventanas y controladores), usando
+ * referencias débiles que no impiden recolectarlos. Cada informe fuerza una recolección
+ * y escribe en la salida de error los vivos de cada tipo y los indicadores registrados
+ * (por ejemplo, animaciones activas); un número de vivos que sólo crece delata una fuga.
+ * <p>
+ * Se activa con {@code -Dsimulador.leaks=true}; sin la propiedad no registra nada.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public final class LeakTracker {
+    /** Indica si el modo de detección de fugas está activo */
+    public static final boolean ENABLED = Boolean.getBoolean("simulador.leaks");
+
+    /** Referencias recolectadas pendientes de descontar */
+    private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+
+    /** Referencias a los objetos rastreados que aún no se descontaron */
+    private static final Set<Tracked> TRACKED = ConcurrentHashMap.newKeySet();
+
+    /** Objetos creados por tipo */
+    private static final Map<String, AtomicLong> CREATED = new ConcurrentHashMap<>();
+
+    /** Objetos vivos por tipo */
+    private static final Map<String, AtomicLong> LIVE = new ConcurrentHashMap<>();
+
+    /** Espera máxima a que se encolen las referencias tras forzar una recolección, en milisegundos */
+    private static final long ENQUEUE_WAIT = 100;
+
+    /** Indicadores que se agregan a cada informe */
+    private static final Map<String, IntSupplier> GAUGES = new ConcurrentHashMap<>();
+
+    private LeakTracker() {
+    }
+
+    /**
+     * Empieza a rastrear un objeto. No hace nada si el modo no está activo.
+     * 
+     * @param object Objeto a rastrear
+     * @param kind Tipo con el que se cuenta (por ejemplo, el nombre de la clase)
+     */
+    public static void track(Object object, String kind) {
+        if (!ENABLED) return;
+        expunge();
+        TRACKED.add(new Tracked(object, kind));
+        CREATED.computeIfAbsent(kind, k -> new AtomicLong()).incrementAndGet();
+        LIVE.computeIfAbsent(kind, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Registra un indicador que se escribe en cada informe. No hace nada si el modo no
+     * está activo.
+     * 
+     * @param name Nombre del indicador
+     * @param value Valor actual del indicador
+     */
+    public static void gauge(String name, IntSupplier value) {
+        if (!ENABLED) return;
+        GAUGES.put(name, value);
+    }
+
+    /**
+     * Fuerza una recolección y escribe en la salida de error los objetos vivos de cada
+     * tipo y los indicadores. No hace nada si el modo no está activo.
+     */
+    public static void report() {
+        if (!ENABLED) return;
+        System.gc();
+        awaitEnqueued();
+        StringBuilder line = new StringBuilder("[fugas]");
+        for (Map.Entry<String, AtomicLong> entry : new TreeMap<>(CREATED).entrySet()) {
+            line.append(' ').append(entry.getKey()).append(' ')
+                .append(liveCount(entry.getKey())).append('/').append(entry.getValue().get());
+        }
+        for (Map.Entry<String, IntSupplier> entry : new TreeMap<>(GAUGES).entrySet()) {
+            line.append(", ").append(entry.getKey()).append(' ').append(entry.getValue().getAsInt());
+        }
+        System.err.println(line);
+    }
+
+    /**
+     * Obtiene cuántos objetos de un tipo siguen alcanzables según la última recolección.
+     * 
+     * @param kind Tipo de objeto
+     * @return Objetos vivos
+     */
+    public static long liveCount(String kind) {
+        expunge();
+        AtomicLong live = LIVE.get(kind);
+        return live != null ? live.get() : 0;
+    }
+
+    /**
+     * Descuenta los objetos recolectados esperando un momento a que se encolen sus
+     * referencias, que la JVM encola en otro hilo después de la recolección.
+     */
+    private static void awaitEnqueued() {
+        try {
+            Tracked tracked;
+            while ((tracked = (Tracked) QUEUE.remove(ENQUEUE_WAIT)) != null) {
+                discount(tracked);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Descuenta los objetos que ya fueron recolectados.
+     */
+    private static void expunge() {
+        Tracked tracked;
+        while ((tracked = (Tracked) QUEUE.poll()) != null) {
+            discount(tracked);
+        }
+    }
+
+    /**
+     * Descuenta un objeto recolectado.
+     * 
+     * @param tracked Referencia ya encolada
+     */
+    private static void discount(Tracked tracked) {
+        if (TRACKED.remove(tracked)) {
+            LIVE.get(tracked.kind).decrementAndGet();
+        }
+    }
+
+    /**
+     * Referencia débil a un objeto rastreado junto con su tipo.
+     */
+    private static final class Tracked extends WeakReference<Object> {
+        final String kind;
+
+        Tracked(Object referent, String kind) {
+            super(referent, QUEUE);
+            this.kind = kind;
+        }
+    }
+}
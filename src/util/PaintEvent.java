@@ -0,0 +1,27 @@
+package util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Evento de JFR emitido por {@link FrameMetrics} cada vez que se pinta el panel de
+ * animación.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+@Name("simulador.Paint")
+@Label("Pintado del panel")
+@Category({"Simulador", "Animación"})
+@StackTrace(false)
+final class PaintEvent extends jdk.jfr.Event {
+    @Label("Ventana")
+    String window;
+
+    @Label("Tiempo de pintado")
+    @Timespan(Timespan.NANOSECONDS)
+    long paintTime;
+}
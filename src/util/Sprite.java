@@ -0,0 +1,25 @@
+package util;
+
+import javax.swing.ImageIcon;
+
+/**
+ * Imagen de {@code resources} a un tamaño fijo, tal como la dibuja una vista.
+ * Las vistas declaran sus sprites como constantes y {@link AssetWarmup} precarga esas
+ * mismas constantes, así que el tamaño precargado no puede diferir del que se usa.
+ * 
+ * @param path Ruta relativa del recurso (ej: "resources/ball.png")
+ * @param width Ancho en píxeles
+ * @param height Alto en píxeles
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public record Sprite(String path, int width, int height) {
+    /**
+     * Carga la imagen a su tamaño desde la caché de {@link ImageLoader}.
+     * 
+     * @return Imagen escalada, o un placeholder si no se encuentra
+     */
+    public ImageIcon load() {
+        return ImageLoader.load(path, width, height);
+    }
+}
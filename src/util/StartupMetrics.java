@@ -0,0 +1,93 @@
+package util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mide el tiempo hasta el primer cuadro de cada ventana: desde que se pide abrirla
+ * ({@link #begin}) hasta que su panel principal se pinta por primera vez ({@link #frame}).
+ * Con la propiedad {@code -Dsimulador.startup.log=true} cada medición se escribe en la
+ * salida de error junto con el tiempo transcurrido desde el arranque de la JVM.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public final class StartupMetrics {
+    /** Indica si las mediciones se escriben en la salida de error */
+    public static final boolean LOG = Boolean.getBoolean("simulador.startup.log");
+
+    /** Instante en que se pidió abrir cada ventana, en nanosegundos (aperturas pendientes) */
+    private static final Map<String, Long> PENDING = new ConcurrentHashMap<>();
+
+    /** Último tiempo hasta el primer cuadro de cada ventana, en milisegundos */
+    private static final Map<String, Double> LAST = new ConcurrentHashMap<>();
+
+    /** Tiempo desde el inicio de la JVM hasta el último primer cuadro de cada ventana, en milisegundos */
+    private static final Map<String, Long> LAST_SINCE_START = new ConcurrentHashMap<>();
+
+    private StartupMetrics() {
+    }
+
+    /**
+     * Registra que se pidió abrir una ventana. Si ya había una apertura pendiente se
+     * conserva la primera.
+     * 
+     * @param window Nombre de la ventana
+     */
+    public static void begin(String window) {
+        PENDING.putIfAbsent(window, System.nanoTime());
+    }
+
+    /**
+     * Registra que una ventana pintó un cuadro. Sólo cuenta el primero después de
+     * {@link #begin}; los demás cuadros apenas cuestan una búsqueda en un mapa vacío.
+     * 
+     * @param window Nombre de la ventana
+     */
+    public static void frame(String window) {
+        Long start = PENDING.remove(window);
+        if (start == null) return;
+        double millis = (System.nanoTime() - start) / 1e6;
+        long sinceStart = sinceJvmStart();
+        LAST.put(window, millis);
+        LAST_SINCE_START.put(window, sinceStart);
+        if (LOG) {
+            System.err.printf("[arranque] %s: primer cuadro en %.1f ms (%d ms desde el inicio de la JVM)%n",
+                    window, millis, sinceStart);
+        }
+    }
+
+    /**
+     * Obtiene el último tiempo medido hasta el primer cuadro de una ventana.
+     * 
+     * @param window Nombre de la ventana
+     * @return Tiempo en milisegundos, o NaN si todavía no se midió
+     */
+    public static double lastFrameMillis(String window) {
+        return LAST.getOrDefault(window, Double.NaN);
+    }
+
+    /**
+     * Obtiene el tiempo desde el inicio de la JVM hasta el último primer cuadro medido
+     * de una ventana.
+     * 
+     * @param window Nombre de la ventana
+     * @return Tiempo en milisegundos, o -1 si todavía no se midió o el sistema no lo informa
+     */
+    public static long lastFrameSinceJvmStart(String window) {
+        return LAST_SINCE_START.getOrDefault(window, -1L);
+    }
+
+    /**
+     * Calcula el tiempo transcurrido desde que arrancó el proceso.
+     * 
+     * @return Milisegundos desde el inicio de la JVM, o -1 si el sistema no lo informa
+     */
+    public static long sinceJvmStart() {
+        return ProcessHandle.current().info().startInstant()
+                .map(start -> Duration.between(start, Instant.now()).toMillis())
+                .orElse(-1L);
+    }
+}
@@ -0,0 +1,299 @@
+package view;
+
+import util.FrameMetrics;
+
+import javax.swing.SwingUtilities;
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Renderizado activo de un panel de animación: un {@link Canvas} con
+ * {@link BufferStrategy} (intercambio de páginas si el sistema lo permite, copia en
+ * otro caso) que se presenta a la frecuencia de refresco de la pantalla, en lugar de
+ * esperar a que el RepaintManager agrupe y programe los repintados.
+ * <p>
+ * Un único hilo, compartido por todas las ventanas, marca el ritmo: duerme hasta el
+ * siguiente refresco, y el último milisegundo lo espera activamente para no depender de
+ * la resolución del temporizador del sistema. En cada refresco dibuja, en un solo
+ * evento del EDT, todos los lienzos con cambios pendientes; el dibujo se hace en el EDT
+ * igual que en el modo pasivo, así que el estado de los paneles no necesita
+ * sincronización. Sin cambios pendientes en ningún lienzo el hilo queda detenido; un
+ * lienzo en modo continuo presenta un cuadro por refresco.
+ * <p>
+ * Se activa con {@code -Dsimulador.render.active=true}.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+final class ActiveRenderer {
+    /** Indica si los paneles de animación usan el renderizado activo */
+    static final boolean ENABLED = Boolean.getBoolean("simulador.render.active");
+
+    /** Frecuencia supuesta cuando la pantalla no informa la suya, en Hz */
+    private static final int DEFAULT_REFRESH_RATE = 60;
+
+    /** Margen antes de cada refresco que se espera activamente, en nanosegundos */
+    private static final long SPIN_NANOS = 1_000_000;
+
+    /** Renderizados con el lienzo visualizable, que el hilo de presentación atiende */
+    private static final Set<ActiveRenderer> ACTIVE = new CopyOnWriteArraySet<>();
+
+    /** Hilo de presentación compartido (null hasta el primer lienzo) */
+    private static Thread pacer;
+
+    /**
+     * Escena a dibujar en cada cuadro.
+     */
+    @FunctionalInterface
+    interface Scene {
+        /**
+         * Dibuja el cuadro completo.
+         * 
+         * @param g Contexto gráfico del búfer trasero, del tamaño del lienzo
+         */
+        void render(Graphics g);
+    }
+
+    /** Escena a dibujar */
+    private final Scene scene;
+
+    /** Métricas donde se registran los intervalos entre cuadros presentados */
+    private final FrameMetrics metrics;
+
+    /** Lienzo pesado sobre el que se presenta */
+    private final Canvas canvas = new Canvas() {
+        @Override
+        public void addNotify() {
+            super.addNotify();
+            start();
+        }
+
+        @Override
+        public void removeNotify() {
+            stop();
+            super.removeNotify();
+        }
+
+        @Override
+        public void paint(Graphics g) {
+            requestFrame();
+        }
+
+        @Override
+        public void update(Graphics g) {
+            requestFrame();
+        }
+    };
+
+    /** Estrategia de búferes del lienzo (null mientras no es visualizable) */
+    private BufferStrategy strategy;
+
+    /** Indica si la estrategia usa intercambio de páginas */
+    private boolean pageFlipping;
+
+    /** Configuración gráfica para la que se calculó el período de refresco */
+    private GraphicsConfiguration refreshConfig;
+
+    /** Período de refresco de la pantalla, en nanosegundos */
+    private volatile long framePeriod = 1_000_000_000L / DEFAULT_REFRESH_RATE;
+
+    /** Indica si hay cambios sin presentar */
+    private volatile boolean dirty;
+
+    /** Indica si se presenta un cuadro por refresco aunque no haya cambios */
+    private volatile boolean continuous;
+
+    /** Instante de la última presentación de la racha actual (0 al empezar una racha) */
+    private volatile long lastPresent;
+
+    /**
+     * Construye el renderizado activo de una escena.
+     * 
+     * @param scene Escena a dibujar
+     * @param metrics Métricas donde registrar los cuadros presentados
+     */
+    ActiveRenderer(Scene scene, FrameMetrics metrics) {
+        this.scene = scene;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Crea la estrategia de búferes y suma el lienzo al hilo de presentación, que se
+     * inicia si todavía no existe. Se llama cuando el lienzo pasa a ser visualizable.
+     */
+    private void start() {
+        try {
+            canvas.createBufferStrategy(2, new BufferCapabilities(new ImageCapabilities(true),
+                    new ImageCapabilities(true), BufferCapabilities.FlipContents.UNDEFINED));
+            pageFlipping = true;
+        } catch (AWTException e) {
+            canvas.createBufferStrategy(2);
+            pageFlipping = false;
+        }
+        strategy = canvas.getBufferStrategy();
+        dirty = true;
+        lastPresent = 0;
+        ACTIVE.add(this);
+        startPacer();
+    }
+
+    /**
+     * Quita el lienzo del hilo de presentación. Se llama cuando el lienzo deja de ser
+     * visualizable.
+     */
+    private void stop() {
+        ACTIVE.remove(this);
+        strategy = null;
+    }
+
+    /**
+     * Inicia el hilo de presentación compartido una sola vez y lo despierta.
+     */
+    private static synchronized void startPacer() {
+        if (pacer == null) {
+            pacer = new Thread(ActiveRenderer::runLoop, "active-renderer");
+            pacer.setDaemon(true);
+            pacer.start();
+        }
+        LockSupport.unpark(pacer);
+    }
+
+    /**
+     * Pide presentar un cuadro en el próximo refresco.
+     */
+    void requestFrame() {
+        dirty = true;
+        Thread current = pacer;
+        if (current != null) LockSupport.unpark(current);
+    }
+
+    /**
+     * Activa o desactiva la presentación de un cuadro por refresco aunque no haya cambios.
+     * 
+     * @param continuous true para presentar en cada refresco
+     */
+    void setContinuous(boolean continuous) {
+        this.continuous = continuous;
+        if (continuous) requestFrame();
+    }
+
+    /**
+     * Bucle de presentación: espera el siguiente refresco y dibuja en el EDT, en un
+     * solo evento, todos los lienzos con cambios pendientes o en modo continuo.
+     */
+    private static void runLoop() {
+        List<ActiveRenderer> due = new ArrayList<>();
+        long next = System.nanoTime();
+        while (true) {
+            if (!anyPending()) {
+                for (ActiveRenderer renderer : ACTIVE) {
+                    renderer.lastPresent = 0;
+                }
+                LockSupport.park(ActiveRenderer.class);
+                next = Math.max(next, System.nanoTime());
+                continue;
+            }
+            long wait = next - System.nanoTime();
+            if (wait > SPIN_NANOS) {
+                LockSupport.parkNanos(ActiveRenderer.class, wait - SPIN_NANOS);
+                continue;
+            }
+            while (System.nanoTime() < next) {
+                Thread.onSpinWait();
+            }
+
+            due.clear();
+            long period = Long.MAX_VALUE;
+            for (ActiveRenderer renderer : ACTIVE) {
+                period = Math.min(period, renderer.framePeriod);
+                if (renderer.dirty || renderer.continuous) {
+                    renderer.dirty = false;
+                    due.add(renderer);
+                } else {
+                    renderer.lastPresent = 0;
+                }
+            }
+            try {
+                SwingUtilities.invokeAndWait(() -> {
+                    for (ActiveRenderer renderer : due) {
+                        renderer.renderFrame();
+                    }
+                });
+            } catch (InterruptedException e) {
+                return;
+            } catch (InvocationTargetException e) {
+                // un lienzo que falla no detiene a los de las demás ventanas
+                Thread current = Thread.currentThread();
+                current.getUncaughtExceptionHandler().uncaughtException(current,
+                        new IllegalStateException("Falló el renderizado activo", e.getCause()));
+            }
+
+            long now = System.nanoTime();
+            next += period == Long.MAX_VALUE ? 1_000_000_000L / DEFAULT_REFRESH_RATE : period;
+            if (next < now) next = now; // atrasado (EDT ocupado): volver a sincronizar
+        }
+    }
+
+    /**
+     * Indica si algún lienzo tiene cambios pendientes o está en modo continuo.
+     * 
+     * @return true si hay que presentar al menos un cuadro
+     */
+    private static boolean anyPending() {
+        for (ActiveRenderer renderer : ACTIVE) {
+            if (renderer.dirty || renderer.continuous) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Dibuja la escena en el búfer trasero y lo presenta. Se ejecuta en el EDT.
+     */
+    private void renderFrame() {
+        BufferStrategy buffers = strategy;
+        if (buffers == null || !canvas.isShowing()) return;
+        updateRefreshRate();
+
+        do {
+            do {
+                Graphics g = buffers.getDrawGraphics();
+                try {
+                    scene.render(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (buffers.contentsRestored());
+            buffers.show();
+        } while (buffers.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+
+        long now = System.nanoTime();
+        long previous = lastPresent;
+        if (previous != 0) {
+            metrics.recordPresent(now - previous);
+        }
+        lastPresent = now;
+    }
+
+    /**
+     * Vuelve a leer la frecuencia de refresco si el lienzo cambió de pantalla.
+     */
+    private void updateRefreshRate() {
+        GraphicsConfiguration gc = canvas.getGraphicsConfiguration();
+        if (gc == null || gc == refreshConfig) return;
+        refreshConfig = gc;
+        int rate = gc.getDevice().getDisplayMode().getRefreshRate();
+        if (rate == DisplayMode.REFRESH_RATE_UNKNOWN) rate = DEFAULT_REFRESH_RATE;
+        framePeriod = 1_000_000_000L / rate;
+    }
+
+    Canvas getCanvas() { return canvas; }
+    boolean isPageFlipping() { return pageFlipping; }
+    double getRefreshRate() { return 1e9 / framePeriod; }
+}
@@ -0,0 +1,121 @@
+package view;
+
+import engine.AnimationScheduler;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Interpolación de una posición entre dos pasos de la física.
+ * El panel guarda la posición del paso anterior y la del actual, y dibuja una mezcla
+ * de ambas según la fracción del paso que ya transcurrió en tiempo real (el
+ * {@code alpha} del reloj de simulación). Así la física puede correr a una frecuencia
+ * baja y fija mientras el movimiento se dibuja fluido a la frecuencia de la pantalla.
+ * <p>
+ * Mientras hay interpolación, los cuadros entre dos pasos se piden al renderizado
+ * activo en modo continuo o, en el modo pasivo, a un único repintado periódico del
+ * {@link AnimationScheduler} compartido por todas las ventanas: con varias ventanas
+ * abiertas hay un solo tick de repintado, y ninguno si nada se está moviendo.
+ * <p>
+ * Debe usarse sólo desde el EDT.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+final class FrameInterpolator {
+    /** Intervalo entre repintados del modo pasivo mientras se interpola, en nanosegundos */
+    private static final long PASSIVE_PERIOD = 16_000_000;
+
+    /** Interpoladores del modo pasivo que se repintan en cada tick */
+    private static final Set<FrameInterpolator> PASSIVE = new LinkedHashSet<>();
+
+    /** Repintado periódico compartido del modo pasivo (null si no hay interpoladores) */
+    private static AnimationScheduler.EdtTask passiveTick;
+
+    /** Acción que repinta la zona interpolada */
+    private final Runnable repaint;
+
+    /** Fracción del paso en curso (null si no se interpola) */
+    private DoubleSupplier alpha;
+
+    /** Renderizado activo del panel (null en el modo pasivo) */
+    private ActiveRenderer renderer;
+
+    /**
+     * Construye la interpolación de un panel.
+     * 
+     * @param repaint Acción que repinta la zona donde se mueve el objeto interpolado
+     */
+    FrameInterpolator(Runnable repaint) {
+        this.repaint = repaint;
+    }
+
+    /**
+     * Establece de dónde se lee la fracción del paso en curso.
+     * 
+     * @param alpha Fracción entre 0 y 1, leída en el EDT (null para dibujar siempre el estado actual)
+     */
+    void setAlpha(DoubleSupplier alpha) {
+        this.alpha = alpha;
+        update();
+    }
+
+    /**
+     * Indica el renderizado activo del panel, que pasa a presentar los cuadros
+     * intermedios en lugar del repintado periódico.
+     * 
+     * @param renderer Renderizado activo (null al volver al modo pasivo)
+     */
+    void setRenderer(ActiveRenderer renderer) {
+        if (this.renderer != null) {
+            this.renderer.setContinuous(false);
+        }
+        this.renderer = renderer;
+        update();
+    }
+
+    /**
+     * Mezcla el estado anterior con el actual según la fracción del paso en curso.
+     * 
+     * @param previous Valor en el paso anterior
+     * @param current Valor en el paso actual
+     * @return Valor a dibujar
+     */
+    double blend(double previous, double current) {
+        DoubleSupplier source = alpha;
+        return source == null ? current : previous + (current - previous) * source.getAsDouble();
+    }
+
+    /**
+     * Elige quién pide los cuadros intermedios: el renderizado activo, el repintado
+     * periódico o ninguno si no se interpola.
+     */
+    private void update() {
+        boolean interpolating = alpha != null;
+        if (renderer != null) {
+            renderer.setContinuous(interpolating);
+            interpolating = false;
+        }
+        if (interpolating) {
+            PASSIVE.add(this);
+            if (passiveTick == null) {
+                passiveTick = AnimationScheduler.shared().repeat(PASSIVE_PERIOD, FrameInterpolator::repaintPassive);
+            }
+        } else if (PASSIVE.remove(this) && PASSIVE.isEmpty()) {
+            passiveTick.cancel();
+            passiveTick = null;
+        }
+    }
+
+    /**
+     * Repinta todos los paneles que interpolan en el modo pasivo.
+     */
+    private static void repaintPassive() {
+        for (FrameInterpolator interpolator : PASSIVE) {
+            interpolator.repaint.run();
+        }
+    }
+
+    boolean isInterpolating() { return alpha != null; }
+}
@@ -1,12 +1,19 @@
 package view;
 
-import util.ImageLoader;
+import engine.PlaybackFrame;
+import engine.Timeline;
+import model.integration.IntegratorType;
+import util.FrameMetrics;
+import util.Sprite;
+import util.StartupMetrics;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
 import java.awt.*;
-import java.text.DecimalFormat;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.function.DoubleSupplier;
 
 /**
  * Vista principal para la simulación de caída libre.
@@ -17,8 +24,36 @@ import java.text.DecimalFormat;
  * @version 1.0
  */
 public class FreeFallView extends JDialog {
-    /** Formato para mostrar valores numéricos con 2 decimales */
-    private static final DecimalFormat DF = new DecimalFormat("0.00");
+    /** Nombre de la ventana en las mediciones de {@link StartupMetrics} */
+    public static final String METRICS_NAME = "caida-libre";
+
+    /** Tamaño en píxeles de los sprites del modo de muchos objetos */
+    public static final int PARTICLE_SIZE = 14;
+
+    /** Ícono de la pelota en el selector de objeto */
+    public static final Sprite BALL_OPTION = new Sprite("resources/ball.png", 36, 36);
+
+    /** Ícono del dino en el selector de objeto */
+    public static final Sprite DINO_OPTION = new Sprite("resources/dino_parachute.png", 40, 40);
+
+    /** Pelota que se muestra antes de la primera simulación */
+    public static final Sprite BALL_IDLE = new Sprite("resources/ball.png", 80, 80);
+
+    /** Pelota durante la caída */
+    public static final Sprite BALL_FALLING = new Sprite("resources/ball.png", 90, 90);
+
+    /** Dino con paracaídas durante la caída */
+    public static final Sprite DINO_FALLING = new Sprite("resources/dino_parachute.png", 110, 110);
+
+    /** Pelota del modo de muchos objetos */
+    public static final Sprite BALL_PARTICLE = new Sprite("resources/ball.png", PARTICLE_SIZE, PARTICLE_SIZE);
+
+    /** Dino del modo de muchos objetos */
+    public static final Sprite DINO_PARTICLE = new Sprite("resources/dino_parachute.png", PARTICLE_SIZE, PARTICLE_SIZE);
+
+    /** Todos los sprites que usa la ventana, para precargarlos */
+    public static final List<Sprite> SPRITES = List.of(BALL_OPTION, DINO_OPTION, BALL_IDLE, BALL_FALLING,
+            DINO_FALLING, BALL_PARTICLE, DINO_PARTICLE);
 
     /** Campo de texto para la altura inicial en metros */
     private final JTextField tfHeight = new JTextField("50");
@@ -26,12 +61,18 @@ public class FreeFallView extends JDialog {
     /** Campo de texto para la velocidad inicial en m/s */
     private final JTextField tfV0 = new JTextField("0");
     
+    /** Campo de texto para la cantidad de objetos que se sueltan a la vez */
+    private final JTextField tfCount = new JTextField("1");
+    
     /** Botón para iniciar la simulación */
     private final JButton btnSimular = new JButton("▶ Empezar");
     
     /** Botón para detener la simulación */
     private final JButton btnDetener = new JButton("⏸ Detener");
     
+    /** Botón para saltar al siguiente evento de la simulación (impacto, fin del rebote o aterrizaje) */
+    private final JButton btnSaltar = new JButton("⏭ Saltar");
+    
     /** Botón para calcular el tiempo hasta el suelo */
     private final JButton btnCalcTimeGround = new JButton("🧮 Tiempo al suelo");
 
@@ -41,6 +82,13 @@ public class FreeFallView extends JDialog {
     /** Radio button para seleccionar el dinosaurio como objeto */
     private final JRadioButton rbDino = new JRadioButton("Dino");
     
+    /** Nombres de los métodos de integración, en el orden de {@link IntegratorType} */
+    private static final String[] INTEGRATOR_NAMES = {
+            "Euler", "Euler semi-implícito", "Verlet de velocidades", "Runge-Kutta 4", "RK45 adaptativo"};
+    
+    /** Selector del método de integración de la caída con paracaídas */
+    private final JComboBox<String> cbIntegrator = new JComboBox<>(INTEGRATOR_NAMES);
+    
     /** Panel que muestra la animación de la caída */
     private final AnimationPanel animationPanel = new AnimationPanel();
 
@@ -65,15 +113,59 @@ public class FreeFallView extends JDialog {
     /** Barra de progreso que muestra el avance del tiempo */
     private final JProgressBar progressTime = new JProgressBar(0, 1000);
 
+    /** Textos reutilizables de cada etiqueta de telemetría */
+    private final TelemetryText txtTime = new TelemetryText(lblTimeValue::setText);
+    private final TelemetryText txtHeight = new TelemetryText(lblHeightValue::setText);
+    private final TelemetryText txtDistance = new TelemetryText(lblDistanceValue::setText);
+    private final TelemetryText txtVelocity = new TelemetryText(lblVelocityValue::setText);
+    private final TelemetryText txtRemaining = new TelemetryText(lblRemainingValue::setText);
+    private final TelemetryText txtProgress = new TelemetryText(progressTime::setString);
+    private final TelemetryText txtStatus = new TelemetryText(lblStatus::setText);
+
+    /** Limita el volcado de la telemetría a la frecuencia de refresco */
+    private final TelemetryRenderer telemetryRenderer = new TelemetryRenderer(this::renderTelemetry);
+
+    /** Últimos valores de telemetría recibidos, pendientes de mostrar */
+    private double time, height, distanceFallen, velocity, timeRemaining, progress;
+
+    /** Mensaje de estado pendiente (o prefijo si lleva un valor numérico) */
+    private String statusText = "Listo para simular.";
+    
+    /** Valor numérico del estado (NaN si el mensaje no lleva valor) */
+    private double statusValue = Double.NaN;
+    
+    /** Sufijo que sigue al valor numérico del estado */
+    private String statusSuffix = "";
+    
+    /** Decimales con los que se muestra el valor numérico del estado */
+    private int statusDecimals = 2;
+
+    /** Columna de la grabación con la posición vertical del objeto en píxeles */
+    public static final int REC_SPRITE = 5;
+
+    /** Grabación de los cuadros de telemetría de la última corrida */
+    private final Timeline timeline = new Timeline(6);
+    
+    /** Fila reutilizable para grabar un cuadro */
+    private final double[] recordRow = new double[6];
+    
+    /** Indica si los cuadros de telemetría se están grabando */
+    private boolean recording;
+    
+    /** Controles para repetir la grabación */
+    private final ReplayControls replayControls = new ReplayControls();
+
     /**
-     * Construye una nueva vista de caída libre.
+     * Construye una nueva vista de caída libre. La ventana no es modal, así que puede
+     * haber varias abiertas junto a las de MRU.
      * 
-     * @param parent Ventana padre (modal)
+     * @param parent Ventana padre
      */
     public FreeFallView(JFrame parent) {
-        super(parent, "Caída Libre", true);
-        setSize(880, 640);
-        setMinimumSize(new Dimension(780, 540));
+        super(parent, "Caída Libre", false);
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+        setSize(880, 760);
+        setMinimumSize(new Dimension(780, 660));
         setLocationRelativeTo(parent);
 
         JPanel content = new JPanel(new BorderLayout(20, 20));
@@ -113,10 +205,13 @@ public class FreeFallView extends JDialog {
         sidebar.add(createCard("Telemetría", buildTelemetryPanel()));
         sidebar.add(Box.createVerticalStrut(14));
         sidebar.add(createCard("Controles", buildControlsPanel()));
+        sidebar.add(Box.createVerticalStrut(14));
+        sidebar.add(createCard("Repetición", replayControls));
 
         ButtonGroup group = new ButtonGroup();
         group.add(rbBall);
         group.add(rbDino);
+        rbDino.addItemListener(e -> cbIntegrator.setEnabled(rbDino.isSelected()));
 
         lblStatus.setFont(new Font("SansSerif", Font.BOLD, 12));
         lblStatus.setForeground(new Color(30, 80, 140));
@@ -125,8 +220,12 @@ public class FreeFallView extends JDialog {
         progressTime.setBackground(new Color(255, 228, 216));
 
         btnDetener.setEnabled(false);
+        btnSaltar.setEnabled(false);
         updateTelemetry(255, 255, 255, 255, -1, 255);
         getRootPane().setDefaultButton(btnSimular);
+        MetricsOverlay.bindToggleKey(getRootPane(),
+                () -> animationPanel.setMetricsVisible(!animationPanel.isMetricsVisible()));
+        animationPanel.setActiveRendering(ActiveRenderer.ENABLED);
     }
 
     /**
@@ -141,6 +240,8 @@ public class FreeFallView extends JDialog {
         panel.add(createInputBlock("Altura inicial (m)", tfHeight));
         panel.add(Box.createVerticalStrut(6));
         panel.add(createInputBlock("Velocidad inicial (m/s)", tfV0));
+        panel.add(Box.createVerticalStrut(6));
+        panel.add(createInputBlock("Cantidad de objetos", tfCount));
         return panel;
     }
 
@@ -154,8 +255,8 @@ public class FreeFallView extends JDialog {
         panel.setOpaque(false);
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
 
-        Icon ballIcon = ImageLoader.load("resources/ball.png", 36, 36);
-        Icon dinoIcon = ImageLoader.load("resources/dino_parachute.png", 40, 40);
+        Icon ballIcon = BALL_OPTION.load();
+        Icon dinoIcon = DINO_OPTION.load();
 
         styleRadio(rbBall);
         styleRadio(rbDino);
@@ -163,6 +264,14 @@ public class FreeFallView extends JDialog {
         panel.add(createRadioRow(rbBall, ballIcon));
         panel.add(Box.createVerticalStrut(6));
         panel.add(createRadioRow(rbDino, dinoIcon));
+        panel.add(Box.createVerticalStrut(6));
+
+        // El paracaídas frena con el aire y se integra numéricamente; la pelota cae en el vacío
+        cbIntegrator.setSelectedIndex(IntegratorType.RK4.ordinal());
+        cbIntegrator.setFont(new Font("SansSerif", Font.BOLD, 12));
+        cbIntegrator.setToolTipText("Método de integración de la caída con paracaídas");
+        cbIntegrator.setEnabled(false);
+        panel.add(cbIntegrator);
         return panel;
     }
 
@@ -205,7 +314,9 @@ public class FreeFallView extends JDialog {
 
         styleSecondaryButton(btnSimular, new Color(255, 120, 76));
         styleSecondaryButton(btnDetener, new Color(255, 200, 184));
+        styleGhostButton(btnSaltar);
         styleGhostButton(btnCalcTimeGround);
+        btnSaltar.setToolTipText("Salta al siguiente evento: el impacto, el fin del rebote o el próximo aterrizaje");
 
         JPanel row = new JPanel(new GridLayout(1, 2, 10, 0));
         row.setOpaque(false);
@@ -214,6 +325,8 @@ public class FreeFallView extends JDialog {
 
         panel.add(row);
         panel.add(Box.createVerticalStrut(10));
+        panel.add(btnSaltar);
+        panel.add(Box.createVerticalStrut(10));
         panel.add(btnCalcTimeGround);
 
         return panel;
@@ -376,32 +489,140 @@ public class FreeFallView extends JDialog {
      * @param progress Progreso de la simulación (0.0 a 1.0)
      */
     public void updateTelemetry(double time, double height, double distanceFallen, double velocity, double timeRemaining, double progress) {
-        lblTimeValue.setText(DF.format(time) + " s");
-        lblHeightValue.setText(DF.format(height) + " m");
-        lblDistanceValue.setText(DF.format(distanceFallen) + " m");
+        this.time = time;
+        this.height = height;
+        this.distanceFallen = distanceFallen;
+        this.velocity = velocity;
+        this.timeRemaining = timeRemaining;
+        this.progress = progress;
+        if (recording) {
+            recordRow[0] = height;
+            recordRow[1] = distanceFallen;
+            recordRow[2] = velocity;
+            recordRow[3] = timeRemaining;
+            recordRow[4] = progress;
+            recordRow[REC_SPRITE] = animationPanel.getSpriteY();
+            timeline.record(time, recordRow);
+        }
+        telemetryRenderer.invalidate();
+    }
+
+    /**
+     * Empieza una grabación nueva descartando la anterior. Desde entonces cada cuadro
+     * que llega a {@link #updateTelemetry} se graba junto con la posición vertical del objeto en píxeles.
+     * 
+     * @param enabled false para sólo descartar la grabación anterior sin grabar
+     */
+    public void startRecording(boolean enabled) {
+        timeline.clear();
+        recording = enabled;
+    }
+
+    /**
+     * Deja de grabar cuadros de telemetría.
+     */
+    public void stopRecording() {
+        recording = false;
+    }
+
+    /**
+     * Muestra un cuadro de la grabación sin volver a grabarlo.
+     * 
+     * @param frame Cuadro reproducido
+     */
+    public void showRecordedFrame(PlaybackFrame frame) {
+        boolean wasRecording = recording;
+        recording = false;
+        animationPanel.setY(frame.value(REC_SPRITE));
+        updateTelemetry(frame.time(), frame.value(0), frame.value(1), frame.value(2), frame.value(3), frame.value(4));
+        recording = wasRecording;
+        showStatusValue("Repetición: ", frame.time(), " s");
+    }
+
+    /**
+     * Muestra un mensaje de estado en la vista.
+     * 
+     * @param text Texto del estado a mostrar
+     */
+    public void showStatus(String text) {
+        showStatusValue(text, Double.NaN, "");
+    }
+
+    /**
+     * Muestra un mensaje de estado con un valor numérico de dos decimales,
+     * sin construir la cadena en cada frame.
+     * 
+     * @param prefix Texto previo al valor
+     * @param value Valor a mostrar (NaN para omitirlo)
+     * @param suffix Texto posterior al valor
+     */
+    public void showStatusValue(String prefix, double value, String suffix) {
+        showStatusValue(prefix, value, 2, suffix);
+    }
+
+    /**
+     * Muestra un mensaje de estado con un valor numérico con los decimales indicados.
+     * 
+     * @param prefix Texto previo al valor
+     * @param value Valor a mostrar (NaN para omitirlo)
+     * @param decimals Número de decimales del valor
+     * @param suffix Texto posterior al valor
+     */
+    public void showStatusValue(String prefix, double value, int decimals, String suffix) {
+        statusText = prefix;
+        statusValue = value;
+        statusDecimals = decimals;
+        statusSuffix = suffix;
+        telemetryRenderer.invalidate();
+    }
+
+    /**
+     * Vuelca los valores pendientes en las etiquetas. Sólo se llama a
+     * {@code setText} en las etiquetas cuyo texto cambió.
+     */
+    private void renderTelemetry() {
+        txtTime.clear().appendFixed(time, 2).append(" s").commit();
+        txtHeight.clear().appendFixed(height, 2).append(" m").commit();
+        txtDistance.clear().appendFixed(distanceFallen, 2).append(" m").commit();
 
         boolean downward = velocity >= 0;
-        String arrow = downward ? "↓ " : "↑ ";
-        lblVelocityValue.setText(arrow + DF.format(Math.abs(velocity)) + " m/s");
+        txtVelocity.clear().append(downward ? "↓ " : "↑ ").appendFixed(Math.abs(velocity), 2).append(" m/s").commit();
 
         if (timeRemaining < 0) {
-            lblRemainingValue.setText("—");
+            txtRemaining.clear().append("—").commit();
         } else {
-            lblRemainingValue.setText(DF.format(timeRemaining) + " s");
+            txtRemaining.clear().appendFixed(timeRemaining, 2).append(" s").commit();
         }
 
         int progressValue = (int) Math.round(Math.max(0, Math.min(progress, 1)) * 1000);
         progressTime.setValue(progressValue);
-        progressTime.setString(String.format("%d %% del tiempo", Math.round(progressValue / 10.0)));
+        txtProgress.clear().append(Math.round(progressValue / 10.0)).append(" % del tiempo").commit();
+
+        txtStatus.clear().append(statusText);
+        if (!Double.isNaN(statusValue)) {
+            txtStatus.appendFixed(statusValue, statusDecimals).append(statusSuffix);
+        }
+        txtStatus.commit();
     }
 
     /**
-     * Muestra un mensaje de estado en la vista.
-     * 
-     * @param text Texto del estado a mostrar
+     * Devuelve la ventana al estado en que se construyó: datos de entrada por defecto,
+     * telemetría en cero, sin grabación y con la pelota en su posición inicial. Se usa
+     * al cerrarla, para que al reutilizarla desde la reserva no muestre la corrida anterior.
      */
-    public void showStatus(String text) {
-        lblStatus.setText(text);
+    public void resetView() {
+        tfHeight.setText("50");
+        tfV0.setText("0");
+        tfCount.setText("1");
+        rbBall.setSelected(true);
+        cbIntegrator.setSelectedIndex(IntegratorType.RK4.ordinal());
+        cbIntegrator.setEnabled(false);
+        startRecording(false);
+        animationPanel.clearParticles();
+        animationPanel.setCharacter(BALL_IDLE.load());
+        animationPanel.setY(50);
+        updateTelemetry(0, 0, 0, 0, 0, 0);
+        setSimulationRunning(false);
     }
 
     /**
@@ -412,29 +633,142 @@ public class FreeFallView extends JDialog {
     public void setSimulationRunning(boolean running) {
         btnSimular.setEnabled(!running);
         btnDetener.setEnabled(running);
+        btnSaltar.setEnabled(running);
         btnCalcTimeGround.setEnabled(!running);
         showStatus(running ? "Simulación en progreso…" : "Listo para simular.");
     }
 
     public String getHeightString() { return tfHeight.getText(); }
     public String getV0() { return tfV0.getText(); }
+    public String getCountString() { return tfCount.getText(); }
     public boolean isBallSelected() { return rbBall.isSelected(); }
+    public IntegratorType getIntegratorType() { return IntegratorType.values()[cbIntegrator.getSelectedIndex()]; }
 
     public JButton getBtnSimular() { return btnSimular; }
     public JButton getBtnDetener() { return btnDetener; }
+    public JButton getBtnSaltar() { return btnSaltar; }
     public JButton getBtnCalcTimeGround() { return btnCalcTimeGround; }
     public AnimationPanel getAnimationPanel() { return animationPanel; }
+    public Timeline getTimeline() { return timeline; }
+    public ReplayControls getReplayControls() { return replayControls; }
 
     /**
      * Panel interno que renderiza la animación visual de la caída libre.
-     * Dibuja el escenario con cielo, nubes, edificios, suelo y el objeto en caída.
+     * Dibuja el escenario con cielo, nubes, edificios, suelo y el objeto en caída,
+     * o bien un grupo de muchos objetos dibujados en una sola pasada.
      */
     public static class AnimationPanel extends JPanel {
-        private ImageIcon icon = ImageLoader.load("resources/ball.png", 80, 80);
+        private static final Color SKY_TOP = new Color(183, 216, 255);
+        private static final Color SKY_BOTTOM = new Color(236, 248, 255);
+        private static final Color CLOUD_COLOR = new Color(255, 255, 255, 160);
+        private static final Color BUILDING_COLOR = new Color(157, 188, 218);
+        private static final Color GROUND_COLOR = new Color(118, 172, 108);
+        private static final Color FRAME_COLOR = new Color(255, 255, 255, 180);
+        private static final Color SCALE_LINE_COLOR = new Color(255, 255, 255, 200);
+        private static final Color SCALE_TEXT_COLOR = new Color(255, 255, 255, 220);
+        private static final BasicStroke LINE_STROKE = new BasicStroke(2f);
+        private static final Font SCALE_FONT = new Font("SansSerif", Font.BOLD, 11);
+
+
+        private ImageIcon icon = BALL_IDLE.load();
         private double y = 50;
 
+        /** Posición Y del objeto en el paso anterior de la física */
+        private double previousY = 50;
+
+        /** Capa estática (cielo, nubes, edificios, suelo y escala) ya renderizada */
+        private BufferedImage background;
+        
+        /** Altura de cada objeto en metros (null si se anima un solo objeto) */
+        private double[] particleHeights;
+        
+        /** Índice de sprite de cada objeto (0 pelota, 1 dinosaurio) */
+        private int[] particleSprites;
+        
+        /** Nivel del suelo y escala en píxeles usados para ubicar los objetos */
+        private double particleGround, particleScale;
+        
+        /** Imágenes de los sprites del modo de muchos objetos */
+        private Image[] particleImages;
+        
+        /** Configuración gráfica para la que se creó la capa estática */
+        private GraphicsConfiguration backgroundConfig;
+
+        /** Tiempos de actualización y pintado de la animación */
+        private final FrameMetrics metrics = new FrameMetrics(METRICS_NAME);
+
+        /** Indica si se dibuja el panel de métricas */
+        private boolean metricsVisible = MetricsOverlay.VISIBLE_BY_DEFAULT;
+
+        /** Renderizado activo (null en el modo pasivo de Swing) */
+        private ActiveRenderer renderer;
+
+        /** Interpolación de la posición entre pasos de la física */
+        private final FrameInterpolator interpolator = new FrameInterpolator(this::repaintInterpolated);
+
         public AnimationPanel() {
             setBackground(new Color(223, 236, 255));
+            metrics.setFrameListener(() -> {
+                if (metricsVisible) repaint(MetricsOverlay.BOUNDS);
+            });
+        }
+
+        /**
+         * Muestra u oculta el panel de métricas sobre la animación.
+         * 
+         * @param visible true para mostrarlo
+         */
+        public void setMetricsVisible(boolean visible) {
+            metricsVisible = visible;
+            repaint(MetricsOverlay.BOUNDS);
+        }
+
+        /**
+         * Activa o desactiva el renderizado activo: un lienzo con {@link java.awt.image.BufferStrategy}
+         * cubre el panel y presenta los cuadros al ritmo de la pantalla.
+         * 
+         * @param active true para usar el renderizado activo
+         */
+        public void setActiveRendering(boolean active) {
+            if (active == (renderer != null)) return;
+            if (active) {
+                renderer = new ActiveRenderer(this::renderFrame, metrics);
+                setLayout(null);
+                add(renderer.getCanvas());
+            } else {
+                remove(renderer.getCanvas());
+                renderer = null;
+            }
+            interpolator.setRenderer(renderer);
+            revalidate();
+            repaint();
+        }
+
+        @Override
+        public void doLayout() {
+            if (renderer != null) {
+                renderer.getCanvas().setBounds(0, 0, getWidth(), getHeight());
+            }
+        }
+
+        /**
+         * Suelta la capa estática al cerrarse la ventana; se vuelve a renderizar si la
+         * ventana se muestra de nuevo.
+         */
+        @Override
+        public void removeNotify() {
+            super.removeNotify();
+            background = null;
+            backgroundConfig = null;
+        }
+
+        @Override
+        public void repaint(long tm, int x, int y, int width, int height) {
+            if (renderer != null) {
+                renderer.requestFrame();
+            } else {
+                super.repaint(tm, x, y, width, height);
+            }
         }
 
         /**
@@ -443,18 +777,53 @@ public class FreeFallView extends JDialog {
          * @param icon Icono del objeto (pelota o dinosaurio)
          */
         public void setCharacter(ImageIcon icon) {
+            Rectangle old = getSpriteBounds();
             this.icon = icon;
-            repaint();
+            repaintSprite(old);
         }
 
         /**
-         * Establece la posición vertical del objeto en píxeles.
+         * Establece la posición vertical del objeto en píxeles, sin interpolar desde la anterior.
+         * Sólo se repinta la zona que ocupaba el objeto y la que ocupa ahora.
          * 
          * @param y Posición Y en píxeles
          */
         public void setY(double y) {
-            this.y = y;
-            repaint();
+            setY(y, y);
+        }
+
+        /**
+         * Establece la posición vertical del objeto en el paso anterior y en el actual de
+         * la física. Con interpolación activa el objeto se dibuja entre ambas.
+         * 
+         * @param previous Posición Y en el paso anterior, en píxeles
+         * @param current Posición Y en el paso actual, en píxeles
+         */
+        public void setY(double previous, double current) {
+            Rectangle old = getSpriteBounds();
+            this.previousY = previous;
+            this.y = current;
+            Rectangle now = boundsAt(previous).union(boundsAt(current));
+            if (!now.equals(old)) {
+                repaint(old.union(now));
+            }
+        }
+
+        /**
+         * Activa o desactiva la interpolación de la posición entre pasos de la física.
+         * 
+         * @param alpha Fracción del paso en curso, leída en el EDT (null para dibujar sólo el paso actual)
+         */
+        public void setInterpolation(DoubleSupplier alpha) {
+            interpolator.setAlpha(alpha);
+            repaintInterpolated();
+        }
+
+        /**
+         * Repinta la zona entre la posición anterior y la actual mientras se interpola.
+         */
+        private void repaintInterpolated() {
+            repaint(boundsAt(previousY).union(boundsAt(y)));
         }
 
         /**
@@ -464,57 +833,212 @@ public class FreeFallView extends JDialog {
          * @param offset Desplazamiento en píxeles (positivo hacia abajo)
          */
         public void move(double offset) {
-            this.y += offset;
+            setY(y + offset);
+        }
+
+        /**
+         * Obtiene la posición vertical del objeto en píxeles en el paso actual de la física.
+         * 
+         * @return Posición Y establecida con {@link #setY(double)}
+         */
+        public double getSpriteY() {
+            return y;
+        }
+
+        /**
+         * Muestra un grupo de objetos en lugar del objeto único. Los objetos se reparten
+         * a lo ancho del escenario y se ubican verticalmente igual que el objeto único.
+         * 
+         * @param heights Altura de cada objeto en metros
+         * @param sprites Índice de sprite de cada objeto (0 pelota, 1 dinosaurio)
+         * @param groundLevel Nivel del suelo en píxeles
+         * @param pixelScale Píxeles por metro
+         */
+        public void setParticles(double[] heights, int[] sprites, double groundLevel, double pixelScale) {
+            if (particleImages == null) {
+                particleImages = new Image[] {
+                    BALL_PARTICLE.load().getImage(),
+                    DINO_PARTICLE.load().getImage()
+                };
+            }
+            particleHeights = heights;
+            particleSprites = sprites;
+            particleGround = groundLevel;
+            particleScale = pixelScale;
             repaint();
         }
 
+        /**
+         * Vuelve a mostrar el objeto único.
+         */
+        public void clearParticles() {
+            if (particleHeights != null) {
+                particleHeights = null;
+                particleSprites = null;
+                repaint();
+            }
+        }
+
+        /**
+         * Calcula el rectángulo que ocupa el objeto tal como se dibuja ahora,
+         * con la posición interpolada si la interpolación está activa.
+         * 
+         * @return Límites del objeto en coordenadas del panel
+         */
+        public Rectangle getSpriteBounds() {
+            return boundsAt(interpolator.blend(previousY, y));
+        }
+
+        /**
+         * Calcula el rectángulo que ocupa el objeto en una posición vertical dada.
+         * 
+         * @param y Posición Y en píxeles
+         * @return Límites del objeto en coordenadas del panel
+         */
+        private Rectangle boundsAt(double y) {
+            int ground = getHeight() - 100;
+            int iconX = getWidth() / 2 - icon.getIconWidth() / 2;
+            int iconY = (int) Math.min(y, ground - icon.getIconHeight());
+            return new Rectangle(iconX, iconY, icon.getIconWidth(), icon.getIconHeight());
+        }
+
+        /**
+         * Solicita repintar la unión de los límites anteriores y actuales del objeto.
+         * 
+         * @param old Límites del objeto antes del cambio
+         */
+        private void repaintSprite(Rectangle old) {
+            Rectangle current = getSpriteBounds();
+            if (!current.equals(old)) {
+                repaint(old.union(current));
+            }
+        }
+
         @Override
         protected void paintComponent(Graphics g) {
-            super.paintComponent(g);
-            Graphics2D g2 = (Graphics2D) g.create();
-            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            if (renderer == null) {
+                renderFrame(g);
+            }
+        }
 
+        /**
+         * Dibuja un cuadro completo: escenario, objeto u objetos y panel de métricas.
+         * Lo usan tanto el pintado de Swing como el renderizado activo.
+         * 
+         * @param g Contexto gráfico de destino
+         */
+        private void renderFrame(Graphics g) {
             int width = getWidth();
             int height = getHeight();
+            if (width <= 0 || height <= 0) return;
+            StartupMetrics.frame(METRICS_NAME);
+
+            long start = metrics.beginPaint();
+            g.drawImage(backgroundLayer(width, height), 0, 0, null);
+            if (particleHeights != null) {
+                paintParticles(g, width, height);
+            } else {
+                Rectangle sprite = getSpriteBounds();
+                icon.paintIcon(this, g, sprite.x, sprite.y);
+            }
+            metrics.endPaint(start);
+
+            if (metricsVisible) {
+                MetricsOverlay.paint(g, metrics);
+            }
+        }
+
+        /**
+         * Dibuja todos los objetos en una sola pasada sobre el escenario ya compuesto,
+         * sin crear objetos por cuerpo.
+         * 
+         * @param g Contexto gráfico de destino
+         * @param width Ancho del panel en píxeles
+         * @param height Alto del panel en píxeles
+         */
+        private void paintParticles(Graphics g, int width, int height) {
+            double[] heights = particleHeights;
+            int[] sprites = particleSprites;
+            Image[] images = particleImages;
+            int n = heights.length;
+            int left = 70;
+            double spacing = (double) Math.max(width - left - 40 - PARTICLE_SIZE, 1) / Math.max(n, 1);
+            int lowest = height - 100 - PARTICLE_SIZE;
+            double ground = particleGround;
+            double scale = particleScale;
+
+            for (int i = 0; i < n; i++) {
+                int x = left + (int) (i * spacing);
+                int y = (int) Math.min(ground - heights[i] * scale, lowest);
+                g.drawImage(images[sprites[i]], x, y, null);
+            }
+        }
+
+        /**
+         * Obtiene la capa estática del escenario, volviéndola a renderizar sólo si
+         * cambió el tamaño del panel o la pantalla en la que se muestra.
+         * 
+         * @param width Ancho del panel en píxeles
+         * @param height Alto del panel en píxeles
+         * @return Imagen opaca con el escenario completo
+         */
+        private BufferedImage backgroundLayer(int width, int height) {
+            GraphicsConfiguration gc = getGraphicsConfiguration();
+            if (background == null || background.getWidth() != width || background.getHeight() != height
+                    || gc != backgroundConfig) {
+                background = gc != null
+                        ? gc.createCompatibleImage(width, height, Transparency.OPAQUE)
+                        : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+                backgroundConfig = gc;
+
+                Graphics2D g2 = background.createGraphics();
+                paintScene(g2, width, height);
+                g2.dispose();
+            }
+            return background;
+        }
+
+        /**
+         * Dibuja el escenario estático: cielo, nubes, edificios, suelo, marco y escala.
+         * 
+         * @param g2 Contexto gráfico de destino
+         * @param width Ancho del panel en píxeles
+         * @param height Alto del panel en píxeles
+         */
+        private void paintScene(Graphics2D g2, int width, int height) {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             int ground = height - 100;
 
-            GradientPaint sky = new GradientPaint(0, 0, new Color(183, 216, 255), 0, height, new Color(236, 248, 255));
-            g2.setPaint(sky);
+            g2.setPaint(new GradientPaint(0, 0, SKY_TOP, 0, height, SKY_BOTTOM));
             g2.fillRect(0, 0, width, height);
 
-            g2.setColor(new Color(255, 255, 255, 160));
+            g2.setColor(CLOUD_COLOR);
             g2.fillOval(60, 60, 160, 80);
             g2.fillOval(240, 40, 180, 90);
             g2.fillOval(width - 240, 70, 190, 90);
 
-            g2.setColor(new Color(157, 188, 218));
+            g2.setColor(BUILDING_COLOR);
             g2.fillRoundRect(60, ground - 240, 120, 240, 26, 26);
             g2.fillRoundRect(width - 150, ground - 200, 90, 200, 22, 22);
 
-            g2.setColor(new Color(118, 172, 108));
+            g2.setColor(GROUND_COLOR);
             g2.fillRoundRect(0, ground, width, 140, 40, 40);
 
-            g2.setColor(new Color(255, 255, 255, 180));
-            g2.setStroke(new BasicStroke(2f));
+            g2.setColor(FRAME_COLOR);
+            g2.setStroke(LINE_STROKE);
             g2.drawRoundRect(18, 18, width - 36, height - 36, 40, 40);
 
             drawScale(g2, height, ground);
-
-            int iconX = width / 2 - icon.getIconWidth() / 2;
-            int iconY = (int) Math.min(y, ground - icon.getIconHeight());
-            icon.paintIcon(this, g2, iconX, iconY);
-
-            g2.dispose();
         }
 
         private void drawScale(Graphics2D g2, int height, int ground) {
-            g2.setStroke(new BasicStroke(2f));
-            g2.setColor(new Color(255, 255, 255, 200));
+            g2.setStroke(LINE_STROKE);
+            g2.setColor(SCALE_LINE_COLOR);
             int scaleX = 40;
             g2.drawLine(scaleX, 40, scaleX, ground);
 
-            g2.setFont(new Font("SansSerif", Font.BOLD, 11));
-            g2.setColor(new Color(255, 255, 255, 220));
+            g2.setFont(SCALE_FONT);
+            g2.setColor(SCALE_TEXT_COLOR);
 
             int segments = 6;
             int segmentHeight = (ground - 40) / segments;
@@ -524,5 +1048,10 @@ public class FreeFallView extends JDialog {
                 g2.drawString(i * 10 + " m", scaleX + 12, y + 4);
             }
         }
+
+        public FrameMetrics getMetrics() { return metrics; }
+        public boolean isMetricsVisible() { return metricsVisible; }
+        public boolean isActiveRendering() { return renderer != null; }
+        public boolean isInterpolating() { return interpolator.isInterpolating(); }
     }
 }
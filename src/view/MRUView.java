@@ -1,12 +1,18 @@
 package view;
 
-import util.ImageLoader;
+import engine.PlaybackFrame;
+import engine.Timeline;
+import util.FrameMetrics;
+import util.Sprite;
+import util.StartupMetrics;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
 import java.awt.*;
-import java.text.DecimalFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleSupplier;
 
 /**
  * Vista principal para la simulación de Movimiento Rectilíneo Uniforme (MRU).
@@ -17,15 +23,26 @@ import java.text.DecimalFormat;
  * @version 1.0
  */
 public class MRUView extends JDialog {
-    /** Formato para mostrar valores numéricos con 2 decimales */
-    private static final DecimalFormat DF = new DecimalFormat("0.00");
+    /** Vehículo del modo de un solo vehículo */
+    public static final Sprite CAR = new Sprite("resources/car.png", 120, 70);
+
+    /** Vehículo del modo de muchos vehículos */
+    public static final Sprite SMALL_CAR = new Sprite("resources/car.png", 36, 21);
+
+    /** Todos los sprites que usa la ventana, para precargarlos */
+    public static final List<Sprite> SPRITES = List.of(CAR, SMALL_CAR);
+
+    /** Nombre de la ventana en las mediciones de {@link StartupMetrics} */
+    public static final String METRICS_NAME = "mru";
 
     private final JTextField tfX0 = new JTextField("0");
     private final JTextField tfXf = new JTextField("");
     private final JTextField tfV = new JTextField("5");
     private final JTextField tfTime = new JTextField("5");
+    private final JTextField tfCount = new JTextField("1");
 
     private final JButton btnRun = new JButton("▶ Empezar");
+    private final JButton btnSkip = new JButton("⏭ Saltar");
     private final JButton btnTimeToX = new JButton("🧮 Calcular tiempo");
     private final JButton btnCalculateV = new JButton("⚡ Calcular velocidad");
 
@@ -37,13 +54,56 @@ public class MRUView extends JDialog {
     private final JLabel lblStatus = new JLabel("Listo para simular.");
     private final JProgressBar progressTime = new JProgressBar(0, 1000);
 
+    /** Textos reutilizables de cada etiqueta de telemetría */
+    private final TelemetryText txtTime = new TelemetryText(lblTimeValue::setText);
+    private final TelemetryText txtPosition = new TelemetryText(lblPositionValue::setText);
+    private final TelemetryText txtDistance = new TelemetryText(lblDistanceValue::setText);
+    private final TelemetryText txtVelocity = new TelemetryText(lblVelocityValue::setText);
+    private final TelemetryText txtFinalPosition = new TelemetryText(lblFinalPositionValue::setText);
+    private final TelemetryText txtProgress = new TelemetryText(progressTime::setString);
+    private final TelemetryText txtStatus = new TelemetryText(lblStatus::setText);
+
+    /** Limita el volcado de la telemetría a la frecuencia de refresco */
+    private final TelemetryRenderer telemetryRenderer = new TelemetryRenderer(this::renderTelemetry);
+
+    /** Últimos valores de telemetría recibidos, pendientes de mostrar */
+    private double time, position, displacement, velocity, finalPosition, progress;
+
+    /** Mensaje de estado pendiente (o prefijo si lleva un valor numérico) */
+    private String statusText = "Listo para simular.";
+    
+    /** Valor numérico del estado (NaN si el mensaje no lleva valor) */
+    private double statusValue = Double.NaN;
+    
+    /** Sufijo que sigue al valor numérico del estado */
+    private String statusSuffix = "";
+    
+    /** Decimales con los que se muestra el valor numérico del estado */
+    private int statusDecimals = 2;
+
+    /** Columna de la grabación con la posición horizontal del vehículo en píxeles */
+    public static final int REC_SPRITE = 5;
+
+    /** Grabación de los cuadros de telemetría de la última corrida */
+    private final Timeline timeline = new Timeline(6);
+    
+    /** Fila reutilizable para grabar un cuadro */
+    private final double[] recordRow = new double[6];
+    
+    /** Indica si los cuadros de telemetría se están grabando */
+    private boolean recording;
+    
+    /** Controles para repetir la grabación */
+    private final ReplayControls replayControls = new ReplayControls();
+
     private final MRUAnimationPanel panel = new MRUAnimationPanel();
 
     public MRUView(JFrame parent) {
-        super(parent, "Movimiento Rectilíneo Uniforme", true);
-        setSize(860, 540);
+        super(parent, "Movimiento Rectilíneo Uniforme", false);
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+        setSize(860, 700);
         setLocationRelativeTo(parent);
-        setMinimumSize(new Dimension(760, 480));
+        setMinimumSize(new Dimension(760, 620));
 
         JPanel content = new JPanel(new BorderLayout(20, 20));
         content.setBorder(new EmptyBorder(20, 24, 20, 24));
@@ -80,6 +140,8 @@ public class MRUView extends JDialog {
         sidebar.add(createCard("Telemetría", buildTelemetryPanel()));
         sidebar.add(Box.createVerticalStrut(14));
         sidebar.add(createCard("Controles", buildControlsPanel()));
+        sidebar.add(Box.createVerticalStrut(14));
+        sidebar.add(createCard("Repetición", replayControls));
 
         lblStatus.setFont(new Font("SansSerif", Font.BOLD, 12));
         lblStatus.setForeground(new Color(40, 83, 150));
@@ -88,6 +150,8 @@ public class MRUView extends JDialog {
         progressTime.setBackground(new Color(225, 231, 246));
 
         getRootPane().setDefaultButton(btnRun);
+        MetricsOverlay.bindToggleKey(getRootPane(), () -> panel.setMetricsVisible(!panel.isMetricsVisible()));
+        panel.setActiveRendering(ActiveRenderer.ENABLED);
         updateTelemetry(0, 0, 0, 0, 0, 0);
     }
 
@@ -107,6 +171,8 @@ public class MRUView extends JDialog {
         panel.add(createInputBlock("Velocidad (m/s)", tfV));
         panel.add(Box.createVerticalStrut(6));
         panel.add(createInputBlock("Tiempo (s)", tfTime));
+        panel.add(Box.createVerticalStrut(6));
+        panel.add(createInputBlock("Cantidad de vehículos", tfCount));
         return panel;
     }
 
@@ -138,6 +204,9 @@ public class MRUView extends JDialog {
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
 
         styleSecondaryButton(btnRun);
+        styleSecondaryButton(btnSkip);
+        btnSkip.setToolTipText("Salta al siguiente evento: la llegada o el próximo adelantamiento");
+        btnSkip.setEnabled(false);
         styleSecondaryButton(btnTimeToX);
         styleSecondaryButton(btnCalculateV);
 
@@ -146,6 +215,8 @@ public class MRUView extends JDialog {
         buttons.setLayout(new BoxLayout(buttons, BoxLayout.Y_AXIS));
         buttons.add(btnRun);
         buttons.add(Box.createVerticalStrut(8));
+        buttons.add(btnSkip);
+        buttons.add(Box.createVerticalStrut(8));
         buttons.add(btnTimeToX);
         buttons.add(Box.createVerticalStrut(8));
         buttons.add(btnCalculateV);
@@ -253,16 +324,54 @@ public class MRUView extends JDialog {
      * @param progress Progreso de la simulación (0.0 a 1.0)
      */
     public void updateTelemetry(double time, double position, double displacement, double velocity, double finalPosition, double progress) {
-        lblTimeValue.setText(DF.format(time) + " s");
-        lblPositionValue.setText(DF.format(position) + " m");
-        lblDistanceValue.setText(DF.format(displacement) + " m");
-        String direction = velocity >= 0 ? "→ " : "← ";
-        lblVelocityValue.setText(direction + DF.format(Math.abs(velocity)) + " m/s");
-        lblFinalPositionValue.setText(DF.format(finalPosition) + " m");
+        this.time = time;
+        this.position = position;
+        this.displacement = displacement;
+        this.velocity = velocity;
+        this.finalPosition = finalPosition;
+        this.progress = progress;
+        if (recording) {
+            recordRow[0] = position;
+            recordRow[1] = displacement;
+            recordRow[2] = velocity;
+            recordRow[3] = finalPosition;
+            recordRow[4] = progress;
+            recordRow[REC_SPRITE] = panel.getCarPosition();
+            timeline.record(time, recordRow);
+        }
+        telemetryRenderer.invalidate();
+    }
 
-        int progressValue = (int) Math.round(Math.max(0, Math.min(progress, 1)) * 1000);
-        progressTime.setValue(progressValue);
-        progressTime.setString(String.format("%d %% del tiempo", Math.round(progressValue / 10.0)));
+    /**
+     * Empieza una grabación nueva descartando la anterior. Desde entonces cada cuadro
+     * que llega a {@link #updateTelemetry} se graba junto con la posición horizontal del vehículo en píxeles.
+     * 
+     * @param enabled false para sólo descartar la grabación anterior sin grabar
+     */
+    public void startRecording(boolean enabled) {
+        timeline.clear();
+        recording = enabled;
+    }
+
+    /**
+     * Deja de grabar cuadros de telemetría.
+     */
+    public void stopRecording() {
+        recording = false;
+    }
+
+    /**
+     * Muestra un cuadro de la grabación sin volver a grabarlo.
+     * 
+     * @param frame Cuadro reproducido
+     */
+    public void showRecordedFrame(PlaybackFrame frame) {
+        boolean wasRecording = recording;
+        recording = false;
+        panel.setX(frame.value(REC_SPRITE));
+        updateTelemetry(frame.time(), frame.value(0), frame.value(1), frame.value(2), frame.value(3), frame.value(4));
+        recording = wasRecording;
+        showStatusValue("Repetición: ", frame.time(), " s");
     }
 
     /**
@@ -271,7 +380,75 @@ public class MRUView extends JDialog {
      * @param text Texto del estado a mostrar
      */
     public void showStatus(String text) {
-        lblStatus.setText(text);
+        showStatusValue(text, Double.NaN, "");
+    }
+
+    /**
+     * Muestra un mensaje de estado con un valor numérico de dos decimales,
+     * sin construir la cadena en cada frame.
+     * 
+     * @param prefix Texto previo al valor
+     * @param value Valor a mostrar (NaN para omitirlo)
+     * @param suffix Texto posterior al valor
+     */
+    public void showStatusValue(String prefix, double value, String suffix) {
+        showStatusValue(prefix, value, 2, suffix);
+    }
+
+    /**
+     * Muestra un mensaje de estado con un valor numérico con los decimales indicados.
+     * 
+     * @param prefix Texto previo al valor
+     * @param value Valor a mostrar (NaN para omitirlo)
+     * @param decimals Número de decimales del valor
+     * @param suffix Texto posterior al valor
+     */
+    public void showStatusValue(String prefix, double value, int decimals, String suffix) {
+        statusText = prefix;
+        statusValue = value;
+        statusDecimals = decimals;
+        statusSuffix = suffix;
+        telemetryRenderer.invalidate();
+    }
+
+    /**
+     * Vuelca los valores pendientes en las etiquetas. Sólo se llama a
+     * {@code setText} en las etiquetas cuyo texto cambió.
+     */
+    private void renderTelemetry() {
+        txtTime.clear().appendFixed(time, 2).append(" s").commit();
+        txtPosition.clear().appendFixed(position, 2).append(" m").commit();
+        txtDistance.clear().appendFixed(displacement, 2).append(" m").commit();
+        txtVelocity.clear().append(velocity >= 0 ? "→ " : "← ").appendFixed(Math.abs(velocity), 2).append(" m/s").commit();
+        txtFinalPosition.clear().appendFixed(finalPosition, 2).append(" m").commit();
+
+        int progressValue = (int) Math.round(Math.max(0, Math.min(progress, 1)) * 1000);
+        progressTime.setValue(progressValue);
+        txtProgress.clear().append(Math.round(progressValue / 10.0)).append(" % del tiempo").commit();
+
+        txtStatus.clear().append(statusText);
+        if (!Double.isNaN(statusValue)) {
+            txtStatus.appendFixed(statusValue, statusDecimals).append(statusSuffix);
+        }
+        txtStatus.commit();
+    }
+
+    /**
+     * Devuelve la ventana al estado en que se construyó: datos de entrada por defecto,
+     * telemetría en cero, sin grabación y con el vehículo en el origen. Se usa al
+     * cerrarla, para que al reutilizarla desde la reserva no muestre la corrida anterior.
+     */
+    public void resetView() {
+        tfX0.setText("0");
+        tfXf.setText("");
+        tfV.setText("5");
+        tfTime.setText("5");
+        tfCount.setText("1");
+        startRecording(false);
+        panel.clearVehicles();
+        panel.setX(0);
+        updateTelemetry(0, 0, 0, 0, 0, 0);
+        setSimulationRunning(false);
     }
 
     /**
@@ -281,6 +458,7 @@ public class MRUView extends JDialog {
      */
     public void setSimulationRunning(boolean running) {
         btnRun.setEnabled(!running);
+        btnSkip.setEnabled(running);
         btnTimeToX.setEnabled(!running);
         btnCalculateV.setEnabled(!running);
         showStatus(running ? "Simulación en progreso…" : "Listo para simular.");
@@ -290,8 +468,10 @@ public class MRUView extends JDialog {
     public String getXf() { return tfXf.getText(); }
     public String getV() { return tfV.getText(); }
     public String getTime() { return tfTime.getText(); }
+    public String getCountString() { return tfCount.getText(); }
 
     public JButton getBtnRun() { return btnRun; }
+    public JButton getBtnSkip() { return btnSkip; }
     public JButton getBtnTimeToX() { return btnTimeToX; }
     public JButton getBtnCalculateV() { return btnCalculateV; }
     
@@ -299,34 +479,258 @@ public class MRUView extends JDialog {
 
     public double getPanelWidth() { return panel.getWidth(); }
     public void setCharacterX(double x) { panel.setX(x); }
+    public void setCharacterX(double previous, double current) { panel.setX(previous, current); }
     public void repaintPanel() { panel.repaint(); }
     public void resetPosition() { panel.setX(0); }
+    public MRUAnimationPanel getAnimationPanel() { return panel; }
+    public Timeline getTimeline() { return timeline; }
+    public ReplayControls getReplayControls() { return replayControls; }
 
     /**
      * Panel interno que renderiza la animación visual del MRU.
-     * Dibuja el escenario con cielo, carretera y el vehículo en movimiento.
+     * Dibuja el escenario con cielo, carretera y el vehículo en movimiento,
+     * o bien muchos vehículos repartidos en carriles.
      */
-    static class MRUAnimationPanel extends JPanel {
+    public static class MRUAnimationPanel extends JPanel {
+        /** Tamaño de los vehículos en el modo de muchos vehículos */
+        private static final int SMALL_CAR_WIDTH = SMALL_CAR.width(), SMALL_CAR_HEIGHT = SMALL_CAR.height();
+
         private double x = 0;
-        private final ImageIcon car = ImageLoader.load("resources/car.png", 120, 70);
+
+        /** Posición X del vehículo en el paso anterior de la física */
+        private double previousX = 0;
+
+        private final ImageIcon car = CAR.load();
+        
+        /** Posición de cada vehículo en metros (null si se anima un solo vehículo) */
+        private double[] vehiclePositions;
+        
+        /** Carril de cada vehículo */
+        private int[] vehicleLanes;
+        
+        /** Número de carriles */
+        private int laneCount;
+        
+        /** Desplazamiento y escala en píxeles usados para ubicar los vehículos */
+        private double vehicleOffset, vehicleScale;
+        
+        /** Columnas ya ocupadas por carril en el frame actual, para no dibujar vehículos superpuestos */
+        private boolean[] occupied = new boolean[0];
+
+        /** Tiempos de actualización y pintado de la animación */
+        private final FrameMetrics metrics = new FrameMetrics(METRICS_NAME);
+
+        /** Indica si se dibuja el panel de métricas */
+        private boolean metricsVisible = MetricsOverlay.VISIBLE_BY_DEFAULT;
+
+        /** Renderizado activo (null en el modo pasivo de Swing) */
+        private ActiveRenderer renderer;
+
+        /** Interpolación de la posición entre pasos de la física */
+        private final FrameInterpolator interpolator = new FrameInterpolator(this::repaintInterpolated);
 
         public MRUAnimationPanel() {
             setBackground(new Color(222, 232, 255));
+            metrics.setFrameListener(() -> {
+                if (metricsVisible) repaint(MetricsOverlay.BOUNDS);
+            });
         }
 
         /**
-         * Establece la posición horizontal del vehículo en píxeles.
+         * Muestra u oculta el panel de métricas sobre la animación.
+         * 
+         * @param visible true para mostrarlo
+         */
+        public void setMetricsVisible(boolean visible) {
+            metricsVisible = visible;
+            repaint(MetricsOverlay.BOUNDS);
+        }
+
+        /**
+         * Activa o desactiva el renderizado activo: un lienzo con {@link java.awt.image.BufferStrategy}
+         * cubre el panel y presenta los cuadros al ritmo de la pantalla.
+         * 
+         * @param active true para usar el renderizado activo
+         */
+        public void setActiveRendering(boolean active) {
+            if (active == (renderer != null)) return;
+            if (active) {
+                renderer = new ActiveRenderer(this::renderFrame, metrics);
+                setLayout(null);
+                add(renderer.getCanvas());
+            } else {
+                remove(renderer.getCanvas());
+                renderer = null;
+            }
+            interpolator.setRenderer(renderer);
+            revalidate();
+            repaint();
+        }
+
+        @Override
+        public void doLayout() {
+            if (renderer != null) {
+                renderer.getCanvas().setBounds(0, 0, getWidth(), getHeight());
+            }
+        }
+
+        /**
+         * Suelta el arreglo de columnas ocupadas al cerrarse la ventana; se vuelve a
+         * crear si se dibujan vehículos de nuevo.
+         */
+        @Override
+        public void removeNotify() {
+            super.removeNotify();
+            occupied = new boolean[0];
+        }
+
+        @Override
+        public void repaint(long tm, int x, int y, int width, int height) {
+            if (renderer != null) {
+                renderer.requestFrame();
+            } else {
+                super.repaint(tm, x, y, width, height);
+            }
+        }
+
+        /**
+         * Establece la posición horizontal del vehículo en píxeles, sin interpolar desde la anterior.
          * 
          * @param x Posición X en píxeles (mínimo 20 para evitar salirse del borde)
          */
         public void setX(double x) {
-            this.x = Math.max(20, x);
+            setX(x, x);
+        }
+
+        /**
+         * Establece la posición horizontal del vehículo en el paso anterior y en el actual
+         * de la física. Con interpolación activa el vehículo se dibuja entre ambas.
+         * 
+         * @param previous Posición X en el paso anterior, en píxeles
+         * @param current Posición X en el paso actual, en píxeles (mínimo 20 para evitar salirse del borde)
+         */
+        public void setX(double previous, double current) {
+            Rectangle old = getCarBounds();
+            this.previousX = Math.max(20, previous);
+            this.x = Math.max(20, current);
+            Rectangle now = boundsAt(previousX).union(boundsAt(x));
+            if (!now.equals(old)) {
+                repaint(old.union(now));
+            }
+        }
+
+        /**
+         * Activa o desactiva la interpolación de la posición entre pasos de la física.
+         * 
+         * @param alpha Fracción del paso en curso, leída en el EDT (null para dibujar sólo el paso actual)
+         */
+        public void setInterpolation(DoubleSupplier alpha) {
+            interpolator.setAlpha(alpha);
+            repaintInterpolated();
+        }
+
+        /**
+         * Repinta la zona entre la posición anterior y la actual mientras se interpola.
+         */
+        private void repaintInterpolated() {
+            repaint(boundsAt(previousX).union(boundsAt(x)));
+        }
+
+        /**
+         * Muestra muchos vehículos repartidos en carriles en lugar del vehículo único.
+         * 
+         * @param positions Posición de cada vehículo en metros
+         * @param lanes Carril de cada vehículo
+         * @param lanesInUse Número de carriles
+         * @param offset Desplazamiento en píxeles de la posición cero
+         * @param scale Píxeles por metro
+         */
+        public void setVehicles(double[] positions, int[] lanes, int lanesInUse, double offset, double scale) {
+            vehiclePositions = positions;
+            vehicleLanes = lanes;
+            laneCount = lanesInUse;
+            vehicleOffset = offset;
+            vehicleScale = scale;
             repaint();
         }
 
+        /**
+         * Vuelve a mostrar el vehículo único.
+         */
+        public void clearVehicles() {
+            if (vehiclePositions != null) {
+                vehiclePositions = null;
+                vehicleLanes = null;
+                repaint();
+            }
+        }
+
+        /**
+         * Obtiene la posición horizontal del vehículo en píxeles.
+         * 
+         * @return Posición X del paso actual de la física, establecida con {@link #setX(double)}
+         */
+        public double getCarPosition() {
+            return x;
+        }
+
+        /**
+         * Calcula el rectángulo que ocupa el vehículo tal como se dibuja ahora,
+         * con la posición interpolada si la interpolación está activa.
+         * 
+         * @return Límites del vehículo en coordenadas del panel
+         */
+        public Rectangle getCarBounds() {
+            return boundsAt(interpolator.blend(previousX, x));
+        }
+
+        /**
+         * Calcula el rectángulo que ocupa el vehículo en una posición horizontal dada.
+         * 
+         * @param x Posición X en píxeles
+         * @return Límites del vehículo en coordenadas del panel
+         */
+        private Rectangle boundsAt(double x) {
+            int width = getWidth();
+            int height = getHeight();
+            int roadY = height / 2 + 20;
+            int lane = roadY + (height - roadY) / 2;
+            int carX = (int) Math.min(Math.max(x, 30), width - car.getIconWidth() - 30);
+            return new Rectangle(carX, lane - car.getIconHeight() + 5, car.getIconWidth(), car.getIconHeight());
+        }
+
         @Override
         protected void paintComponent(Graphics g) {
-            super.paintComponent(g);
+            if (renderer == null) {
+                renderFrame(g);
+            }
+        }
+
+        /**
+         * Dibuja un cuadro completo: fondo, escenario, vehículo o vehículos y panel de
+         * métricas. Lo usan tanto el pintado de Swing como el renderizado activo.
+         * 
+         * @param g Contexto gráfico de destino
+         */
+        private void renderFrame(Graphics g) {
+            StartupMetrics.frame(METRICS_NAME);
+            long start = metrics.beginPaint();
+            g.setColor(getBackground());
+            g.fillRect(0, 0, getWidth(), getHeight());
+            paintScene(g);
+            metrics.endPaint(start);
+
+            if (metricsVisible) {
+                MetricsOverlay.paint(g, metrics);
+            }
+        }
+
+        /**
+         * Dibuja el escenario y el vehículo o los vehículos.
+         * 
+         * @param g Contexto gráfico de destino
+         */
+        private void paintScene(Graphics g) {
             Graphics2D g2 = (Graphics2D) g.create();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
@@ -355,10 +759,55 @@ public class MRUView extends JDialog {
             g2.setStroke(new BasicStroke(2f));
             g2.drawRoundRect(12, 12, width - 24, height - 24, 40, 40);
 
-            int carX = (int) Math.min(Math.max(x, 30), width - car.getIconWidth() - 30);
-            car.paintIcon(this, g2, carX, lane - car.getIconHeight() + 5);
+            if (vehiclePositions != null) {
+                paintVehicles(g2, width, roadY, height);
+            } else {
+                Rectangle bounds = getCarBounds();
+                car.paintIcon(this, g2, bounds.x, bounds.y);
+            }
 
             g2.dispose();
         }
+
+        /**
+         * Dibuja todos los vehículos en una sola pasada. Los que quedan fuera del panel
+         * se omiten, y en cada carril se dibuja a lo sumo un vehículo por columna de
+         * píxeles, así el costo queda acotado por el ancho del panel y no por la
+         * cantidad de vehículos.
+         * 
+         * @param g Contexto gráfico de destino
+         * @param width Ancho del panel en píxeles
+         * @param roadY Borde superior de la carretera en píxeles
+         * @param height Alto del panel en píxeles
+         */
+        private void paintVehicles(Graphics2D g, int width, int roadY, int height) {
+            Image image = SMALL_CAR.load().getImage();
+            double[] positions = vehiclePositions;
+            int[] lanes = vehicleLanes;
+            int lanesInUse = Math.max(laneCount, 1);
+            double band = (double) (height - roadY) / lanesInUse;
+
+            if (occupied.length < lanesInUse * width) {
+                occupied = new boolean[lanesInUse * width];
+            } else {
+                Arrays.fill(occupied, 0, lanesInUse * width, false);
+            }
+
+            for (int i = 0; i < positions.length; i++) {
+                int x = (int) (vehicleOffset + positions[i] * vehicleScale);
+                if (x < -SMALL_CAR_WIDTH || x >= width) continue;
+                int l = lanes[i];
+                int column = l * width + Math.max(x, 0);
+                if (occupied[column]) continue;
+                occupied[column] = true;
+                int y = (int) (roadY + (l + 0.5) * band) - SMALL_CAR_HEIGHT / 2;
+                g.drawImage(image, x, y, null);
+            }
+        }
+
+        public FrameMetrics getMetrics() { return metrics; }
+        public boolean isMetricsVisible() { return metricsVisible; }
+        public boolean isActiveRendering() { return renderer != null; }
+        public boolean isInterpolating() { return interpolator.isInterpolating(); }
     }
 }
@@ -1,6 +1,7 @@
 package view;
 
 import util.ImageLoader;
+import util.StartupMetrics;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -18,6 +19,9 @@ import java.awt.event.MouseEvent;
  * @version 1.0
  */
 public class MainView extends JFrame {
+    /** Nombre de la ventana en las mediciones de {@link StartupMetrics} */
+    public static final String METRICS_NAME = "principal";
+
     private final JButton btnFreeFall = createPrimaryButton("Explorar caída libre");
     private final JButton btnMRU = createPrimaryButton("Explorar MRU");
 
@@ -182,6 +186,7 @@ public class MainView extends JFrame {
             g2.setPaint(gp);
             g2.fillRect(0, 0, getWidth(), getHeight());
             g2.dispose();
+            StartupMetrics.frame(METRICS_NAME);
         }
     }
 }
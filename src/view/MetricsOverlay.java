@@ -0,0 +1,96 @@
+package view;
+
+import util.FrameMetrics;
+import util.LatencyHistogram;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
+
+/**
+ * Panel de métricas que se dibuja sobre la animación: cuadros por segundo, tiempos de
+ * actualización y pintado, ticks atrasados y memoria asignada por cuadro.
+ * Se muestra u oculta con F3, o desde el inicio con {@code -Dsimulador.metrics.overlay=true}.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+final class MetricsOverlay {
+    /** Indica si el panel de métricas se muestra al abrir la ventana */
+    static final boolean VISIBLE_BY_DEFAULT = Boolean.getBoolean("simulador.metrics.overlay");
+
+    /** Zona del panel de animación que ocupa el panel de métricas */
+    static final Rectangle BOUNDS = new Rectangle(16, 16, 250, 108);
+
+    private static final Color BACKGROUND = new Color(0, 0, 0, 150);
+    private static final Color TEXT = new Color(235, 255, 235);
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 11);
+
+    private MetricsOverlay() {
+    }
+
+    /**
+     * Asocia la tecla F3 de una ventana a una acción que alterna el panel de métricas.
+     * 
+     * @param rootPane Panel raíz de la ventana
+     * @param toggle Acción que muestra u oculta el panel
+     */
+    static void bindToggleKey(JRootPane rootPane, Runnable toggle) {
+        rootPane.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW)
+                .put(KeyStroke.getKeyStroke(KeyEvent.VK_F3, 0), "toggleMetrics");
+        rootPane.getActionMap().put("toggleMetrics", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                toggle.run();
+            }
+        });
+    }
+
+    /**
+     * Dibuja el panel de métricas.
+     * 
+     * @param g Contexto gráfico del panel de animación
+     * @param metrics Métricas a mostrar
+     */
+    static void paint(Graphics g, FrameMetrics metrics) {
+        LatencyHistogram update = metrics.getUpdateTimes();
+        LatencyHistogram paint = metrics.getPaintTimes();
+        String[] lines = {
+            Double.isNaN(metrics.fps())
+                    ? String.format("FPS    --   tick %.0f ms", metrics.getPeriodMillis())
+                    : String.format("FPS %5.1f   tick %.0f ms", metrics.fps(), metrics.getPeriodMillis()),
+            String.format("Actualizar p50 %5.2f p99 %5.2f ms", millis(update, 50), millis(update, 99)),
+            String.format("Pintar     p50 %5.2f p99 %5.2f ms", millis(paint, 50), millis(paint, 99)),
+            String.format("Atrasados  %d de %d ticks", metrics.getLateTicks(),
+                    metrics.getLateTicks() + metrics.getFrames()),
+            String.format("Memoria    p50 %.1f KB/cuadro",
+                    metrics.getAllocations().valueAtPercentile(50) / 1024.0),
+            metrics.getPresentIntervals().count() == 0 ? "Presentar  (modo pasivo)"
+                    : String.format("Presentar  p50 %5.2f p99 %5.2f ms",
+                            millis(metrics.getPresentIntervals(), 50), millis(metrics.getPresentIntervals(), 99))
+        };
+
+        g.setColor(BACKGROUND);
+        g.fillRoundRect(BOUNDS.x, BOUNDS.y, BOUNDS.width, BOUNDS.height, 12, 12);
+        g.setColor(TEXT);
+        g.setFont(FONT);
+        int lineHeight = g.getFontMetrics().getHeight();
+        int y = BOUNDS.y + 8 + g.getFontMetrics().getAscent();
+        for (String line : lines) {
+            g.drawString(line, BOUNDS.x + 10, y);
+            y += lineHeight;
+        }
+    }
+
+    /**
+     * Obtiene un percentil de un histograma de nanosegundos en milisegundos.
+     * 
+     * @param histogram Histograma de tiempos
+     * @param percentile Percentil entre 0 y 100
+     * @return Tiempo en milisegundos
+     */
+    private static double millis(LatencyHistogram histogram, double percentile) {
+        return histogram.valueAtPercentile(percentile) / 1e6;
+    }
+}
@@ -0,0 +1,108 @@
+package view;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+
+/**
+ * Controles para repetir una corrida grabada: barra de desplazamiento en el tiempo,
+ * selector de velocidad, botón de repetición y botón para exportar la grabación.
+ * Están deshabilitados hasta que hay una grabación disponible.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public class ReplayControls extends JPanel {
+    private static final long serialVersionUID = 1L;
+
+    /** Resolución de la barra de desplazamiento */
+    public static final int SLIDER_MAX = 1000;
+
+    /** Velocidades de repetición disponibles */
+    private static final double[] SPEEDS = {0.25, 0.5, 1, 2, 4, 8, 16};
+    
+    /** Velocidad seleccionada al inicio (1x) */
+    private static final int DEFAULT_SPEED = 2;
+
+    /** Barra para moverse por la grabación */
+    private final JSlider slider = new JSlider(0, SLIDER_MAX, 0);
+    
+    /** Selector de velocidad de repetición */
+    private final JComboBox<String> cbSpeed = new JComboBox<>();
+    
+    /** Botón para repetir la grabación */
+    private final JButton btnReplay = new JButton("⟲ Repetir");
+    
+    /** Botón para exportar la grabación a un archivo */
+    private final JButton btnExport = new JButton("💾 Exportar");
+
+    /**
+     * Construye los controles de repetición.
+     */
+    public ReplayControls() {
+        super(new BorderLayout(8, 8));
+        setOpaque(false);
+
+        for (double speed : SPEEDS) {
+            cbSpeed.addItem((speed == Math.rint(speed) ? String.valueOf((int) speed) : String.valueOf(speed)) + "x");
+        }
+        cbSpeed.setSelectedIndex(DEFAULT_SPEED);
+        cbSpeed.setFont(new Font("SansSerif", Font.BOLD, 12));
+
+        slider.setOpaque(false);
+        slider.setFocusable(false);
+
+        styleButton(btnReplay);
+        styleButton(btnExport);
+
+        JPanel buttons = new JPanel(new GridLayout(1, 2, 8, 0));
+        buttons.setOpaque(false);
+        buttons.add(btnReplay);
+        buttons.add(btnExport);
+
+        JPanel row = new JPanel(new BorderLayout(8, 0));
+        row.setOpaque(false);
+        row.add(buttons, BorderLayout.CENTER);
+        row.add(cbSpeed, BorderLayout.EAST);
+
+        add(slider, BorderLayout.NORTH);
+        add(row, BorderLayout.SOUTH);
+        setReplayEnabled(false);
+    }
+
+    private void styleButton(JButton button) {
+        button.setFont(new Font("SansSerif", Font.BOLD, 13));
+        button.setFocusPainted(false);
+        button.setBackground(new Color(247, 250, 255));
+        button.setForeground(new Color(47, 66, 120));
+        button.setBorder(new EmptyBorder(8, 10, 8, 10));
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+    }
+
+    /**
+     * Habilita o deshabilita los controles.
+     * 
+     * @param enabled true si hay una grabación que se puede repetir
+     */
+    public void setReplayEnabled(boolean enabled) {
+        slider.setEnabled(enabled);
+        cbSpeed.setEnabled(enabled);
+        btnReplay.setEnabled(enabled);
+        btnExport.setEnabled(enabled);
+    }
+
+    /**
+     * Obtiene la velocidad de repetición seleccionada.
+     * 
+     * @return Factor de velocidad (1 es la velocidad original)
+     */
+    public double getSpeed() {
+        int index = cbSpeed.getSelectedIndex();
+        return SPEEDS[index < 0 ? DEFAULT_SPEED : index];
+    }
+
+    public JSlider getSlider() { return slider; }
+    public JComboBox<String> getSpeedSelector() { return cbSpeed; }
+    public JButton getBtnReplay() { return btnReplay; }
+    public JButton getBtnExport() { return btnExport; }
+}
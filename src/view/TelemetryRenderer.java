@@ -0,0 +1,84 @@
+package view;
+
+import engine.AnimationScheduler;
+import java.awt.DisplayMode;
+import java.awt.GraphicsEnvironment;
+
+/**
+ * Limita la actualización de las etiquetas de telemetría a la frecuencia de
+ * refresco de la pantalla. Las peticiones que llegan antes de tiempo no se
+ * pierden: se agrupan y se muestran con un único repintado diferido, siempre
+ * con los valores más recientes.
+ * <p>
+ * Debe usarse sólo desde el EDT.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+final class TelemetryRenderer {
+    /** Frecuencia usada cuando no se puede consultar la pantalla */
+    private static final int DEFAULT_REFRESH_RATE = 60;
+
+    /** Acción que vuelca los valores pendientes en las etiquetas */
+    private final Runnable render;
+    
+    /** Intervalo mínimo entre volcados en nanosegundos */
+    private final long intervalNanos;
+    
+    /** Volcado diferido pendiente en el planificador de animaciones (null si no hay) */
+    private AnimationScheduler.EdtTask trailing;
+    
+    /** Momento del último volcado */
+    private long lastRender;
+    
+    /** Indica si ya se hizo algún volcado */
+    private boolean rendered;
+
+    /**
+     * Construye un nuevo limitador de telemetría.
+     * 
+     * @param render Acción que vuelca los valores pendientes en las etiquetas
+     */
+    TelemetryRenderer(Runnable render) {
+        this.render = render;
+        this.intervalNanos = 1_000_000_000L / refreshRate();
+    }
+
+    /**
+     * Indica que hay valores nuevos. Se vuelcan de inmediato si ya pasó un
+     * intervalo de refresco desde el último volcado, o al cumplirse en caso contrario.
+     */
+    void invalidate() {
+        long wait = lastRender + intervalNanos - System.nanoTime();
+        if (!rendered || wait <= 0) {
+            flush();
+        } else if (trailing == null) {
+            trailing = AnimationScheduler.shared().schedule(wait, this::flush);
+        }
+    }
+
+    /**
+     * Vuelca los valores pendientes inmediatamente.
+     */
+    void flush() {
+        if (trailing != null) {
+            trailing.cancel();
+            trailing = null;
+        }
+        lastRender = System.nanoTime();
+        rendered = true;
+        render.run();
+    }
+
+    /**
+     * Obtiene la frecuencia de refresco de la pantalla principal.
+     * 
+     * @return Frecuencia en Hz, o 60 si no se conoce
+     */
+    private static int refreshRate() {
+        if (GraphicsEnvironment.isHeadless()) return DEFAULT_REFRESH_RATE;
+        DisplayMode mode = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDisplayMode();
+        int rate = mode.getRefreshRate();
+        return rate == DisplayMode.REFRESH_RATE_UNKNOWN ? DEFAULT_REFRESH_RATE : rate;
+    }
+}
@@ -0,0 +1,157 @@
+package view;
+
+import java.util.function.Consumer;
+
+/**
+ * Texto de telemetría que se arma sobre un búfer de caracteres reutilizable.
+ * Los números se escriben con precisión fija sin pasar por {@code DecimalFormat}
+ * ni {@code String.format}, y el destino sólo se actualiza cuando el texto
+ * cambió respecto al último mostrado, así que un frame sin cambios no crea objetos.
+ * <p>
+ * Uso típico: {@code text.clear().appendFixed(t, 2).append(" s").commit();}
+ * Debe usarse sólo desde el EDT.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+final class TelemetryText {
+    /** Potencias de diez para las precisiones admitidas */
+    private static final long[] POW10 = {1, 10, 100, 1000, 10000, 100000, 1000000};
+    
+    /** Valor escalado máximo que se formatea sin recurrir a {@link Double#toString} */
+    private static final double MAX_FAST = 1e15;
+
+    /** Destino del texto (normalmente {@code JLabel::setText}) */
+    private final Consumer<String> target;
+    
+    /** Búfer donde se arma el texto del frame actual */
+    private char[] buffer = new char[32];
+    
+    /** Longitud del texto armado */
+    private int length;
+    
+    /** Copia del último texto entregado al destino */
+    private char[] shown = new char[32];
+    
+    /** Longitud del último texto entregado (-1 si nunca se entregó) */
+    private int shownLength = -1;
+
+    /**
+     * Construye un nuevo texto de telemetría.
+     * 
+     * @param target Destino que recibe el texto cuando cambia
+     */
+    TelemetryText(Consumer<String> target) {
+        this.target = target;
+    }
+
+    /**
+     * Vacía el búfer para armar un nuevo texto.
+     * 
+     * @return Este mismo objeto
+     */
+    TelemetryText clear() {
+        length = 0;
+        return this;
+    }
+
+    /**
+     * Agrega un texto fijo al búfer.
+     * 
+     * @param text Texto a agregar
+     * @return Este mismo objeto
+     */
+    TelemetryText append(String text) {
+        int n = text.length();
+        ensureCapacity(length + n);
+        text.getChars(0, n, buffer, length);
+        length += n;
+        return this;
+    }
+
+    /**
+     * Agrega un entero en base diez al búfer.
+     * 
+     * @param value Valor a agregar
+     * @return Este mismo objeto
+     */
+    TelemetryText append(long value) {
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) return append(Long.toString(value));
+            appendChar('-');
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) digits++;
+        ensureCapacity(length + digits);
+        for (int i = length + digits - 1; i >= length; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+        return this;
+    }
+
+    /**
+     * Agrega un número real con una cantidad fija de decimales, redondeando
+     * al más cercano (equivale al patrón {@code "0.00"} para dos decimales).
+     * 
+     * @param value Valor a agregar
+     * @param decimals Número de decimales (0 a 6)
+     * @return Este mismo objeto
+     */
+    TelemetryText appendFixed(double value, int decimals) {
+        if (Double.isNaN(value)) return append("NaN");
+        if (Double.isInfinite(value)) return append(value > 0 ? "∞" : "-∞");
+
+        long scale = POW10[decimals];
+        double scaled = Math.abs(value) * scale;
+        if (scaled >= MAX_FAST) return append(Double.toString(value));
+
+        long units = Math.round(scaled);
+        if (value < 0 && units != 0) appendChar('-');
+        append(units / scale);
+        if (decimals > 0) {
+            appendChar('.');
+            long fraction = units % scale;
+            ensureCapacity(length + decimals);
+            for (int i = length + decimals - 1; i >= length; i--) {
+                buffer[i] = (char) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+            length += decimals;
+        }
+        return this;
+    }
+
+    /**
+     * Entrega el texto armado al destino si es distinto del último entregado.
+     */
+    void commit() {
+        if (length == shownLength && equalsShown()) return;
+        if (shown.length < length) shown = new char[buffer.length];
+        System.arraycopy(buffer, 0, shown, 0, length);
+        shownLength = length;
+        target.accept(new String(buffer, 0, length));
+    }
+
+    private boolean equalsShown() {
+        for (int i = 0; i < length; i++) {
+            if (buffer[i] != shown[i]) return false;
+        }
+        return true;
+    }
+
+    private void appendChar(char c) {
+        ensureCapacity(length + 1);
+        buffer[length++] = c;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > buffer.length) {
+            char[] grown = new char[Math.max(capacity, buffer.length * 2)];
+            System.arraycopy(buffer, 0, grown, 0, length);
+            buffer = grown;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Verificación de {@link TrafficLanes} contra una comparación directa de todos los pares.
+ * En varias configuraciones aleatorias (posiciones y velocidades continuas, y otras
+ * enteras con muchos empates y encuentros simultáneos) avanza el reloj por tiempos
+ * crecientes y, al final, retrocede una vez; en cada instante comprueba:
+ * <ul>
+ *   <li>que cada carril quede ordenado por posición y contenga sus vehículos;</li>
+ *   <li>que {@link TrafficLanes#getOvertakes()} y los adelantamientos informados al
+ *       receptor sean exactamente los pares que se cruzaron, con el tiempo de
+ *       {@link TrafficLanes#overtakeTime};</li>
+ *   <li>que {@link TrafficLanes#queryRange} devuelva los mismos vehículos que recorrer
+ *       todo el carril.</li>
+ * </ul>
+ * <p>
+ * Se ejecuta con {@code ant check-traffic}; termina con código 1 si algo no coincide.
+ * 
+ * @author SimuladorFisica
+ * @version 1.0
+ */
+public final class TrafficLanesCheck {
+    /** Tolerancia para comparar posiciones y tiempos que salen de la misma fórmula */
+    private static final double EPSILON = 1e-9;
+
+    /** Consultas por rango en cada instante verificado */
+    private static final int QUERIES = 20;
+
+    /** Mensajes de error acumulados */
+    private static int failures;
+
+    private TrafficLanesCheck() {
+    }
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        for (int round = 0; round < 40; round++) {
+            boolean ties = round % 2 == 1;
+            int n = 2 + random.nextInt(ties ? 60 : 200);
+            int lanes = 1 + random.nextInt(4);
+            check(random, n, lanes, ties);
+        }
+        System.out.println(failures == 0 ? "Carriles de tráfico: OK" : failures + " comprobaciones fallaron");
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    /**
+     * Verifica una configuración aleatoria en varios instantes.
+     * 
+     * @param random Generador de la configuración
+     * @param n Número de vehículos
+     * @param laneCount Número de carriles
+     * @param ties true para usar valores enteros pequeños, con empates de posición y de velocidad
+     */
+    private static void check(Random random, int n, int laneCount, boolean ties) {
+        double[] x0 = new double[n];
+        double[] v = new double[n];
+        int[] lane = new int[n];
+        for (int i = 0; i < n; i++) {
+            x0[i] = ties ? random.nextInt(50) : random.nextDouble() * 1000;
+            v[i] = ties ? 1 + random.nextInt(10) : 1 + random.nextDouble() * 30;
+            lane[i] = random.nextInt(laneCount);
+        }
+        TrafficLanes traffic = new TrafficLanes(x0, v, lane, laneCount);
+        String name = (ties ? "empates" : "continuo") + " n=" + n + " carriles=" + laneCount;
+
+        Map<Long, Double> reported = new HashMap<>();
+        TrafficLanes.OvertakeListener listener = (time, l, overtaker, overtaken) -> {
+            if (reported.put(pair(overtaker, overtaken), time) != null) {
+                fail(name, "el par " + overtaker + "/" + overtaken + " se adelantó dos veces");
+            }
+        };
+
+        double[] times = {0, 0.37, 1.37, 2.37, 5.37, 10.37, 40.37, 100.37};
+        for (double t : times) {
+            traffic.advanceTo(t, listener);
+            verify(traffic, x0, v, lane, t, reported, random, name + " t=" + t);
+        }
+        reported.clear();
+        double back = 3.37;
+        traffic.advanceTo(back, listener);
+        verify(traffic, x0, v, lane, back, reported, random, name + " t=" + back + " (retroceso)");
+    }
+
+    /**
+     * Compara el estado del conjunto en un instante con el recorrido de todos los pares.
+     * 
+     * @param traffic Conjunto ya avanzado hasta t
+     * @param x0 Posiciones iniciales
+     * @param v Velocidades
+     * @param lane Carriles
+     * @param t Tiempo verificado
+     * @param reported Adelantamientos informados al receptor desde el tiempo cero
+     * @param random Generador de los rangos consultados
+     * @param name Descripción del caso para los mensajes
+     */
+    private static void verify(TrafficLanes traffic, double[] x0, double[] v, int[] lane, double t,
+                               Map<Long, Double> reported, Random random, String name) {
+        int n = x0.length;
+
+        for (int l = 0; l < traffic.laneCount(); l++) {
+            int[] seen = new int[traffic.laneSize(l)];
+            for (int p = 0; p < seen.length; p++) {
+                int i = traffic.vehicleAt(l, p);
+                seen[p] = i;
+                if (lane[i] != l) fail(name, "el vehículo " + i + " aparece en el carril " + l);
+                if (p > 0 && position(x0, v, i, t) < position(x0, v, seen[p - 1], t) - EPSILON) {
+                    fail(name, "carril " + l + " desordenado en el puesto " + p);
+                }
+            }
+            int[] expected = new int[seen.length];
+            int k = 0;
+            for (int i = 0; i < n; i++) {
+                if (lane[i] == l) expected[k++] = i;
+            }
+            Arrays.sort(seen);
+            if (k != seen.length || !Arrays.equals(seen, expected)) {
+                fail(name, "el carril " + l + " no contiene a sus vehículos");
+            }
+        }
+
+        long crossed = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (lane[i] != lane[j] || !startsBehind(x0, v, i, j) || v[i] <= v[j]) continue;
+                double when = (x0[j] - x0[i]) / (v[i] - v[j]);
+                Double time = reported.get(pair(i, j));
+                if (when <= t) {
+                    crossed++;
+                    if (time == null) {
+                        fail(name, "falta el adelantamiento de " + i + " a " + j);
+                    } else if (Math.abs(time - traffic.overtakeTime(i, j)) > EPSILON) {
+                        fail(name, "el adelantamiento de " + i + " a " + j + " se informó en " + time
+                                + " y no en " + traffic.overtakeTime(i, j));
+                    }
+                } else if (time != null) {
+                    fail(name, "adelantamiento de " + i + " a " + j + " antes de tiempo");
+                }
+            }
+        }
+        if (traffic.getOvertakes() != crossed) {
+            fail(name, "getOvertakes() = " + traffic.getOvertakes() + ", esperado " + crossed);
+        }
+        if (reported.size() != crossed) {
+            fail(name, reported.size() + " adelantamientos informados, esperado " + crossed);
+        }
+
+        int[] out = new int[n];
+        for (int q = 0; q < QUERIES; q++) {
+            int l = random.nextInt(traffic.laneCount());
+            double a = random.nextDouble() * 1500;
+            double b = a + random.nextDouble() * 300;
+            int count = traffic.queryRange(l, a, b, out);
+            int[] found = Arrays.copyOf(out, Math.min(count, n));
+            int[] expected = new int[n];
+            int k = 0;
+            for (int i = 0; i < n; i++) {
+                double x = position(x0, v, i, t);
+                if (lane[i] == l && x >= a && x <= b) expected[k++] = i;
+            }
+            Arrays.sort(found);
+            if (count != k || !Arrays.equals(found, Arrays.copyOf(expected, k))) {
+                fail(name, "queryRange(" + l + ", " + a + ", " + b + ") devolvió " + count + " vehículos, esperado " + k);
+            }
+        }
+    }
+
+    /**
+     * Indica si un vehículo empieza detrás de otro en el orden del tiempo cero: por
+     * posición y, a igual posición, el más lento primero.
+     */
+    private static boolean startsBehind(double[] x0, double[] v, int i, int j) {
+        return x0[i] < x0[j] || (x0[i] == x0[j] && v[i] < v[j]);
+    }
+
+    private static double position(double[] x0, double[] v, int i, double t) {
+        return x0[i] + v[i] * t;
+    }
+
+    private static long pair(int overtaker, int overtaken) {
+        return ((long) overtaker << 32) | overtaken;
+    }
+
+    private static void fail(String name, String message) {
+        if (failures++ < 20) {
+            System.out.println(name + ": " + message);
+        }
+    }
+}